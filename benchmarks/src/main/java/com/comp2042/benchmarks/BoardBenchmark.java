@@ -0,0 +1,78 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.model.board.BoardFixtures;
+import com.comp2042.model.board.TetrisBoard;
+import com.comp2042.model.state.ViewData;
+import com.comp2042.model.state.ViewSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the per-input board operations against each {@link BoardFixture}.
+ * <p>
+ * Benchmarks that move the piece undo their move so every invocation starts from the same
+ * state; the undo is part of the measured cost, which is fine for catching regressions.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+
+    @Param
+    public BoardFixture fixture;
+
+    private TetrisBoard board;
+    private int spawnX;
+    private int spawnY;
+
+    @Setup
+    public void setUp() {
+        board = new TetrisBoard(25, 11);
+        BoardFixtures.load(board, fixture.build(25, 11));
+        spawnX = BoardFixtures.pieceX(board);
+        spawnY = BoardFixtures.pieceY(board);
+    }
+
+    /** One step left and one step right, so the piece ends where it started. */
+    @Benchmark
+    public boolean moveLeftRight() {
+        return board.moveBrickLeft() & board.moveBrickRight();
+    }
+
+    @Benchmark
+    public boolean rotateLeftBrick() {
+        boolean rotated = board.rotateLeftBrick();
+        BoardFixtures.placePiece(board, spawnX, spawnY); // undo any wall kick
+        return rotated;
+    }
+
+    @Benchmark
+    public int getShadowYPosition() {
+        return board.getShadowYPosition();
+    }
+
+    @Benchmark
+    public int hardDrop() {
+        int rows = board.hardDrop();
+        BoardFixtures.placePiece(board, spawnX, spawnY);
+        return rows;
+    }
+
+    @Benchmark
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    /** The render path's replacement for {@link #getViewData()}, for comparison. */
+    @Benchmark
+    public ViewSnapshot getViewSnapshot() {
+        board.moveBrickLeft(); // bump the version so a fresh snapshot is published
+        board.moveBrickRight();
+        return board.getViewSnapshot();
+    }
+}
@@ -0,0 +1,63 @@
+package com.comp2042.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Representative board contents for the benchmarks.
+ * <p>
+ * Every fixture is built from a fixed seed, so runs are comparable, and every filled row keeps
+ * at least one hole, so nothing clears by accident while a benchmark is looping. The top rows
+ * are always left free so a piece can still spawn.
+ * </p>
+ */
+public enum BoardFixture {
+
+    /** A fresh board. */
+    EMPTY,
+    /** The bottom half is ragged and about 70% full. */
+    HALF_FULL,
+    /** Ragged stack reaching just under the spawn area. */
+    NEAR_TOP_OUT,
+    /** Ten rows of classic garbage: full rows with a single hole each. */
+    GARBAGE_HEAVY;
+
+    private static final long SEED = 2042L;
+    private static final int SPAWN_ROWS = 5;
+
+    /**
+     * Builds a new matrix for this fixture.
+     *
+     * @param height Board height in rows.
+     * @param width  Board width in columns.
+     * @return The filled matrix.
+     */
+    public int[][] build(int height, int width) {
+        Random random = new Random(SEED + ordinal());
+        int[][] matrix = new int[height][width];
+        switch (this) {
+            case HALF_FULL -> fillRagged(matrix, height / 2, random);
+            case NEAR_TOP_OUT -> fillRagged(matrix, SPAWN_ROWS, random);
+            case GARBAGE_HEAVY -> fillGarbage(matrix, height - 10, random);
+            default -> { }
+        }
+        return matrix;
+    }
+
+    private static void fillRagged(int[][] matrix, int fromRow, Random random) {
+        for (int i = fromRow; i < matrix.length; i++) {
+            for (int j = 0; j < matrix[i].length; j++) {
+                matrix[i][j] = random.nextInt(10) < 7 ? 1 + random.nextInt(7) : 0;
+            }
+            matrix[i][random.nextInt(matrix[i].length)] = 0; // never a full row
+        }
+    }
+
+    private static void fillGarbage(int[][] matrix, int fromRow, Random random) {
+        for (int i = fromRow; i < matrix.length; i++) {
+            for (int j = 0; j < matrix[i].length; j++) {
+                matrix[i][j] = 1 + random.nextInt(7);
+            }
+            matrix[i][random.nextInt(matrix[i].length)] = 0;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of piece generation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BrickGeneratorBenchmark {
+
+    private RandomBrickGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = new RandomBrickGenerator();
+    }
+
+    @Benchmark
+    public Brick getBrick() {
+        return generator.getBrick();
+    }
+}
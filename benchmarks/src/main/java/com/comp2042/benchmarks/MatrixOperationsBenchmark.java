@@ -0,0 +1,71 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.model.bricks.TBrick;
+import com.comp2042.model.state.ClearRow;
+import com.comp2042.util.MatrixOperations;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the static matrix helpers against each {@link BoardFixture}.
+ * <p>
+ * The probe position sits just above the fixture's surface in the middle column, which is
+ * where the game asks most of its collision questions.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixOperationsBenchmark {
+
+    @Param
+    public BoardFixture fixture;
+
+    private int[][] matrix;
+    private int[][] brickMatrix;
+    private BrickShape brickShape;
+    private int x;
+    private int y;
+
+    @Setup
+    public void setUp() {
+        matrix = fixture.build(25, 11);
+        brickShape = new TBrick().getShape(0);
+        brickMatrix = brickShape.toMatrix();
+        x = 4;
+        y = 0;
+        while (y + 1 < matrix.length && !MatrixOperations.intersect(matrix, brickShape, x, y + 1)) {
+            y++;
+        }
+    }
+
+    @Benchmark
+    public boolean intersectMatrix() {
+        return MatrixOperations.intersect(matrix, brickMatrix, x, y);
+    }
+
+    @Benchmark
+    public boolean intersectShape() {
+        return MatrixOperations.intersect(matrix, brickShape, x, y);
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(matrix, brickMatrix, x, y);
+    }
+
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(matrix);
+    }
+
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(matrix);
+    }
+}
@@ -0,0 +1,57 @@
+package com.comp2042.model.board;
+
+/**
+ * Benchmark-only access to board internals.
+ * <p>
+ * Lives in the board package (on the benchmark classpath only) so fixtures can be loaded
+ * straight into {@link AbstractBoard#boardMatrix} without playing pieces into place.
+ * </p>
+ */
+public final class BoardFixtures {
+
+    private BoardFixtures() { }
+
+    /**
+     * Replaces the locked blocks of a board with the given matrix and spawns a fresh piece.
+     *
+     * @param board  The board to load (must not be a {@link BitBoard}, which keeps its own row masks).
+     * @param matrix The board contents, same dimensions as the board.
+     */
+    public static void load(AbstractBoard board, int[][] matrix) {
+        if (board instanceof BitBoard) {
+            throw new IllegalArgumentException("BitBoard keeps its own row masks; load it by merging pieces");
+        }
+        for (int i = 0; i < matrix.length; i++) {
+            System.arraycopy(matrix[i], 0, board.boardMatrix[i], 0, matrix[i].length);
+        }
+        board.recomputeColumnTops();
+        board.changeJournal.markAll();
+        board.createNewBrick();
+    }
+
+    /**
+     * Puts the active piece back at a position, e.g. undoing a hard drop between invocations.
+     *
+     * @param board The board.
+     * @param x     Column of the piece's top-left corner.
+     * @param y     Row of the piece's top-left corner.
+     */
+    public static void placePiece(AbstractBoard board, int x, int y) {
+        board.brickX = x;
+        board.brickY = y;
+    }
+
+    /**
+     * @return The active piece's column.
+     */
+    public static int pieceX(AbstractBoard board) {
+        return board.brickX;
+    }
+
+    /**
+     * @return The active piece's row.
+     */
+    public static int pieceY(AbstractBoard board) {
+        return board.brickY;
+    }
+}
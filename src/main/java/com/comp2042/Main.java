@@ -1,9 +1,11 @@
 package com.comp2042;
 
 import com.comp2042.controller.MainMenuController;
+import com.comp2042.model.replay.ReplayWriter;
 import com.comp2042.util.AudioManager;
 import com.comp2042.util.GameSettings;
 import com.comp2042.util.HighScoreManager;
+import com.comp2042.util.SceneLoader;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -57,6 +59,9 @@ public class Main extends Application {
         primaryStage.setScene(scene);
         primaryStage.setResizable(false);
         primaryStage.show();
+
+        // 3. Warm up the game screen while the menu is idle
+        SceneLoader.preloadGame(audioManager);
     }
 
     /**
@@ -79,6 +84,18 @@ public class Main extends Application {
 
         return root;
     }
+
+    /**
+     * Lets queued high score writes and an unfinished game's replay reach the disk before the JVM exits.
+     */
+    @Override
+    public void stop() {
+        ReplayWriter.closeAll();
+        if (highScoreManager != null) {
+            highScoreManager.close();
+        }
+    }
+
     /**
      * The main method that launches the JavaFX application.
      *
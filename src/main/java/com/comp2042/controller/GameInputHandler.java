@@ -7,9 +7,14 @@ import javafx.scene.input.KeyEvent;
  * Handles raw keyboard input events for the game scene.
  * <p>
  * This class interprets key presses (WASD, Arrows, Space, etc.) and translates
- * them into game actions by calling methods on the {@link GameViewController}.
+ * them into game actions by calling methods on the {@link GameViewController}, which queues
+ * them for the next frame.
  * It also acts as a filter to prevent input when the game is paused or over.
  * </p>
+ * <p>
+ * Key releases are forwarded too: held-key movement is repeated by the game loop
+ * (see {@link com.comp2042.model.engine.AutoShift}), which needs to know when a key comes up.
+ * </p>
  */
 public class GameInputHandler {
 
@@ -78,4 +83,33 @@ public class GameInputHandler {
         }
         event.consume();
     }
+
+    /**
+     * Processes a key release, ending the auto-repeat of a held movement key.
+     * <p>
+     * Releases are passed on even while paused, so a key let go during the pause menu
+     * is not left "held".
+     * </p>
+     *
+     * @param event The KeyEvent captured from the scene.
+     */
+    public void handleRelease(KeyEvent event) {
+        switch (event.getCode()) {
+            case LEFT:
+            case A:
+                controller.releaseLeft();
+                break;
+            case RIGHT:
+            case D:
+                controller.releaseRight();
+                break;
+            case DOWN:
+            case S:
+                controller.releaseDown();
+                break;
+            default:
+                return;
+        }
+        event.consume();
+    }
 }
\ No newline at end of file
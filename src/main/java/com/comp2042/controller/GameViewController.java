@@ -1,19 +1,21 @@
 package com.comp2042.controller;
 
 import com.comp2042.model.GameStatus;
-import com.comp2042.model.LevelManager;
+import com.comp2042.model.board.ChangeJournal;
+import com.comp2042.model.engine.AutoShift;
 import com.comp2042.model.event.EventSource;
 import com.comp2042.model.event.EventType;
 import com.comp2042.model.event.InputEventListener;
 import com.comp2042.model.event.MoveEvent;
 import com.comp2042.model.state.ClearRow;
 import com.comp2042.model.state.DownData;
-import com.comp2042.model.state.ViewData;
+import com.comp2042.model.state.ViewSnapshot;
 import com.comp2042.view.GameUIManager;
 import com.comp2042.util.*;
 import com.comp2042.view.renderers.GameRenderer;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -22,11 +24,11 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
-import javafx.scene.text.Font;
 import javafx.stage.Stage;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
+import java.util.Locale;
 import java.util.ResourceBundle;
 
 /**
@@ -47,6 +49,7 @@ public class GameViewController implements Initializable {
     @FXML private Label levelLabel;
     @FXML private VBox levelBox;
     @FXML private StackPane gameOverPanel;
+    @FXML private Label rankLabel;
     @FXML private StackPane rootContainer;
     @FXML private GridPane holdPiecePanel;
 
@@ -63,8 +66,47 @@ public class GameViewController implements Initializable {
     private HighScoreManager highScoreManager;
     private GameUIManager uiManager;
 
+    // Latest snapshot waiting for the next render pass, and when the input that produced it arrived
+    private ViewSnapshot pendingSnapshot;
+    private long inputPendingSince;
+
+    // Key presses wait here until the loop drains them at the start of the next frame
+    private static final int INPUT_QUEUE_SIZE = 64;
+    private final InputQueue<InputAction> inputQueue = new InputQueue<>(INPUT_QUEUE_SIZE);
+    private final InputAction[] inputBatch = new InputAction[INPUT_QUEUE_SIZE];
+    private final long[] inputTimes = new long[INPUT_QUEUE_SIZE];
+    // When the key press or loop step being handled happened; sounds measure their latency from it
+    private long eventTime;
+
+    // Held-key repeat (DAS/ARR/soft drop factor), advanced on every fixed step of the loop
+    private final AutoShift autoShift = new AutoShift();
+    private final AutoShift.Actions autoShiftActions = new AutoShift.Actions() {
+        @Override
+        public boolean shift(int direction) {
+            boolean moved = eventListener.onShiftEvent(
+                    new MoveEvent(direction < 0 ? EventType.LEFT : EventType.RIGHT, EventSource.USER));
+            refreshBrick(eventListener.getViewSnapshot());
+            return moved;
+        }
+
+        @Override
+        public void shiftToWall(int direction) {
+            refreshBrick(eventListener.onShiftToWallEvent(
+                    new MoveEvent(direction < 0 ? EventType.LEFT : EventType.RIGHT, EventSource.USER)));
+        }
+
+        @Override
+        public void softDrop() {
+            processMoveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
+        }
+    };
+
     private final ObjectProperty<GameStatus> gameStatus = new SimpleObjectProperty<>(GameStatus.PLAYING);
 
+    // Mirrors of the engine's plain int score and level, for the labels to bind to
+    private final IntegerProperty score = new SimpleIntegerProperty();
+    private final IntegerProperty level = new SimpleIntegerProperty(1);
+
     /**
      * Initializes the controller class. This method is automatically called
      * after the fxml file has been loaded.
@@ -74,14 +116,17 @@ public class GameViewController implements Initializable {
      */
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        Font.loadFont(Objects.requireNonNull(getClass().getClassLoader().getResource("digital.ttf")).toExternalForm(), 38);
+        SceneLoader.loadFonts(); // normally already done by the preloader
         // Initialize the new Input Handler
         this.inputHandler = new GameInputHandler(this);
         gamePanel.setFocusTraversable(true);
         gamePanel.requestFocus();
         // Delegate key events to the handler
         gamePanel.setOnKeyPressed(event -> inputHandler.handle(event));
+        gamePanel.setOnKeyReleased(event -> inputHandler.handleRelease(event));
         gameOverPanel.setVisible(false);
+        if (scoreLabel != null) scoreLabel.textProperty().bind(score.asString());
+        if (levelLabel != null) levelLabel.textProperty().bind(level.asString());
         // Hide Level display by default (It stays hidden for Challenge Mode)
         if (levelBox != null) {
             levelBox.setVisible(false);
@@ -107,9 +152,10 @@ public class GameViewController implements Initializable {
      * @param boardMatrix The initial configuration of the board.
      * @param brick       The initial active brick data.
      */
-    public void initGameView(int[][] boardMatrix, ViewData brick) {
+    public void initGameView(int[][] boardMatrix, ViewSnapshot brick) {
         // Initialize the simplified Renderer
-        gameRenderer = new GameRenderer(gamePanel, brickPanel, nextPiecePanel, holdPiecePanel, boardMatrix[0].length);
+        gameRenderer = new GameRenderer(gamePanel, brickPanel, nextPiecePanel, holdPiecePanel,
+                boardMatrix.length, boardMatrix[0].length, gameSettings.getRenderBackend());
 
         // Setup initial state
         gameRenderer.refreshBackground(boardMatrix);
@@ -118,16 +164,93 @@ public class GameViewController implements Initializable {
         audioManager.playMusic("/music/game_music.mp3");
         // Start Game Loop
         gameLoop = new GameLoop(400, (unused) -> processMoveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD)));
+        gameSettings.applyTo(autoShift);
+        highScoreManager.setPlayerName(gameSettings.getPlayerName());
+        gameLoop.setInputAction(this::applyQueuedInput);
+        gameLoop.setStepAction(this::stepGame);
+        gameLoop.setRenderAction(this::renderFrame);
         gameLoop.start();
         // Ensure state is playing
         gameStatus.set(GameStatus.PLAYING);
     }
 
 
-    private void refreshBrick(ViewData brick) {
+    // Queues the snapshot for the loop's render pass instead of drawing straight away
+    private void refreshBrick(ViewSnapshot brick) {
         if (gameStatus.get() == GameStatus.PLAYING) {
-            // refactored
-            gameRenderer.render(brick, gameSettings.isGhostPieceEnabled());
+            pendingSnapshot = brick;
+        }
+    }
+
+    /*
+     * Input pass, run by the game loop at the start of every frame: the whole batch is applied to
+     * the model in the order it was pressed, before the frame's single render. Every press runs,
+     * since a blocked move or a wall kick changes what the next one does. Latency is measured
+     * from the oldest key press in the batch.
+     */
+    private void applyQueuedInput() {
+        int drained = inputQueue.drainTo(inputBatch, inputTimes);
+        if (drained == 0) {
+            return;
+        }
+        if (inputPendingSince == 0) {
+            inputPendingSince = inputTimes[0];
+        }
+        for (int i = 0; i < drained && gameStatus.get() == GameStatus.PLAYING; i++) {
+            eventTime = inputTimes[i];
+            apply(inputBatch[i]);
+        }
+        Arrays.fill(inputBatch, 0, drained, null);
+    }
+
+    private void apply(InputAction action) {
+        switch (action) {
+            case LEFT -> refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
+            case RIGHT -> refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
+            case ROTATE -> refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
+            case SOFT_DROP -> processMoveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
+            case HOLD -> refreshBrick(eventListener.onHoldEvent());
+            case HARD_DROP -> {
+                DownData downData = eventListener.onHardDropEvent();
+                showClearRowNotification(downData.clearRow());
+                refreshBrick(downData.viewSnapshot());
+            }
+        }
+    }
+
+    /*
+     * Step action: held keys repeat on the loop's clock, not the OS key-repeat rate, and the lock
+     * delay of a resting piece runs down on the same clock.
+     */
+    private void stepGame() {
+        eventTime = gameLoop.getStepTime(); // gravity runs in the same step, right after this
+        if (gameStatus.get() == GameStatus.PLAYING) {
+            autoShift.update(GameLoop.STEP_NANOS, gameLoop.getSpeed(), autoShiftActions);
+        }
+        if (gameStatus.get() == GameStatus.PLAYING) {
+            DownData locked = eventListener.onLockDelayStep(GameLoop.STEP_NANOS);
+            if (locked != null) {
+                showClearRowNotification(locked.clearRow());
+                refreshBrick(locked.viewSnapshot());
+            }
+        }
+    }
+
+    private void queueInput(InputAction action) {
+        if (gameStatus.get() == GameStatus.PLAYING) {
+            inputQueue.offer(action, System.nanoTime()); // a full queue just drops the press
+        }
+    }
+
+    /* Render pass, run by the game loop once per frame after the fixed update steps. */
+    private void renderFrame() {
+        if (pendingSnapshot == null || gameStatus.get() != GameStatus.PLAYING) {
+            return;
+        }
+        gameRenderer.render(pendingSnapshot, gameSettings.isGhostPieceEnabled());
+        if (inputPendingSince != 0) {
+            gameLoop.getStats().recordInputLatency(System.nanoTime() - inputPendingSince);
+            inputPendingSince = 0;
         }
     }
 
@@ -140,55 +263,80 @@ public class GameViewController implements Initializable {
         gameRenderer.refreshBackground(board);
     }
 
+    /**
+     * Refreshes only the background rows recorded in the board's change journal.
+     *
+     * @param board   The 2D array representing the board state.
+     * @param journal The rows changed since the last refresh.
+     */
+    public void refreshGameBackground(int[][] board, ChangeJournal journal) {
+        gameRenderer.refreshBackground(board, journal);
+    }
+
     // --- Public Actions ---
 
+    // The actions below only queue the input; it is applied at the start of the next frame.
+    // Left, right and down also start their key's auto-repeat; OS repeats of a held key are ignored.
+
     /**
      * Handles the request to move the active brick to the left.
      */
-    public void moveLeft() { refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER))); }
+    public void moveLeft() { if (autoShift.press(-1)) queueInput(InputAction.LEFT); }
 
     /**
      * Handles the request to move the active brick to the right.
      */
-    public void moveRight() { refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER))); }
+    public void moveRight() { if (autoShift.press(1)) queueInput(InputAction.RIGHT); }
 
     /**
      * Handles the request to rotate the active brick.
      */
-    public void rotate() { refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER))); }
+    public void rotate() { queueInput(InputAction.ROTATE); }
 
     /**
      * Handles the request to move the active brick down one step.
      */
-    public void moveDown() { processMoveDown(new MoveEvent(EventType.DOWN, EventSource.USER)); }
+    public void moveDown() { if (autoShift.pressSoftDrop()) queueInput(InputAction.SOFT_DROP); }
+
+    /**
+     * Handles the left key being released.
+     */
+    public void releaseLeft() { autoShift.release(-1); }
+
+    /**
+     * Handles the right key being released.
+     */
+    public void releaseRight() { autoShift.release(1); }
+
+    /**
+     * Handles the soft drop key being released.
+     */
+    public void releaseDown() { autoShift.releaseSoftDrop(); }
 
     /**
      * Handles the request to hold (swap) the current brick.
      */
-    public void holdBrick() {refreshBrick(eventListener.onHoldEvent());}
+    public void holdBrick() { queueInput(InputAction.HOLD); }
 
     /**
      * Performs a hard drop, instantly moving the brick to the bottom.
      */
     public void hardDrop() {
-        if (gameStatus.get() == GameStatus.PLAYING) {
-            DownData downData = eventListener.onHardDropEvent();
-            showClearRowNotification(downData.clearRow());
-            refreshBrick(downData.viewData());
-        }
+        queueInput(InputAction.HARD_DROP);
         gamePanel.requestFocus();
     }
 
-    /** Helper to stop the loop when leaving the scene */
-    public void stopGameLoop() {
+    /** Helper to stop the loop and end the session when leaving the scene */
+    public void quitGame() {
         if (gameLoop != null) gameLoop.stop();
+        if (eventListener != null) eventListener.onQuit(); // closes the game's recording
     }
 
     /**
-     * Handles the Escape key action, stopping the game loop and returning to the main menu.
+     * Handles the Escape key action, ending the game and returning to the main menu.
      */
     public void handleEscape() {
-        if (gameLoop != null) gameLoop.stop(); // Stop loop
+        quitGame();
         try {
             // Pass all dependencies back to Main Menu
             SceneLoader.openMainMenu(gameStage, audioManager, gameSettings, highScoreManager);
@@ -201,7 +349,7 @@ public class GameViewController implements Initializable {
         if (gameStatus.get() == GameStatus.PLAYING) {
             DownData downData = eventListener.onDownEvent(event);
             showClearRowNotification(downData.clearRow());
-            refreshBrick(downData.viewData());
+            refreshBrick(downData.viewSnapshot());
         }
     }
 
@@ -209,7 +357,7 @@ public class GameViewController implements Initializable {
     private void showClearRowNotification(ClearRow clearRow) {
         if (clearRow != null && clearRow.getLinesRemoved() > 0) {
             List<Integer> clearedRows = clearRow.clearedRowIndices();
-            audioManager.playSFX("/sfx/line-cleared.mp3");
+            audioManager.playSFX(SoundEffect.LINE_CLEARED, eventTime);
             gameRenderer.getLineClearAnimation().animateClearedRows(clearedRows, () -> {
                 refreshGameBackground(eventListener.getBoard());
                 uiManager.showNotification("+" + clearRow.scoreBonus());
@@ -226,25 +374,41 @@ public class GameViewController implements Initializable {
 
     // -- setters & getters --
     public void setEventListener(InputEventListener eventListener) { this.eventListener = eventListener; }
-    public void bindScore(IntegerProperty integerProperty) { if (scoreLabel != null) scoreLabel.textProperty().bind(integerProperty.asString()); }
 
     /**
-     * Binds the LevelManager to the GUI components to enable level updates and speed changes.
+     * Shows a new score on the score label.
+     *
+     * @param newScore The engine's current score.
+     */
+    public void setScore(int newScore) { score.set(newScore); }
+
+    /**
+     * Shows the level display, for modes that have levels.
      *
-     * @param levelManager The LevelManager instance handling game progression.
+     * @param currentLevel The level the game starts at.
+     * @param delayMillis  The gravity interval for that level.
      */
-    public void bindLevel(LevelManager levelManager) {
+    public void showLevel(int currentLevel, double delayMillis) {
         if (levelBox != null) {
             levelBox.setVisible(true);
             levelBox.setManaged(true);
         }
-        if (levelLabel != null) {
-            levelLabel.textProperty().bind(levelManager.levelProperty().asString());
+        level.set(currentLevel);
+        updateGameSpeed(delayMillis);
+    }
+
+    /**
+     * Updates the level label and game speed after a level change, and announces the new level.
+     *
+     * @param newLevel    The new level.
+     * @param delayMillis The gravity interval for it.
+     */
+    public void setLevel(int newLevel, double delayMillis) {
+        if (level.get() != newLevel) {
+            level.set(newLevel);
+            uiManager.showNotification("LEVEL " + newLevel);
         }
-        levelManager.levelProperty().addListener((obs, oldVal, newVal) -> {
-            updateGameSpeed(levelManager.getCurrentDelay());
-            uiManager.showNotification("LEVEL " + newVal);
-        });
+        updateGameSpeed(delayMillis);
     }
     private void updateGameSpeed(double delayMillis) {
         if (gameLoop != null) {
@@ -260,11 +424,44 @@ public class GameViewController implements Initializable {
     public void gameOver() {
         if (gameLoop != null) gameLoop.stop();
         audioManager.stopMusic();
-        audioManager.playSFX("/sfx/negative_beeps.mp3");
-        audioManager.playSFX("/sfx/game_over.mp3");
+        audioManager.playSFX(SoundEffect.NEGATIVE_BEEPS, eventTime);
+        audioManager.playSFX(SoundEffect.GAME_OVER, eventTime);
         // Delegate UI update
         uiManager.showGameOver();
         gameStatus.set(GameStatus.GAME_OVER);
+        logFrameStats();
+    }
+
+    /*
+     * One line of timing figures per game, for spotting stutter or lag without a profiler: the
+     * loop's frame and input latency counters, the renderer's cost, and the sound latency.
+     */
+    private void logFrameStats() {
+        if (gameLoop == null) return;
+        FrameStats stats = gameLoop.getStats();
+        StringBuilder line = new StringBuilder(String.format(Locale.ROOT,
+                "Frame stats: %d frames, %d missed; input latency max %.1f ms; last frame update %.2f ms,"
+                        + " render %.2f ms (pieces %.2f ms, %s, %d nodes, %d background cells)",
+                stats.getFrameCount(), stats.getMissedFrames(), stats.getMaxInputLatency() / 1e6,
+                stats.getLastUpdateTime() / 1e6, stats.getLastRenderTime() / 1e6,
+                gameRenderer.getLastFrameNanos() / 1e6, gameRenderer.getBackend(),
+                gameRenderer.getPlayfieldNodeCount(), gameRenderer.getLastBackgroundUpdateCount()));
+        SoundBank sounds = audioManager.getSoundBank();
+        if (sounds != null) {
+            line.append(String.format(Locale.ROOT, "; sound latency mean %.1f ms, max %.1f ms",
+                    sounds.getMeanLatency() / 1e6, sounds.getMaxLatency() / 1e6));
+        }
+        System.out.println(line);
+    }
+
+    /**
+     * Shows where the finished game landed on its mode's leaderboard, under "GAME OVER".
+     *
+     * @param rank  The game's rank, or 0 if the leaderboard hasn't loaded yet (nothing is shown).
+     * @param games The number of games on the leaderboard.
+     */
+    public void showRank(int rank, int games) {
+        if (rankLabel != null) rankLabel.setText(rank > 0 ? "#" + rank + " of " + games : "");
     }
 
     /**
@@ -274,6 +471,11 @@ public class GameViewController implements Initializable {
         if (gameLoop != null) gameLoop.stop();
         // Delegate UI update
         uiManager.hideGameOver();
+        showRank(0, 0);
+        inputQueue.clear(); // presses from the old game don't carry over
+        autoShift.reset();
+        inputPendingSince = 0;
+        if (gameLoop != null) gameLoop.getStats().reset(); // figures are per game
         eventListener.createNewGame();
         gamePanel.requestFocus();
         audioManager.playMusic("/music/game_music.mp3");
@@ -287,6 +489,8 @@ public class GameViewController implements Initializable {
     public void pauseGame() {
         if (gameStatus.get() == GameStatus.PLAYING) {
             if (gameLoop != null) gameLoop.pause();
+            inputQueue.clear();
+            autoShift.reset(); // releases during the pause menu never reach us
             gameStatus.set(GameStatus.PAUSED);
             // Delegate loading and showing pause menu
             uiManager.showPauseMenu();
@@ -305,6 +509,8 @@ public class GameViewController implements Initializable {
      * Resumes the game loop and restores focus to the game panel.
      */
     public void resumeGameFromPause() {
+        gameSettings.applyTo(autoShift); // handling and name may have been changed from the pause menu
+        highScoreManager.setPlayerName(gameSettings.getPlayerName());
         if (gameLoop != null) gameLoop.start(); // Resume loop
         gameStatus.set(GameStatus.PLAYING);
         gamePanel.requestFocus();
@@ -1,9 +1,14 @@
 package com.comp2042.controller;
 
+import com.comp2042.model.engine.GameMode;
+import com.comp2042.model.leaderboard.Leaderboard;
+import com.comp2042.model.leaderboard.LeaderboardEntry;
 import com.comp2042.util.AudioManager;
 import com.comp2042.util.HighScoreManager;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
+import javafx.scene.control.Button;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
@@ -14,14 +19,25 @@ import java.util.ResourceBundle;
 /**
  * Controls the logic for the High Scores display screen.
  * <p>
- * This controller is responsible for fetching the top scores from the injected
- * {@link HighScoreManager} and dynamically populating the UI list. It also handles
+ * This controller is responsible for fetching the scores from the injected
+ * {@link HighScoreManager}'s leaderboard and dynamically populating the UI list. It also handles
  * navigation back to the previous screen.
  * </p>
+ * <p>
+ * The table is shown one mode and one page at a time, either every game or each player's best
+ * game; only the rows on screen are read from the leaderboard, so paging stays instant with
+ * thousands of entries. A table whose file is still being read shows a loading message and
+ * fills in once it arrives.
+ * </p>
  */
 public class HighScoreController implements Initializable {
 
+    private static final int PAGE_SIZE = 10;
+
     @FXML private VBox scoreContainer;
+    @FXML private Button modeButton;
+    @FXML private Button tableButton;
+    @FXML private Text pageText;
     private Stage stage;
     private Runnable onCloseCallback;
 
@@ -29,6 +45,10 @@ public class HighScoreController implements Initializable {
     private HighScoreManager highScoreManager;
     private AudioManager audioManager;
 
+    private GameMode mode = GameMode.NORMAL;
+    private boolean bestPerPlayer; // false = every game, true = each player's best game
+    private int page;
+
     /**
      * Standard FXML initialization hook.
      * <p>
@@ -55,30 +75,91 @@ public class HighScoreController implements Initializable {
     }
 
     /**
-     * Fetches the top scores and populates the UI container.
+     * Fetches the current page of scores and populates the UI container.
      * <p>
      * If no scores exist, a placeholder message is displayed. Otherwise, the scores
-     * are listed with their rank.
+     * are listed with their rank and player.
      * </p>
      */
     private void loadHighScores() {
-        List<Integer> scores = highScoreManager.getScores();
+        Leaderboard board = highScoreManager.getLeaderboard().get(mode);
+        if (board == null) {
+            showLoading();
+            return;
+        }
+        int rows = bestPerPlayer ? board.playerCount() : board.size();
+        int pages = Math.max(1, (rows + PAGE_SIZE - 1) / PAGE_SIZE);
+        page = Math.min(page, pages - 1);
+        List<LeaderboardEntry> entries = bestPerPlayer
+                ? board.playerPage(page * PAGE_SIZE, PAGE_SIZE)
+                : board.page(page * PAGE_SIZE, PAGE_SIZE);
         scoreContainer.getChildren().clear();
 
-        if (scores.isEmpty()) {
+        if (entries.isEmpty()) {
             Text emptyText = new Text("No High Scores Yet!");
             emptyText.getStyleClass().add("controls-text"); // Reusing existing CSS class
             scoreContainer.getChildren().add(emptyText);
         } else {
-            for (int i = 0; i < scores.size(); i++) {
-                String rank = (i + 1) + ".";
-                String scoreText = String.valueOf(scores.get(i));
+            for (int i = 0; i < entries.size(); i++) {
+                LeaderboardEntry entry = entries.get(i);
+                String rank = (page * PAGE_SIZE + i + 1) + ".";
 
-                Text text = new Text(rank + "      " + scoreText);
+                Text text = new Text(rank + "   " + entry.player() + "   " + entry.score());
                 text.getStyleClass().add("controls-text");
                 scoreContainer.getChildren().add(text);
             }
         }
+        modeButton.setText(mode.name());
+        tableButton.setText(bestPerPlayer ? "PLAYERS" : "ALL GAMES");
+        pageText.setText("Page " + (page + 1) + " of " + pages);
+    }
+
+    private void showLoading() {
+        GameMode loadingMode = mode;
+        scoreContainer.getChildren().clear();
+        Text loadingText = new Text("Loading...");
+        loadingText.getStyleClass().add("controls-text");
+        scoreContainer.getChildren().add(loadingText);
+        modeButton.setText(mode.name());
+        tableButton.setText(bestPerPlayer ? "PLAYERS" : "ALL GAMES");
+        pageText.setText("");
+        highScoreManager.getLeaderboard().load(mode).whenComplete((unused, error) -> Platform.runLater(() -> {
+            if (mode == loadingMode) { // still on the same table
+                loadHighScores();
+            }
+        }));
+    }
+
+    @FXML
+    private void onModeClicked() {
+        audioManager.playButtonPress();
+        mode = GameMode.values()[(mode.ordinal() + 1) % GameMode.values().length];
+        page = 0;
+        loadHighScores();
+    }
+
+    @FXML
+    private void onTableClicked() {
+        audioManager.playButtonPress();
+        bestPerPlayer = !bestPerPlayer;
+        page = 0;
+        loadHighScores();
+    }
+
+    @FXML
+    private void onPreviousClicked() {
+        audioManager.playButtonPress();
+        if (page > 0) {
+            page--;
+            loadHighScores();
+        }
+    }
+
+    @FXML
+    private void onNextClicked() {
+        audioManager.playButtonPress();
+        page++; // clamped to the last page on load
+        loadHighScores();
     }
 
     /**
@@ -0,0 +1,8 @@
+package com.comp2042.controller;
+
+/**
+ * A gameplay input waiting in the {@link GameViewController}'s input queue.
+ */
+public enum InputAction {
+    LEFT, RIGHT, ROTATE, SOFT_DROP, HARD_DROP, HOLD
+}
@@ -6,8 +6,8 @@ import com.comp2042.controller.gamemode.ChallengeModeController;
 import com.comp2042.util.AudioManager;
 import com.comp2042.util.GameSettings;
 import com.comp2042.util.HighScoreManager;
+import com.comp2042.util.SceneLoader;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -131,11 +131,10 @@ public class LevelSelectionController implements Initializable {
      * @throws Exception If the FXML resource cannot be loaded.
      */
     private void startGame(boolean isChallenge) throws Exception {
-        URL location = getClass().getClassLoader().getResource("gameLayout.fxml");
-        FXMLLoader fxmlLoader = new FXMLLoader(location);
-        Parent root = fxmlLoader.load();
-
-        GameViewController gameViewController = fxmlLoader.getController();
+        // Usually parsed in the background while this menu was up
+        SceneLoader.Loaded<GameViewController> layout = SceneLoader.takeGameLayout();
+        Parent root = layout.root();
+        GameViewController gameViewController = layout.controller();
 
         // fix Pass 'stage' here so it exists before GameUIManager is created
         gameViewController.initModel(stage, audioManager, gameSettings, highScoreManager);
@@ -146,10 +145,9 @@ public class LevelSelectionController implements Initializable {
         stage.setScene(new Scene(root, WINDOW_WIDTH, WINDOW_HEIGHT));
         stage.show();
 
-        if (isChallenge) {
-            new ChallengeModeController(gameViewController, highScoreManager);
-        } else {
-            new NormalModeController(gameViewController, highScoreManager);
-        }
+        AbstractGameController game = isChallenge
+                ? new ChallengeModeController(gameViewController, highScoreManager)
+                : new NormalModeController(gameViewController, highScoreManager);
+        game.start();
     }
 }
\ No newline at end of file
@@ -115,9 +115,9 @@ public class PauseMenuController {
     private void onMainMenuClicked() {
         audioManager.playButtonPress();
 
-        // Stop the game loop before leaving!
+        // Stop the game loop and close the recording before leaving!
         if (gameViewController != null) {
-            gameViewController.stopGameLoop();
+            gameViewController.quitGame();
         }
         try {
             SceneLoader.openMainMenu(stage, audioManager, gameSettings, highScoreManager);
@@ -2,11 +2,13 @@ package com.comp2042.controller;
 
 import com.comp2042.util.AudioManager;
 import com.comp2042.util.GameSettings;
+import com.comp2042.view.renderers.RenderBackend;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.Slider;
+import javafx.scene.control.TextField;
 import javafx.stage.Stage;
 import java.net.URL;
 import java.util.ResourceBundle;
@@ -15,7 +17,8 @@ import java.util.ResourceBundle;
  * Controls the interactions for the Settings screen.
  * <p>
  * This controller manages the configuration of Audio (Music/SFX volume and toggles) and
- * Gameplay options (Ghost Piece toggle). It supports "Real-time Preview," meaning that
+ * Gameplay options (Ghost Piece and Canvas renderer toggles, and the player name recorded on the
+ * leaderboards). It supports "Real-time Preview," meaning that
  * dragging sliders applies the volume change immediately for feedback.
  * </p>
  * <p>
@@ -34,11 +37,14 @@ public class SettingsController implements Initializable {
     @FXML private Label sfxVolumeLabel;
 
     @FXML private CheckBox ghostPieceCheckbox;
+    @FXML private CheckBox canvasRendererCheckbox;
+    @FXML private TextField playerNameField;
 
     private Stage stage;
     private Runnable onCloseCallback;
     private GameSettings settings;
     private AudioManager audioManager;
+    private boolean listenersInstalled;
 
     /**
      * Standard FXML initialization hook.
@@ -77,8 +83,13 @@ public class SettingsController implements Initializable {
 
         // Initialize game controls from saved settings
         ghostPieceCheckbox.setSelected(settings.isGhostPieceEnabled());
+        canvasRendererCheckbox.setSelected(settings.getRenderBackend() == RenderBackend.CANVAS);
+        playerNameField.setText(settings.getPlayerName());
 
-        setupListeners();
+        if (!listenersInstalled) { // the screen is cached, so initModel runs on every visit
+            setupListeners();
+            listenersInstalled = true;
+        }
     }
 
     /**
@@ -152,6 +163,8 @@ public class SettingsController implements Initializable {
         settings.setSfxEnabled(sfxEnabledCheckbox.isSelected());
         settings.setSfxVolume(sfxVolumeSlider.getValue());
         settings.setGhostPieceEnabled(ghostPieceCheckbox.isSelected());
+        settings.setRenderBackend(canvasRendererCheckbox.isSelected() ? RenderBackend.CANVAS : RenderBackend.NODES);
+        settings.setPlayerName(playerNameField.getText());
 
         audioManager.playButtonPress();
         closeSettings();
@@ -2,26 +2,54 @@ package com.comp2042.controller.gamemode;
 
 import com.comp2042.controller.GameViewController;
 import com.comp2042.model.board.Board;
+import com.comp2042.model.bricks.SeededBrickGenerator;
+import com.comp2042.model.engine.GameEngine;
+import com.comp2042.model.engine.GameEngineListener;
+import com.comp2042.model.engine.GameMode;
+import com.comp2042.model.event.EventSource;
+import com.comp2042.model.event.EventType;
 import com.comp2042.model.event.InputEventListener;
 import com.comp2042.model.event.MoveEvent;
+import com.comp2042.model.replay.ReplayAction;
+import com.comp2042.model.replay.ReplayWriter;
 import com.comp2042.model.state.ClearRow;
 import com.comp2042.model.state.DownData;
-import com.comp2042.model.state.ViewData;
+import com.comp2042.model.state.ViewSnapshot;
 import com.comp2042.util.HighScoreManager;
 
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
- * Abstract base class for all Game Controllers, implementing the Template Method Design Pattern.
+ * Abstract base class for all Game Controllers.
  * <p>
  * This class serves as the controller in the MVC architecture, mediating user input from the
- * {@link GameViewController} and game logic in the {@link Board}. It handles common actions like
- * movement and view refreshing, while delegating specific scoring and game-over rules to subclasses.
+ * {@link GameViewController} and a {@link GameEngine}. The game rules (movement, landing, scoring,
+ * game over) live in the engine so they can also run headless; this class is a thin adapter that
+ * forwards input to the engine and pushes the results back to the view.
  * </p>
  * <p>
  * It utilizes Dependency Injection to manage the {@link HighScoreManager}, avoiding global state access.
  * </p>
+ * <p>
+ * Every game is played from its own random seed and recorded to {@value #REPLAY_DIRECTORY} as a
+ * binary replay (see {@link ReplayWriter}): each input is recorded right before the engine
+ * processes it, a keyframe every {@value #KEYFRAME_INTERVAL} pieces, and the final score at game over.
+ * </p>
  */
-public abstract class AbstractGameController implements InputEventListener {
+public abstract class AbstractGameController implements InputEventListener, GameEngineListener {
 
+    public static final String REPLAY_DIRECTORY = "replays";
+    /** Pieces between replay keyframes (seek points). */
+    public static final int KEYFRAME_INTERVAL = 10;
+    private static final DateTimeFormatter REPLAY_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    protected final GameMode mode;
+    protected final GameEngine engine;
+    private final SeededBrickGenerator generator;
+    private ReplayWriter recorder;
     protected final Board board;
     protected final GameViewController viewGameViewController;
     protected final HighScoreManager highScoreManager;
@@ -29,28 +57,41 @@ public abstract class AbstractGameController implements InputEventListener {
     /**
      * Initializes the game controller with necessary dependencies.
      * <p>
-     * Sets up the initial game state, registers this controller as the input listener for the GUI,
-     * and binds the score property to the UI labels.
+     * Nothing is wired up yet; the game begins with {@link #start()}, once the controller is
+     * fully constructed.
      * </p>
      *
      * @param c                 The GUI Controller responsible for rendering.
-     * @param board             The specific Board model (e.g., TetrisBoard or InvisibleBlocksBoard).
+     * @param mode              The game mode to play.
      * @param highScoreManager  The injected service for saving high scores.
      */
-    public AbstractGameController(GameViewController c, Board board, HighScoreManager highScoreManager) {
+    public AbstractGameController(GameViewController c, GameMode mode, HighScoreManager highScoreManager) {
         this.viewGameViewController = c;
-        this.board = board;
+        this.mode = mode;
+        this.generator = new SeededBrickGenerator(ThreadLocalRandom.current().nextLong());
+        this.engine = mode.createEngine(generator, System::currentTimeMillis);
+        this.board = engine.getBoard();
         this.highScoreManager = highScoreManager;
+    }
 
-        // Initialize common game setup
-        board.createNewBrick();
+    /**
+     * Starts the game: begins recording, registers this controller as the engine's listener
+     * and the GUI's input listener, and shows the starting board and score; later scores arrive
+     * through {@link #onScoreChanged(int)}.
+     * <p>
+     * Kept out of the constructor so that neither listener can call back into a controller
+     * whose subclass hasn't finished constructing. Call once, right after construction.
+     * </p>
+     */
+    public void start() {
+        startRecording();
+        engine.setListener(this);
+        engine.setKeyframeInterval(KEYFRAME_INTERVAL);
         viewGameViewController.setEventListener(this);
-        viewGameViewController.initGameView(board.getBoardMatrix(), board.getViewData());
-        viewGameViewController.bindScore(board.getScore().scoreProperty());
+        viewGameViewController.initGameView(board.getBoardMatrix(), board.getViewSnapshot());
+        viewGameViewController.setScore(engine.getScore().getValue());
     }
 
-    // Functionality (Identical in both modes -NormalModeController and ChallengeModeController)
-
     /**
      * Retrieves the current configuration of the game board.
      *
@@ -61,131 +102,178 @@ public abstract class AbstractGameController implements InputEventListener {
         return board.getBoardMatrix();
     }
 
-    /**
-     * Handles the request to move the active brick to the left.
-     *
-     * @param event The move event details.
-     * @return A {@link ViewData} object representing the updated state of the board.
-     */
     @Override
-    public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
+    public ViewSnapshot getViewSnapshot() {
+        return board.getViewSnapshot();
+    }
+
+    @Override
+    public ViewSnapshot onLeftEvent(MoveEvent event) {
+        onShiftEvent(event);
+        return board.getViewSnapshot();
+    }
+
+    @Override
+    public ViewSnapshot onRightEvent(MoveEvent event) {
+        onShiftEvent(event);
+        return board.getViewSnapshot();
+    }
+
+    @Override
+    public boolean onShiftEvent(MoveEvent event) {
+        boolean left = event.eventType() == EventType.LEFT;
+        recorder.record(left ? ReplayAction.LEFT : ReplayAction.RIGHT);
+        boolean moved = left ? engine.moveLeft() : engine.moveRight();
         refreshView();
-        return board.getViewData();
+        return moved;
     }
 
     /**
-     * Handles the request to move the active brick to the right.
-     *
-     * @param event The move event details.
-     * @return A {@link ViewData} object representing the updated state of the board.
+     * Slides the piece to the wall. Only recorded when the piece actually moved, since auto-repeat
+     * keeps asking every step while the key is held.
      */
     @Override
-    public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
+    public ViewSnapshot onShiftToWallEvent(MoveEvent event) {
+        boolean left = event.eventType() == EventType.LEFT;
+        if (engine.shiftToWall(left ? -1 : 1)) {
+            recorder.record(left ? ReplayAction.WALL_LEFT : ReplayAction.WALL_RIGHT);
+            refreshView();
+        }
+        return board.getViewSnapshot();
+    }
+
+    @Override
+    public ViewSnapshot onRotateEvent(MoveEvent event) {
+        recorder.record(ReplayAction.ROTATE);
+        engine.rotate();
+        refreshView();
+        return board.getViewSnapshot();
+    }
+
+    @Override
+    public ViewSnapshot onHoldEvent() {
+        recorder.record(ReplayAction.HOLD);
+        engine.hold();
         refreshView();
-        return board.getViewData();
+        return board.getViewSnapshot();
     }
 
     /**
-     * Handles the request to rotate the active brick.
+     * Handles the brick moving down, either from gravity or a player soft drop.
      *
-     * @param event The move event details.
-     * @return A {@link ViewData} object representing the updated state of the board.
+     * @param event The move event containing the source (User or Timer).
+     * @return DownData containing the result of the move.
      */
     @Override
-    public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
+    public DownData onDownEvent(MoveEvent event) {
+        recorder.record(ReplayAction.ofDown(event));
+        ClearRow clearRow = event.eventSource() == EventSource.USER ? engine.softDrop() : engine.tick();
+        // Refresh even when nothing locked: the invisible board may have toggled its reveal
         refreshView();
-        return board.getViewData();
+        return new DownData(clearRow, board.getViewSnapshot());
     }
 
     /**
-     * Handles the request to hold (swap) the current brick.
-     *
-     * @return A {@link ViewData} object containing the updated board state and held brick info.
+     * Runs the lock delay on the game loop's clock. The lock is recorded as its own action, since
+     * a replay has no clock to run the delay out with.
      */
     @Override
-    public ViewData onHoldEvent() {
-        // If the holdBrick method was pulled up to AbstractBoard, we can cast freely
-        if (board instanceof com.comp2042.model.board.AbstractBoard ab) {
-            ab.holdBrick();
-        }
+    public DownData onLockDelayStep(long elapsedNanos) {
+        return engine.updateLockDelay(elapsedNanos) ? onLockEvent() : null;
+    }
+
+    @Override
+    public DownData onLockEvent() {
+        recorder.record(ReplayAction.LOCK);
+        ClearRow clearRow = engine.lock();
         refreshView();
-        return board.getViewData();
+        return new DownData(clearRow, board.getViewSnapshot());
+    }
+
+    @Override
+    public DownData onHardDropEvent() {
+        recorder.record(ReplayAction.HARD_DROP);
+        ClearRow clearRow = engine.hardDrop();
+        refreshView();
+        return new DownData(clearRow, board.getViewSnapshot());
     }
 
     /**
      * Resets the game state to start a new session.
+     * <p>
+     * The new game gets a fresh seed and its own recording; an unfinished recording of the
+     * previous game is closed as it is.
+     * </p>
      */
     @Override
     public void createNewGame() {
-        board.newGame();
+        recorder.close();
+        generator.reseed(ThreadLocalRandom.current().nextLong());
+        engine.newGame();
+        startRecording();
         refreshView();
     }
 
-    // --- Helper Methods ---
-
     /**
-     * Helper method to force a UI refresh of the background grid.
+     * The player left for the menu: the unfinished recording is closed as it is.
      */
-    protected void refreshView() {
-        viewGameViewController.refreshGameBackground(board.getBoardMatrix());
+    @Override
+    public void onQuit() {
+        recorder.close();
     }
 
-    /**
-     * Orchestrates the logic sequence when a brick lands on the stack.
-     * <p>
-     * This method performs the following steps:
-     * </p>
-     * <ol>
-     * <li>Merges the active brick into the background grid.</li>
-     * <li>Checks for and clears any full rows.</li>
-     * <li>Calculates and awards score points (via {@link #calculateScore(ClearRow)}).</li>
-     * <li>Checks if a new brick can be spawned; triggers Game Over if not.</li>
-     * </ol>
-     *
-     * @return A {@link DownData} object containing the result of the landing event (cleared rows, new score).
-     */
-    protected DownData processBrickLanding() {
-        board.mergeBrickToBackground();
-        ClearRow clearRow = board.clearRows();
+    // --- Engine events ---
 
-        if (clearRow.getLinesRemoved() > 0) {
-            board.getScore().add(calculateScore(clearRow));
-        }
+    @Override
+    public void onKeyframeDue() {
+        recorder.recordKeyframe(engine);
+    }
 
-        if (board.createNewBrick()) {
-            handleGameOver();
-        }
+    @Override
+    public void onScoreChanged(int score) {
+        viewGameViewController.setScore(score);
+    }
 
-        refreshView();
-        return new DownData(clearRow, board.getViewData());
+    @Override
+    public void onNotification(String message) {
+        viewGameViewController.showNotification(message);
     }
 
     /**
      * Handles the Game Over state.
      * <p>
-     * Saves the current score using the injected {@link HighScoreManager} and
-     * triggers the UI to display the Game Over screen.
+     * Saves the final score using the injected {@link HighScoreManager} and
+     * triggers the UI to display the Game Over screen, with the game's rank on its mode's
+     * leaderboard.
      * </p>
      */
-    protected void handleGameOver() {
-        highScoreManager.addScore(board.getScore().scoreProperty().get());
+    @Override
+    public void onGameOver(int finalScore) {
+        recorder.finish(finalScore);
+        int rank = highScoreManager.addScore(mode, finalScore, engine.getLinesCleared());
         viewGameViewController.gameOver();
+        if (rank > 0) { // 0 while the table is still loading
+            viewGameViewController.showRank(rank, highScoreManager.getLeaderboard().get(mode).size());
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private void startRecording() {
+        String name = "replay-" + LocalDateTime.now().format(REPLAY_NAME) + "-" + Long.toHexString(generator.getSeed()) + ".rpl";
+        recorder = new ReplayWriter(Path.of(REPLAY_DIRECTORY, name), mode, generator.getSeed());
     }
 
     /**
-     * Calculates the score to be awarded based on cleared rows.
+     * Helper method to refresh the background grid.
      * <p>
-     * This is a hook method that subclasses can override to implement different
-     * scoring rules (e.g., score multipliers in Challenge Mode).
+     * Only rows in the board's change journal are redrawn, so plain moves and rotations
+     * (which leave the locked board alone) cost almost nothing here.
      * </p>
-     *
-     * @param clearRow The result of the row clearing operation.
-     * @return The score bonus to add.
      */
-    protected int calculateScore(ClearRow clearRow) {
-        return clearRow.scoreBonus();
+    protected void refreshView() {
+        // Read the matrix first: the invisible board updates its journal when it toggles visibility
+        int[][] matrix = board.getBoardMatrix();
+        viewGameViewController.refreshGameBackground(matrix, board.getChangeJournal());
     }
-}
\ No newline at end of file
+}
@@ -1,81 +1,113 @@
 package com.comp2042.model;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
 /**
  * Manages the game progression system, including level calculation and dynamic speed adjustments.
  * <p>
  * This class monitors the player's score and automatically increases the difficulty (Level)
  * at set thresholds. It also calculates the appropriate game loop speed for the current level.
  * </p>
+ * <p>
+ * The level is a plain {@code int} updated through {@link #update(int)}, so it works without
+ * JavaFX; the engine reports changes through
+ * {@link com.comp2042.model.engine.GameEngineListener#onLevelChanged(int)}.
+ * </p>
+ * <p>
+ * Speed is measured as gravity in rows per frame (1/60 s), read from a table built once for
+ * every level. Up to level {@value #TWENTY_G_LEVEL} gravity follows a 400 ms drop interval
+ * shrinking by 15% per level. Past one row per frame, the game loop's accumulator simply moves
+ * the piece several rows in one step. From level {@value #TWENTY_G_LEVEL} on, gravity is 20G:
+ * a new piece falls straight to its landing row.
+ * </p>
  */
 public class LevelManager {
 
     private static final int POINTS_PER_LEVEL = 1000; // decides how many points u need to proceed to next level
-    private static final double INITIAL_DELAY = 700.0;
-    private static final double SPEED_MULTIPLIER = 0.7; // controls speed multiplier per level
+    private static final double INITIAL_DELAY = 400.0;
+    private static final double SPEED_MULTIPLIER = 0.85; // controls speed multiplier per level
+    private static final double FRAME_MILLIS = 1000.0 / 60;
+    /** 20G: gravity at or above this drops a piece all the way down in one frame. */
+    public static final double MAX_GRAVITY = 20.0;
+    public static final int TWENTY_G_LEVEL = 30;
+
+    // Rows per frame, indexed by level; levels past the end use the last entry
+    private static final double[] GRAVITY = new double[TWENTY_G_LEVEL + 1];
+
+    static {
+        for (int level = 1; level < TWENTY_G_LEVEL; level++) {
+            double delay = INITIAL_DELAY * Math.pow(SPEED_MULTIPLIER, level - 1);
+            GRAVITY[level] = Math.min(MAX_GRAVITY, FRAME_MILLIS / delay);
+        }
+        GRAVITY[0] = GRAVITY[1];
+        GRAVITY[TWENTY_G_LEVEL] = MAX_GRAVITY;
+    }
 
-    private final IntegerProperty level = new SimpleIntegerProperty(1);
+    private int level = 1;
 
     /**
-     * Connects the level manager to the game score.
+     * Recalculates the level from a score.
      * <p>
-     * Adds a listener to the score property that recalculates the level whenever the score changes.
      * The level increases for every 1000 points earned (e.g., 0-999 is Level 1, 1000-1999 is Level 2).
      * </p>
      *
-     * @param scoreProperty The observable integer property representing the current game score.
+     * @param currentScore The current game score.
+     * @return true if the level changed.
      */
-    public void bindScore(IntegerProperty scoreProperty) {
-        scoreProperty.addListener((obs, oldVal, newVal) -> {
-            int currentScore = newVal.intValue();
-
-            // Logic: 0-999 = Lvl 1, 1000-1999 = Lvl 2, etc.
-            int calculatedLevel = (currentScore / POINTS_PER_LEVEL) + 1;
-            // only update if we level up
-            if (calculatedLevel != level.get()) {
-                level.set(calculatedLevel);
-            }
-        });
+    public boolean update(int currentScore) {
+        // Logic: 0-999 = Lvl 1, 1000-1999 = Lvl 2, etc.
+        int calculatedLevel = (currentScore / POINTS_PER_LEVEL) + 1;
+        // only update if we level up
+        if (calculatedLevel == level) {
+            return false;
+        }
+        level = calculatedLevel;
+        return true;
     }
 
     /**
-     * Calculates the game loop delay (falling speed) for the current level.
-     * <p>
-     * The speed increases (delay decreases) by X% for each level gained.
-     * Formula: {@code Initial_Delay * (SPEED_MULTIPLIER ^ (Level - 1))}
-     * </p>
+     * Looks up the gravity for a level.
      *
-     * @return The delay in milliseconds between game ticks.
+     * @param level Any level; values past the table use its fastest entry.
+     * @return Rows per frame, at most {@link #MAX_GRAVITY}.
      */
-    public double getCurrentDelay() {
-        return INITIAL_DELAY * Math.pow(SPEED_MULTIPLIER, level.get() - 1);
+    public static double gravityForLevel(int level) {
+        return GRAVITY[Math.clamp(level, 0, TWENTY_G_LEVEL)];
     }
 
     /**
-     * Retrieves the observable property for the current level.
-     * <p>
-     * This can be bound to UI labels to display the level in real-time.
-     * </p>
-     *
-     * @return The IntegerProperty representing the current level.
+     * @return The current gravity in rows per frame.
      */
-    public IntegerProperty levelProperty() {
-        return level;
+    public double getGravity() {
+        return gravityForLevel(level);
     }
 
+    /**
+     * @return true at 20G, where each gravity tick drops the piece straight to its landing row.
+     */
+    public boolean isTwentyG() {
+        return getGravity() >= MAX_GRAVITY;
+    }
 
     /**
-     * Retrieves the current level as a primitive integer.
+     * Calculates the game loop delay (falling speed) for the current level.
      * <p>
-     * This is a convenience method to access the level value directly without
-     * needing to call {@code levelProperty().get()}.
+     * The speed increases (delay decreases) by 15% for each level gained.
+     * Formula: {@code Initial_Delay * (SPEED_MULTIPLIER ^ (Level - 1))}, read back from the
+     * gravity table. Under one frame the loop runs several ticks per step. At 20G one tick per
+     * frame is enough, since each tick drops the piece to the bottom.
      * </p>
      *
+     * @return The delay in milliseconds between game ticks.
+     */
+    public double getCurrentDelay() {
+        return isTwentyG() ? FRAME_MILLIS : FRAME_MILLIS / getGravity();
+    }
+
+    /**
+     * Retrieves the current level.
+     *
      * @return The current game level (starts at 1).
      */
     public int getCurrentLevel() {
-        return levelProperty().get();
+        return level;
     }
 }
\ No newline at end of file
@@ -1,41 +1,44 @@
 package com.comp2042.model;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
 /**
  * Manages the player's score during the game.
  * <p>
- * This class wraps an {@link IntegerProperty} to allow for real-time data binding
- * with the UI labels in the game view.
+ * The score is a plain {@code int} with no JavaFX in it, so the game can run headless
+ * (simulations, bots). The UI follows it through
+ * {@link com.comp2042.model.engine.GameEngineListener#onScoreChanged(int)}.
  * </p>
  */
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    private int value;
 
     /**
-     * Retrieves the observable score property.
+     * Retrieves the current score.
      *
-     * @return The IntegerProperty representing the current score.
+     * @return The current score.
      */
-    public IntegerProperty scoreProperty() {
-        return score;
+    public int getValue() {
+        return value;
     }
 
     /**
      * Adds the specified amount to the current score.
+     * <p>
+     * Saturates at {@link Integer#MAX_VALUE} instead of wrapping negative: line clears scale with
+     * the level and the level scales with the score, so long bot games do get that far.
+     * </p>
      *
      * @param i The number of points to add.
      */
     public void add(int i){
-        score.setValue(score.getValue() + i);
+        long sum = (long) value + i;
+        value = (int) Math.min(sum, Integer.MAX_VALUE);
     }
 
     /**
      * Resets the score to zero.
      */
     public void reset() {
-        score.setValue(0);
+        value = 0;
     }
-}
\ No newline at end of file
+}
@@ -2,14 +2,20 @@ package com.comp2042.model.board;
 
 import com.comp2042.model.bricks.Brick;
 import com.comp2042.model.bricks.BrickGenerator;
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.model.bricks.BrickType;
+import com.comp2042.model.bricks.SeededBrickGenerator;
 import com.comp2042.model.bricks.RandomBrickGenerator;
 import com.comp2042.model.bricks.BrickRotator;
 import com.comp2042.model.Score;
 import com.comp2042.model.state.ClearRow;
 import com.comp2042.model.state.ViewData;
+import com.comp2042.model.state.ViewSnapshot;
 import com.comp2042.util.MatrixOperations;
 
-import java.awt.Point;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * An abstract implementation of the {@link Board} interface, providing the core logic for
@@ -33,7 +39,27 @@ public abstract class AbstractBoard implements Board {
 
     // This represents the "Real" game state (collision checks happen here)
     protected int[][] boardMatrix;
-    protected Point currentOffset;
+    //  The "Kicks" (Offsets) a rotation tries in order:
+    // {x, y} -> {0,0} Normal, {1,0} Kick Right, {-1,0} Kick Left, {0,-1} Floor Kick
+    private static final int[][] KICKS = {{0, 0}, {1, 0}, {-1, 0}, {0, -1}};
+
+    // Active brick's top-left corner; plain ints so moving the brick never allocates
+    protected int brickX;
+    protected int brickY;
+
+    // Scratch space for clearRows() so the common lock path does not allocate
+    protected final int[] clearedRowBuffer;
+    private final ClearRow noRowsCleared;
+
+    // Row index of the highest locked block in each column ("height" when the column is empty)
+    protected final int[] columnTops;
+
+    // Bumped on every change that affects what the view shows; see getViewSnapshot()
+    private long stateVersion = 0;
+    private final SnapshotBuffer snapshotBuffer = new SnapshotBuffer();
+
+    // Rows of the locked board changed since the background was last redrawn
+    protected final ChangeJournal changeJournal;
 
     /**
      * Constructs a new Board with the specified dimensions.
@@ -42,10 +68,29 @@ public abstract class AbstractBoard implements Board {
      * @param width  The number of columns in the board grid.
      */
     public AbstractBoard(int height, int width) {
+        this(height, width, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a new Board that draws its pieces from the given generator.
+     * <p>
+     * Simulations and tests pass a seeded generator here so a game can be reproduced.
+     * </p>
+     *
+     * @param height         The number of rows in the board grid.
+     * @param width          The number of columns in the board grid.
+     * @param brickGenerator The source of new pieces.
+     */
+    public AbstractBoard(int height, int width, BrickGenerator brickGenerator) {
         this.width = width;
         this.height = height;
         this.boardMatrix = new int[height][width];
-        this.brickGenerator = new RandomBrickGenerator();
+        this.clearedRowBuffer = new int[height];
+        this.noRowsCleared = new ClearRow(boardMatrix, 0, List.of());
+        this.columnTops = new int[width];
+        Arrays.fill(columnTops, height);
+        this.changeJournal = new ChangeJournal(height);
+        this.brickGenerator = brickGenerator;
         this.brickRotator = new BrickRotator();
         this.score = new Score();
     }
@@ -61,8 +106,14 @@ public abstract class AbstractBoard implements Board {
      */
     @Override
     public void mergeBrickToBackground() {
-        // Common Logic: Merge into the logical board
-        boardMatrix = MatrixOperations.merge(boardMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        // Common Logic: Merge into the logical board (in place, no board copy per lock)
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        int x = brickX;
+        int y = brickY;
+        MatrixOperations.mergeInPlace(boardMatrix, shape, x, y);
+        raiseColumnTops(shape, x, y);
+        changeJournal.markRows(y + shape.getMinRow(), y + shape.getMaxRow());
+        markChanged();
         // Hook for subclasses
         onAfterMerge();
     }
@@ -78,14 +129,102 @@ public abstract class AbstractBoard implements Board {
      */
     @Override
     public ClearRow clearRows() {
-        // Common Logic: Check and remove rows
-        ClearRow clearRow = MatrixOperations.checkRemoving(boardMatrix);
-        boardMatrix = clearRow.newMatrix();
+        // Common Logic: Compact full rows in place by rotating row references
+        int linesCleared = MatrixOperations.removeFullRows(boardMatrix, clearedRowBuffer);
+        if (linesCleared > 0) {
+            recomputeColumnTops();
+            // Everything above the lowest cleared row has shifted down
+            changeJournal.markRows(0, clearedRowBuffer[linesCleared - 1]);
+            markChanged();
+        }
+        ClearRow clearRow = createClearRow(linesCleared);
         // Hook for subclasses
         onAfterClear();
         return clearRow;
     }
 
+    /**
+     * Builds the result of a clear from the indices collected in {@link #clearedRowBuffer}.
+     * <p>
+     * Locks that clear nothing (the vast majority) share a single pre-built instance, so the
+     * lock cycle only allocates when lines are actually removed.
+     * </p>
+     *
+     * @param linesCleared The number of indices written to the buffer.
+     * @return The {@link ClearRow} result for this lock.
+     */
+    protected ClearRow createClearRow(int linesCleared) {
+        if (linesCleared == 0) {
+            return noRowsCleared;
+        }
+        Integer[] indices = new Integer[linesCleared];
+        for (int i = 0; i < linesCleared; i++) {
+            indices[i] = clearedRowBuffer[i];
+        }
+        return new ClearRow(boardMatrix, MatrixOperations.scoreForLines(linesCleared), List.of(indices));
+    }
+
+    /**
+     * Empties the board in place, keeping the same row arrays so references held by
+     * renderers and cached results stay valid across games. The held brick is dropped too,
+     * so a new game never starts with a piece carried over from the last one.
+     */
+    protected void clearBoard() {
+        for (int[] row : boardMatrix) {
+            Arrays.fill(row, 0);
+        }
+        heldBrick = null;
+        Arrays.fill(columnTops, height);
+        changeJournal.markAll();
+        markChanged();
+    }
+
+    /**
+     * Records that the board state has changed, so the next {@link #getViewSnapshot()} call
+     * publishes a fresh snapshot. Subclasses that mutate the board outside the shared methods
+     * must call this themselves.
+     */
+    protected final void markChanged() {
+        stateVersion++;
+    }
+
+    /**
+     * Updates the surface map after a shape has been locked at the given position.
+     * Only the (at most four) columns the shape covers are touched.
+     *
+     * @param shape The shape that was merged.
+     * @param x     The x-coordinate it was merged at.
+     * @param y     The y-coordinate it was merged at.
+     */
+    protected void raiseColumnTops(BrickShape shape, int x, int y) {
+        for (int c = shape.getMinColumn(); c <= shape.getMaxColumn(); c++) {
+            int column = x + c;
+            for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+                if (shape.getCell(r, c) != 0) {
+                    columnTops[column] = Math.min(columnTops[column], y + r);
+                    break; // first hit from the top is the highest cell in this column
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the surface map from {@link #boardMatrix}. Clearing lines can lower any column,
+     * so this full scan runs only when at least one row was removed.
+     */
+    protected void recomputeColumnTops() {
+        for (int column = 0; column < width; column++) {
+            int top = height;
+            for (int row = 0; row < height; row++) {
+                if (boardMatrix[row][column] != 0) {
+                    top = row;
+                    break;
+                }
+            }
+            columnTops[column] = top;
+        }
+    }
+
     // --- Hooks ---
 
     /**
@@ -117,6 +256,23 @@ public abstract class AbstractBoard implements Board {
         return move(0, 1);
     }
 
+    /**
+     * Checks whether the current brick could move down one row, without moving it.
+     * @return true if the row below is free, false if the brick is resting on something.
+     */
+    @Override
+    public boolean canMoveBrickDown() {
+        return !collides(brickRotator.getCurrentBrickShape(), brickX, brickY + 1);
+    }
+
+    /**
+     * @return The row of the current brick's top-left corner.
+     */
+    @Override
+    public int getBrickRow() {
+        return brickY;
+    }
+
     /**
      * Attempts to move the current brick left by one column.
      * @return true if successful, false if blocked.
@@ -135,6 +291,50 @@ public abstract class AbstractBoard implements Board {
         return move(1, 0);
     }
 
+    /**
+     * Slides the current brick sideways as far as it will go, in one step.
+     * <p>
+     * While the brick sits above the stack surface across every column it sweeps, its own
+     * included, nothing but the wall can stop it, so the target column comes straight from
+     * {@link #columnTops} and the shape's width. The brick's current columns matter too: a low
+     * cell trailing behind can slide into a block tucked under the brick's overhang. Otherwise
+     * the columns are probed one by one; either way the position changes once and
+     * {@link #markChanged()} is called once.
+     * </p>
+     *
+     * @param direction -1 for left, +1 for right.
+     * @return The number of columns moved (0 if already blocked).
+     */
+    public int moveBrickToWall(int direction) {
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        int x = brickX;
+        int y = brickY;
+        int wallX = direction < 0 ? -shape.getMinColumn() : width - 1 - shape.getMaxColumn();
+
+        int lowestRow = y + shape.getMaxRow();
+        boolean clear = true;
+        int from = Math.min(x, wallX) + shape.getMinColumn();
+        int to = Math.max(x, wallX) + shape.getMaxColumn();
+        for (int column = Math.max(0, from); column <= Math.min(width - 1, to) && clear; column++) {
+            clear = columnTops[column] > lowestRow;
+        }
+
+        int targetX = x;
+        if (clear) {
+            targetX = direction < 0 ? Math.min(x, wallX) : Math.max(x, wallX);
+        } else {
+            // Slow path: step until the next column collides
+            while (!collides(shape, targetX + direction, y)) {
+                targetX += direction;
+            }
+        }
+        if (targetX != x) {
+            brickX = targetX;
+            markChanged();
+        }
+        return Math.abs(targetX - x);
+    }
+
     /**
      * Helper method to move the brick by a specific offset.
      *
@@ -143,15 +343,15 @@ public abstract class AbstractBoard implements Board {
      * @return true if the new position is valid (no collision), false otherwise.
      */
     protected boolean move(int x, int y) {
-        Point p = new Point(currentOffset);
-        p.translate(x, y);
-        boolean conflict = MatrixOperations.intersect(boardMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
+        int newX = brickX + x;
+        int newY = brickY + y;
+        if (collides(brickRotator.getCurrentBrickShape(), newX, newY)) {
             return false;
-        } else {
-            currentOffset = p;
-            return true;
         }
+        brickX = newX;
+        brickY = newY;
+        markChanged();
+        return true;
     }
 
     /**
@@ -162,23 +362,21 @@ public abstract class AbstractBoard implements Board {
      */
     @Override
     public boolean rotateLeftBrick() {
-        // Get the shape the brick would have if we rotated
-        int[][] nextShape = brickRotator.getNextShape().shape();
-        int nextPosition = brickRotator.getNextShape().position();
-
-        int currentX = (int) currentOffset.getX();
-        int currentY = (int) currentOffset.getY();
-
-        //  Define the "Kicks" (Offsets) to try in order:
-        // {x, y} -> {0,0} Normal, {1,0} Kick Right, {-1,0} Kick Left, {0,-1} Floor Kick
-        int[][] tests = {{0, 0}, {1, 0}, {-1, 0}, {0, -1}};
-        // Loop through the tests
-        for (int[] offset : tests) {
+        // Get the shape the brick would have if we rotated (shared table entry, no copy)
+        int nextPosition = brickRotator.getNextRotation();
+        BrickShape nextShape = brickRotator.getBrick().getShape(nextPosition);
+
+        int currentX = brickX;
+        int currentY = brickY;
+
+        for (int[] offset : KICKS) {
             int testX = currentX + offset[0];
             int testY = currentY + offset[1];
-            if (!MatrixOperations.intersect(boardMatrix, nextShape, testX, testY)) {
+            if (!collides(nextShape, testX, testY)) {
                 brickRotator.setCurrentShape(nextPosition);
-                currentOffset.setLocation(testX, testY);
+                brickX = testX;
+                brickY = testY;
+                markChanged();
                 return true;
             }
         }
@@ -196,9 +394,29 @@ public abstract class AbstractBoard implements Board {
     public boolean createNewBrick() {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
-        currentOffset = new Point((width / 2) - 2, 0);
+        brickX = (width / 2) - 2;
+        brickY = 0;
         canHold = true; // Reset hold permission
-        return MatrixOperations.intersect(boardMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        markChanged();
+        return collides(brickRotator.getCurrentBrickShape(), brickX, brickY);
+    }
+
+    /**
+     * Checks whether a brick shape placed at the given position would overlap a wall,
+     * the floor or a locked block.
+     * <p>
+     * All movement, rotation and spawn checks go through this method, so subclasses with a
+     * different storage layout (e.g. {@link BitBoard}) only need to override this one probe.
+     * The default implementation walks the shape cell by cell against {@link #boardMatrix}.
+     * </p>
+     *
+     * @param shape The precomputed brick shape to test.
+     * @param x     The target x-coordinate (column) of the shape's top-left corner.
+     * @param y     The target y-coordinate (row) of the shape's top-left corner.
+     * @return true if the placement collides; false if it is free.
+     */
+    protected boolean collides(BrickShape shape, int x, int y) {
+        return MatrixOperations.intersect(boardMatrix, shape, x, y);
     }
 
     /**
@@ -222,42 +440,70 @@ public abstract class AbstractBoard implements Board {
             Brick temp = heldBrick;
             heldBrick = currentBrick;
             brickRotator.setBrick(temp); // This resets rotation to 0
-            currentOffset = new Point((width / 2) - 2, 0); // Reset position
+            brickX = (width / 2) - 2; // Reset position
+            brickY = 0;
         }
 
         canHold = false; // Disable holding until next piece spawns
+        markChanged();
     }
 
     /**
      * Instantly drops the brick to the lowest possible position.
+     * <p>
+     * Uses the same landing calculation as the ghost piece, so the brick jumps straight to
+     * the shadow row instead of stepping down one row at a time.
+     * </p>
      * @return The number of rows dropped.
      */
     @Override
     public int hardDrop() {
-        int rowsDropped = 0;
-        while (moveBrickDown()) {
-            rowsDropped++;
+        int currentY = brickY;
+        int landingY = getShadowYPosition();
+        if (landingY != currentY) {
+            brickY = landingY;
+            markChanged();
         }
-        return rowsDropped;
+        return landingY - currentY;
     }
 
     /**
-     * Calculates the shadow (ghost piece) Y position by simulating a drop.
+     * Calculates the shadow (ghost piece) Y position.
+     * <p>
+     * When every column of the brick is still above the stack surface, the first thing each
+     * column can hit is the top block of that column (or the floor), so the landing row is read
+     * straight from {@link #columnTops} and the shape's bottom profile. If the brick has been
+     * tucked under an overhang that shortcut does not hold, and we fall back to probing
+     * row by row against the live board.
+     * </p>
      * @return The Y-coordinate where the brick would land.
      */
     @Override
     public int getShadowYPosition() {
-        int shadowY = (int) currentOffset.getY();
-        int[][] currentShape = brickRotator.getCurrentShape();
-        int currentX = (int) currentOffset.getX();
-        int[][] currentMatrix = MatrixOperations.copy(boardMatrix);
-
-        while (true) {
-            int testY = shadowY + 1;
-            if (MatrixOperations.intersect(currentMatrix, currentShape, currentX, testY)) {
-                break;
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        int currentX = brickX;
+        int currentY = brickY;
+
+        int landingY = Integer.MAX_VALUE;
+        for (int c = shape.getMinColumn(); c <= shape.getMaxColumn(); c++) {
+            int bottom = shape.getBottom(c);
+            if (bottom < 0) {
+                continue;
+            }
+            int top = columnTops[currentX + c];
+            if (currentY + bottom >= top) {
+                return scanShadowYPosition(shape, currentX, currentY);
             }
-            shadowY = testY;
+            landingY = Math.min(landingY, top - 1 - bottom);
+        }
+        return landingY == Integer.MAX_VALUE ? currentY : landingY;
+    }
+
+    // Slow path for overhanging stacks: step down until the next row collides
+    private int scanShadowYPosition(BrickShape shape, int x, int y) {
+        int shadowY = y;
+        while (!collides(shape, x, shadowY + 1)) {
+            shadowY++;
         }
         return shadowY;
     }
@@ -267,20 +513,151 @@ public abstract class AbstractBoard implements Board {
         return score;
     }
 
+    /**
+     * Returns the locked blocks as the game rules see them.
+     * <p>
+     * Unlike {@link #getBoardMatrix()}, which subclasses may use to show the player something
+     * else (e.g. hidden blocks), this is always the real board. It is the live array, so callers
+     * such as bots must treat it as read-only.
+     * </p>
+     *
+     * @return The logical board matrix.
+     */
+    public int[][] getLockedMatrix() {
+        return boardMatrix;
+    }
+
+    /**
+     * @return The brick currently being played.
+     */
+    public Brick getActiveBrick() {
+        return brickRotator.getBrick();
+    }
+
+    /**
+     * @return The rotation index of the brick currently being played.
+     */
+    public int getBrickRotation() {
+        return brickRotator.getCurrentRotation();
+    }
+
+    /**
+     * Writes everything needed to resume this board: the locked cells (two per byte), the active
+     * brick with its rotation and position, the held brick and the piece generator.
+     * <p>
+     * Only boards fed by a {@link SeededBrickGenerator} can be saved, since the upcoming pieces
+     * are part of the state. The score is not included; the engine saves it.
+     * </p>
+     *
+     * @param out The buffer to write to.
+     * @throws IllegalStateException If the generator's state cannot be saved.
+     */
+    public void writeState(ByteBuffer out) {
+        if (!(brickGenerator instanceof SeededBrickGenerator seeded)) {
+            throw new IllegalStateException("Board state needs a SeededBrickGenerator");
+        }
+        for (int[] row : boardMatrix) {
+            for (int j = 0; j < width; j += 2) {
+                int high = j + 1 < width ? row[j + 1] : 0;
+                out.put((byte) (row[j] | high << 4));
+            }
+        }
+        out.put((byte) brickRotator.getBrick().getType().getID());
+        out.put((byte) brickRotator.getCurrentRotation());
+        out.putShort((short) brickX);
+        out.putShort((short) brickY);
+        out.put((byte) (heldBrick != null ? heldBrick.getType().getID() : 0));
+        out.put((byte) (canHold ? 1 : 0));
+        seeded.writeState(out);
+    }
+
+    /**
+     * Restores a state written by {@link #writeState(ByteBuffer)} on a board of the same size.
+     *
+     * @param in The buffer to read from.
+     */
+    public void readState(ByteBuffer in) {
+        if (!(brickGenerator instanceof SeededBrickGenerator seeded)) {
+            throw new IllegalStateException("Board state needs a SeededBrickGenerator");
+        }
+        for (int[] row : boardMatrix) {
+            for (int j = 0; j < width; j += 2) {
+                int packed = in.get() & 0xFF;
+                row[j] = packed & 0x0F;
+                if (j + 1 < width) {
+                    row[j + 1] = packed >>> 4;
+                }
+            }
+        }
+        brickRotator.setBrick(BrickType.fromID(in.get()).createBrick());
+        brickRotator.setCurrentShape(in.get());
+        brickX = in.getShort();
+        brickY = in.getShort();
+        int held = in.get();
+        heldBrick = held != 0 ? BrickType.fromID(held).createBrick() : null;
+        canHold = in.get() != 0;
+        seeded.readState(in);
+
+        recomputeColumnTops();
+        changeJournal.markAll();
+        markChanged();
+        onStateRestored();
+    }
+
+    /**
+     * Hook called after {@link #readState(ByteBuffer)} has rewritten {@link #boardMatrix}, for
+     * subclasses that keep derived data (row masks, a render copy) in step with it.
+     */
+    protected void onStateRestored() { }
+
+    /**
+     * Builds a copying {@link ViewData} record of the current state.
+     * <p>
+     * Kept for callers that want plain, independent matrices (tests, tools). The game loop
+     * should use {@link #getViewSnapshot()}, which allocates nothing.
+     * </p>
+     */
     @Override
     public ViewData getViewData() {
-        int[][] heldMatrix = (heldBrick != null) ? heldBrick.getShapeMatrix().getFirst() : null;
+        int[][] heldMatrix = (heldBrick != null) ? heldBrick.getShape(0).toMatrix() : null;
 
         return new ViewData(
                 brickRotator.getCurrentShape(),
-                (int) currentOffset.getX(),
-                (int) currentOffset.getY(),
-                brickGenerator.getNextBrick().getShapeMatrix().getFirst(),
+                brickX,
+                brickY,
+                brickGenerator.getNextBrick().getShape(0).toMatrix(),
                 getShadowYPosition(),
                 heldMatrix // Pass the held brick
         );
     }
 
+    @Override
+    public ChangeJournal getChangeJournal() {
+        return changeJournal;
+    }
+
+    /**
+     * Publishes the current view state through the board's reusable double buffer.
+     * <p>
+     * The shadow row is only recomputed when the state version has changed since the last
+     * call; otherwise the previous snapshot is handed back untouched.
+     * </p>
+     */
+    @Override
+    public ViewSnapshot getViewSnapshot() {
+        if (snapshotBuffer.isCurrent(stateVersion)) {
+            return snapshotBuffer.current();
+        }
+        return snapshotBuffer.publish(
+                stateVersion,
+                brickRotator.getCurrentBrickShape(),
+                brickX,
+                brickY,
+                brickGenerator.getNextBrick().getShape(0),
+                getShadowYPosition(),
+                heldBrick != null ? heldBrick.getShape(0) : null);
+    }
+
     // Abstract methods to be implemented by subclasses
     @Override
     public abstract int[][] getBoardMatrix();
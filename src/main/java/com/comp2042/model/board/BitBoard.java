@@ -0,0 +1,194 @@
+package com.comp2042.model.board;
+
+import com.comp2042.model.bricks.BrickGenerator;
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import com.comp2042.model.state.ClearRow;
+import com.comp2042.util.MatrixOperations;
+
+import java.util.Arrays;
+
+/**
+ * A standard Tetris board that keeps its collision state as one bitmask per row.
+ * <p>
+ * Each row of the playfield is stored as a {@code long} where bit {@code c} is set when
+ * column {@code c} is occupied. Collision checks, merges and full-row detection are done
+ * with mask AND/OR/compare operations instead of walking the {@code int[][]} grid cell by cell.
+ * </p>
+ * <p>
+ * The inherited {@link #boardMatrix} is kept as a parallel <strong>colour side array</strong>:
+ * it is written on merge and compacted on clear, so {@link #getBoardMatrix()} still works for
+ * the renderers, but the collision hot path never reads it.
+ * </p>
+ */
+public class BitBoard extends AbstractBoard {
+
+    /** Widest board supported: a 4-column shape shifted to the last column must still fit in a long. */
+    public static final int MAX_WIDTH = Long.SIZE - 4;
+
+    private final long[] rows;
+    private final long fullRow;
+
+    /**
+     * Creates a bitboard-backed board.
+     *
+     * @param height Board height in blocks.
+     * @param width  Board width in blocks (at most {@link #MAX_WIDTH}).
+     * @throws IllegalArgumentException If the width does not fit in a row mask.
+     */
+    public BitBoard(int height, int width) {
+        this(height, width, new RandomBrickGenerator());
+    }
+
+    /**
+     * Creates a bitboard-backed board that draws its pieces from the given generator.
+     *
+     * @param height         Board height in blocks.
+     * @param width          Board width in blocks (at most {@link #MAX_WIDTH}).
+     * @param brickGenerator The source of new pieces.
+     * @throws IllegalArgumentException If the width does not fit in a row mask.
+     */
+    public BitBoard(int height, int width, BrickGenerator brickGenerator) {
+        super(height, width, brickGenerator);
+        if (width > MAX_WIDTH) {
+            throw new IllegalArgumentException("BitBoard supports at most " + MAX_WIDTH + " columns, got " + width);
+        }
+        this.rows = new long[height];
+        this.fullRow = (1L << width) - 1;
+    }
+
+    /**
+     * Tests a shape against the row masks.
+     * <p>
+     * Each precomputed shape row mask is shifted to the target column and checked against
+     * the walls (bits outside {@code fullRow}) and the locked blocks in a single AND.
+     * </p>
+     */
+    @Override
+    protected boolean collides(BrickShape shape, int x, int y) {
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            long mask = shape.getRowMask(r);
+            if (mask == 0) {
+                continue;
+            }
+            int targetY = y + r;
+            if (targetY < 0 || targetY >= height) {
+                return true;
+            }
+            long placed;
+            if (x >= 0) {
+                placed = mask << x;
+            } else {
+                // Any bit that would be shifted past column 0 is outside the left wall
+                if ((mask & ((1L << -x) - 1)) != 0) {
+                    return true;
+                }
+                placed = mask >>> -x;
+            }
+            if ((placed & ~fullRow) != 0 || (placed & rows[targetY]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Locks the current brick by OR-ing its row masks into the board, writing its colour
+     * into the side array and raising the surface map, then calls the {@link #onAfterMerge()} hook.
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        int x = brickX;
+        int y = brickY;
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            long mask = shape.getRowMask(r);
+            rows[y + r] |= x >= 0 ? mask << x : mask >>> -x;
+        }
+        MatrixOperations.mergeInPlace(boardMatrix, shape, x, y);
+        raiseColumnTops(shape, x, y);
+        changeJournal.markRows(y + shape.getMinRow(), y + shape.getMaxRow());
+        markChanged();
+        onAfterMerge();
+    }
+
+    /**
+     * Removes every row whose mask equals the full-row mask and compacts the remaining rows
+     * downwards in place (both the masks and the colour rows), then calls {@link #onAfterClear()}.
+     * Cleared rows are rotated to the top exactly like {@link MatrixOperations#removeFullRows},
+     * so the colour array never allocates.
+     *
+     * @return A {@link ClearRow} describing the cleared lines.
+     */
+    @Override
+    public ClearRow clearRows() {
+        int linesCleared = 0;
+        for (int i = 0; i < height; i++) {
+            if (rows[i] == fullRow) {
+                clearedRowBuffer[linesCleared++] = i;
+                // Rotate the cleared row to the top: rows above slide down one slot
+                int[] recycled = boardMatrix[i];
+                System.arraycopy(boardMatrix, 0, boardMatrix, 1, i);
+                System.arraycopy(rows, 0, rows, 1, i);
+                Arrays.fill(recycled, 0);
+                boardMatrix[0] = recycled;
+                rows[0] = 0L;
+            }
+        }
+        if (linesCleared > 0) {
+            recomputeColumnTops();
+            changeJournal.markRows(0, clearedRowBuffer[linesCleared - 1]);
+            markChanged();
+        }
+        ClearRow clearRow = createClearRow(linesCleared);
+        onAfterClear();
+        return clearRow;
+    }
+
+    /**
+     * Rebuilds the row masks from the restored colour array.
+     */
+    @Override
+    protected void onStateRestored() {
+        for (int i = 0; i < height; i++) {
+            long mask = 0L;
+            for (int j = 0; j < width; j++) {
+                if (boardMatrix[i][j] != 0) {
+                    mask |= 1L << j;
+                }
+            }
+            rows[i] = mask;
+        }
+    }
+
+    /**
+     * Returns the colour side array, which mirrors the row masks.
+     *
+     * @return The 2D integer array representing the board colours.
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return boardMatrix;
+    }
+
+    /**
+     * Resets both the row masks and the colour array and starts a new game.
+     */
+    @Override
+    public void newGame() {
+        Arrays.fill(rows, 0L);
+        clearBoard();
+        score.reset();
+        createNewBrick();
+    }
+
+    /**
+     * Retrieves the occupancy mask of a single row (bit {@code c} set when column {@code c} is filled).
+     *
+     * @param row The row index.
+     * @return The row bitmask.
+     */
+    long getRowMask(int row) {
+        return rows[row];
+    }
+}
@@ -3,6 +3,7 @@ package com.comp2042.model.board;
 import com.comp2042.model.Score;
 import com.comp2042.model.state.ClearRow;
 import com.comp2042.model.state.ViewData;
+import com.comp2042.model.state.ViewSnapshot;
 
 /**
  * Defines the contract for the game board logic.
@@ -21,6 +22,18 @@ public interface Board {
      */
     boolean moveBrickDown();
 
+    /**
+     * Checks whether the active brick could move down one row, without moving it or building a view.
+     *
+     * @return true if the brick is still falling; false if it is resting on the floor or the stack.
+     */
+    boolean canMoveBrickDown();
+
+    /**
+     * @return The row of the active brick's top-left corner (0 at the top).
+     */
+    int getBrickRow();
+
     /**
      * Attempts to move the current active brick one column to the left.
      *
@@ -63,6 +76,28 @@ public interface Board {
      */
     ViewData getViewData();
 
+    /**
+     * Retrieves a read-only, non-copying view of the current state for the render path.
+     * <p>
+     * The returned object is reused by the board, so callers should render from it straight away
+     * rather than keep it around. Its {@link ViewSnapshot#version()} only changes when the state does.
+     * </p>
+     *
+     * @return The current {@link ViewSnapshot}.
+     */
+    ViewSnapshot getViewSnapshot();
+
+    /**
+     * Retrieves the journal of board rows that changed since the view last caught up.
+     * <p>
+     * Only changes to the matrix returned by {@link #getBoardMatrix()} are recorded (merges,
+     * clears, resets), not movement of the active brick.
+     * </p>
+     *
+     * @return The board's {@link ChangeJournal}.
+     */
+    ChangeJournal getChangeJournal();
+
     /**
      * Locks the current active brick into the static board matrix.
      * This is typically called when the brick lands and can no longer move.
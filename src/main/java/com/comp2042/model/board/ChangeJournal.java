@@ -0,0 +1,84 @@
+package com.comp2042.model.board;
+
+import java.util.BitSet;
+
+/**
+ * Records which rows of the locked board have changed since the view last consumed them.
+ * <p>
+ * The board marks rows as it merges bricks, clears lines or resets, and the background
+ * renderer walks only the dirty rows and then calls {@link #clear()}. Moving or rotating
+ * the active brick does not touch the locked board, so those events leave the journal empty
+ * and the background redraw costs nothing.
+ * </p>
+ */
+public final class ChangeJournal {
+
+    private final BitSet dirtyRows;
+    private final int rows;
+
+    /**
+     * Creates a journal for a board with the given number of rows. Everything starts dirty,
+     * so the first refresh paints the whole board.
+     *
+     * @param rows The board height.
+     */
+    public ChangeJournal(int rows) {
+        this.rows = rows;
+        this.dirtyRows = new BitSet(rows);
+        markAll();
+    }
+
+    /**
+     * Marks a range of rows as changed. Indices outside the board are ignored.
+     *
+     * @param fromRow The first changed row (inclusive).
+     * @param toRow   The last changed row (inclusive).
+     */
+    public void markRows(int fromRow, int toRow) {
+        int from = Math.max(0, fromRow);
+        int to = Math.min(rows - 1, toRow);
+        if (from <= to) {
+            dirtyRows.set(from, to + 1);
+        }
+    }
+
+    /**
+     * Marks every row as changed (e.g. after a reset or a full visibility toggle).
+     */
+    public void markAll() {
+        dirtyRows.set(0, rows);
+    }
+
+    /**
+     * Finds the next dirty row at or after the given index, for iterating with
+     * {@code for (int r = j.nextDirtyRow(0); r >= 0; r = j.nextDirtyRow(r + 1))}.
+     *
+     * @param fromRow The row to start searching from.
+     * @return The index of the next dirty row, or -1 if there are none.
+     */
+    public int nextDirtyRow(int fromRow) {
+        return dirtyRows.nextSetBit(fromRow);
+    }
+
+    /**
+     * @param row The row index.
+     * @return true if the row changed since the journal was last cleared.
+     */
+    public boolean isDirty(int row) {
+        return dirtyRows.get(row);
+    }
+
+    /**
+     * @return true if no rows changed since the journal was last cleared.
+     */
+    public boolean isEmpty() {
+        return dirtyRows.isEmpty();
+    }
+
+    /**
+     * Forgets all recorded changes. Called by the consumer once it has caught up.
+     */
+    public void clear() {
+        dirtyRows.clear();
+    }
+}
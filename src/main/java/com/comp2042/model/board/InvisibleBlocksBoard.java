@@ -1,6 +1,10 @@
 package com.comp2042.model.board;
 
+import com.comp2042.model.bricks.BrickGenerator;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+
 import java.util.Arrays;
+import java.util.function.LongSupplier;
 
 /**
  * A specialized Board implementation for the Challenge Mode.
@@ -9,10 +13,15 @@ import java.util.Arrays;
  * This class overrides the {@link #onAfterMerge()} and {@link #onAfterClear()} hooks
  * from {@link AbstractBoard} to synchronize the invisible "Render Board" with the logical board.
  * </p>
+ * <p>
+ * The reveal timer reads a millisecond clock that can be supplied at construction, so headless
+ * simulations can drive it from game ticks instead of the wall clock.
+ * </p>
  */
 public class InvisibleBlocksBoard extends AbstractBoard {
 
-    private int[][] renderBoard; // The "fake" board shown to the user
+    private final int[][] renderBoard; // The "fake" board shown to the user
+    private final LongSupplier clock; // milliseconds
 
     private boolean revealActive = false;
     private long revealStartTime = 0;
@@ -29,9 +38,33 @@ public class InvisibleBlocksBoard extends AbstractBoard {
      * @param width  The number of columns in the board.
      */
     public InvisibleBlocksBoard(int height, int width) {
-        super(height, width);
+        this(height, width, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructs a new InvisibleBlocksBoard whose reveal timer reads the given clock.
+     *
+     * @param height The number of rows in the board.
+     * @param width  The number of columns in the board.
+     * @param clock  Supplies the current time in milliseconds.
+     */
+    public InvisibleBlocksBoard(int height, int width, LongSupplier clock) {
+        this(height, width, new RandomBrickGenerator(), clock);
+    }
+
+    /**
+     * Constructs a new InvisibleBlocksBoard with an explicit piece source and clock.
+     *
+     * @param height         The number of rows in the board.
+     * @param width          The number of columns in the board.
+     * @param brickGenerator The source of new pieces.
+     * @param clock          Supplies the current time in milliseconds.
+     */
+    public InvisibleBlocksBoard(int height, int width, BrickGenerator brickGenerator, LongSupplier clock) {
+        super(height, width, brickGenerator);
         this.renderBoard = new int[height][width];
-        this.nextRevealTime = System.currentTimeMillis() + REVEAL_INTERVAL;
+        this.clock = clock;
+        this.nextRevealTime = clock.getAsLong() + REVEAL_INTERVAL;
     }
 
     /**
@@ -73,13 +106,20 @@ public class InvisibleBlocksBoard extends AbstractBoard {
         updateRenderBoard();
     }
 
+    /**
+     * Brings the render board in line with a restored logical board.
+     */
+    @Override
+    protected void onStateRestored() {
+        updateRenderBoard();
+    }
+
     // Helper to sync state
     private void updateRenderBoard() {
-        if (!revealActive) {
-            hideLockedBlocks();
-        } else {
+        if (revealActive) {
             copyBoard(boardMatrix, renderBoard);
         }
+        // While hidden the render board is already empty, so there is nothing to do
     }
 
     /**
@@ -87,11 +127,11 @@ public class InvisibleBlocksBoard extends AbstractBoard {
      */
     @Override
     public void newGame() {
-        boardMatrix = new int[height][width];
-        renderBoard = new int[height][width];
+        clearBoard();
+        hideLockedBlocks();
         score.reset();
         revealActive = false;
-        nextRevealTime = System.currentTimeMillis() + REVEAL_INTERVAL;
+        nextRevealTime = clock.getAsLong() + REVEAL_INTERVAL;
         createNewBrick();
     }
 
@@ -104,14 +144,16 @@ public class InvisibleBlocksBoard extends AbstractBoard {
 
     /* Checks the system time to toggle the visibility of the blocks. */
     private synchronized void updateRevealState() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.getAsLong();
         if (!revealActive && currentTime >= nextRevealTime) {
             revealActive = true;
             revealStartTime = currentTime;
             copyBoard(boardMatrix, renderBoard);
+            changeJournal.markAll();
             nextRevealTime = currentTime + REVEAL_INTERVAL;
         } else if (revealActive && (currentTime - revealStartTime >= REVEAL_DURATION)) {
             hideLockedBlocks();
+            changeJournal.markAll();
             revealActive = false;
         }
     }
@@ -140,7 +182,7 @@ public class InvisibleBlocksBoard extends AbstractBoard {
             lastCountdown = 0;
             return null;
         }
-        long timeLeft = (revealStartTime + REVEAL_DURATION) - System.currentTimeMillis();
+        long timeLeft = (revealStartTime + REVEAL_DURATION) - clock.getAsLong();
         int secondsLeft = (int) Math.ceil(timeLeft / 1000.0);
 
         // If within the 3-second window (3, 2, or 1)
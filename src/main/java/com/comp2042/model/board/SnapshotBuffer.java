@@ -0,0 +1,103 @@
+package com.comp2042.model.board;
+
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.model.state.ViewSnapshot;
+
+/**
+ * A double-buffered, reusable {@link ViewSnapshot} owned by a board.
+ * <p>
+ * Two mutable frames are allocated up front. Publishing writes into the back frame and then
+ * swaps, so the frame a consumer is currently holding is never overwritten by the very next
+ * publish. The board checks {@link #isCurrent(long)} first, so when its version has not changed
+ * since the last publish the front frame is handed back and nothing is recomputed or written.
+ * </p>
+ */
+final class SnapshotBuffer {
+
+    private Frame front = new Frame();
+    private Frame back = new Frame();
+
+    /**
+     * @param version The board's current state version.
+     * @return true if the front frame already describes that version.
+     */
+    boolean isCurrent(long version) {
+        return front.version == version;
+    }
+
+    /**
+     * @return The most recently published snapshot.
+     */
+    ViewSnapshot current() {
+        return front;
+    }
+
+    /**
+     * Writes the given state into the back frame and swaps it to the front.
+     *
+     * @return The newly published snapshot.
+     */
+    ViewSnapshot publish(long version, BrickShape brick, int x, int y, BrickShape next, int shadowY, BrickShape held) {
+        back.set(version, brick, x, y, next, shadowY, held);
+        Frame published = back;
+        back = front;
+        front = published;
+        return published;
+    }
+
+    // One of the two buffers; only SnapshotBuffer can write to it
+    private static final class Frame implements ViewSnapshot {
+        private long version = -1;
+        private BrickShape brick;
+        private int x;
+        private int y;
+        private BrickShape next;
+        private int shadowY;
+        private BrickShape held;
+
+        private void set(long version, BrickShape brick, int x, int y, BrickShape next, int shadowY, BrickShape held) {
+            this.version = version;
+            this.brick = brick;
+            this.x = x;
+            this.y = y;
+            this.next = next;
+            this.shadowY = shadowY;
+            this.held = held;
+        }
+
+        @Override
+        public BrickShape brickShape() {
+            return brick;
+        }
+
+        @Override
+        public int xPosition() {
+            return x;
+        }
+
+        @Override
+        public int yPosition() {
+            return y;
+        }
+
+        @Override
+        public BrickShape nextBrickShape() {
+            return next;
+        }
+
+        @Override
+        public int shadowYPosition() {
+            return shadowY;
+        }
+
+        @Override
+        public BrickShape heldBrickShape() {
+            return held;
+        }
+
+        @Override
+        public long version() {
+            return version;
+        }
+    }
+}
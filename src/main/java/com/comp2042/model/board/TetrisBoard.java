@@ -1,5 +1,7 @@
 package com.comp2042.model.board;
 
+import com.comp2042.model.bricks.BrickGenerator;
+
 /**
  * A standard implementation of the Tetris board.
  * <p>
@@ -20,6 +22,17 @@ public class TetrisBoard extends AbstractBoard {
         super(height, width);
     }
 
+    /**
+     * Creates a standard board that draws its pieces from the given generator.
+     *
+     * @param height         Board height in blocks.
+     * @param width          Board width in blocks.
+     * @param brickGenerator The source of new pieces.
+     */
+    public TetrisBoard(int height, int width, BrickGenerator brickGenerator) {
+        super(height, width, brickGenerator);
+    }
+
     /**
      * Returns the current state of the board grid.
      * @return The 2D integer array representing the board.
@@ -34,7 +47,7 @@ public class TetrisBoard extends AbstractBoard {
      */
     @Override
     public void newGame() {
-        boardMatrix = new int[height][width];
+        clearBoard();
         score.reset();
         createNewBrick();
     }
@@ -21,4 +21,34 @@ public interface Brick {
      * @return A list of 2D integer arrays representing the brick's possible shapes.
      */
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Identifies which Tetromino this brick is.
+     *
+     * @return The {@link BrickType} of this brick.
+     */
+    BrickType getType();
+
+    /**
+     * Retrieves a precomputed, read-only rotation state.
+     * <p>
+     * Unlike {@link #getShapeMatrix()}, this does not copy anything: all bricks of the same
+     * type share one immutable table of {@link BrickShape}s.
+     * </p>
+     *
+     * @param rotation The rotation index (0 to {@link #getRotationCount()} - 1).
+     * @return The shape for that rotation.
+     */
+    default BrickShape getShape(int rotation) {
+        return BrickShapeTable.rotationsOf(getType()).get(rotation);
+    }
+
+    /**
+     * Retrieves the number of distinct rotation states of this brick.
+     *
+     * @return The rotation count (e.g. 2 for the I-Brick, 4 for the T-Brick).
+     */
+    default int getRotationCount() {
+        return BrickShapeTable.rotationsOf(getType()).size();
+    }
 }
\ No newline at end of file
@@ -23,4 +23,29 @@ public interface BrickGenerator {
      * @return The Brick object scheduled to appear next.
      */
     Brick getNextBrick();
+
+    /**
+     * Peeks further down the queue without removing anything.
+     * <p>
+     * Depth 0 is the same brick as {@link #getNextBrick()}. Generators that keep only one brick
+     * of lookahead support nothing deeper.
+     * </p>
+     *
+     * @param depth How many bricks ahead to look, from 0 to {@link #getPreviewSize()} - 1.
+     * @return The brick at that depth.
+     * @throws IndexOutOfBoundsException If the generator does not look that far ahead.
+     */
+    default Brick getNextBrick(int depth) {
+        if (depth != 0) {
+            throw new IndexOutOfBoundsException("Preview depth " + depth + " not supported");
+        }
+        return getNextBrick();
+    }
+
+    /**
+     * @return How many upcoming bricks {@link #getNextBrick(int)} can see.
+     */
+    default int getPreviewSize() {
+        return 1;
+    }
 }
\ No newline at end of file
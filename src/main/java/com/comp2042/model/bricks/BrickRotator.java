@@ -21,18 +21,47 @@ public class BrickRotator {
      * @return A {@link NextShapeInfo} record containing the matrix of the next rotation and its index.
      */
     public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        int nextShape = getNextRotation();
+        return new NextShapeInfo(brick.getShape(nextShape).toMatrix(), nextShape);
+    }
+
+    /**
+     * Calculates the rotation index that a rotation would move to, without copying any shape data.
+     *
+     * @return The next rotation index (wrapping back to 0).
+     */
+    public int getNextRotation() {
+        return (currentShape + 1) % brick.getRotationCount();
     }
 
     /**
      * Retrieves the matrix representation of the brick in its current rotation.
      *
-     * @return A 2D integer array representing the brick's shape.
+     * @return A copy of the 2D integer array representing the brick's shape.
      */
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return getCurrentBrickShape().toMatrix();
+    }
+
+    /**
+     * Retrieves the shared, precomputed shape of the brick in its current rotation.
+     * <p>
+     * This is the allocation-free variant used by movement, collision and rendering.
+     * </p>
+     *
+     * @return The read-only {@link BrickShape} for the current rotation.
+     */
+    public BrickShape getCurrentBrickShape() {
+        return brick.getShape(currentShape);
+    }
+
+    /**
+     * Retrieves the current rotation index.
+     *
+     * @return The rotation index of the active brick.
+     */
+    public int getCurrentRotation() {
+        return currentShape;
     }
 
     /**
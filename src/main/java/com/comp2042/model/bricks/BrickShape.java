@@ -0,0 +1,151 @@
+package com.comp2042.model.bricks;
+
+import com.comp2042.util.MatrixOperations;
+
+import java.util.Arrays;
+
+/**
+ * An immutable, precomputed view of one rotation state of a brick.
+ * <p>
+ * Besides the raw cell values, each shape caches the data the hot paths need so they never
+ * have to rescan or copy the matrix: a bitmask per row (bit {@code c} set when column {@code c}
+ * is filled), the bounding box of the filled cells, and a per-column <em>bottom profile</em>
+ * (the lowest filled row in each column, used for landing calculations).
+ * </p>
+ * <p>
+ * Instances are shared between all bricks of the same {@link BrickType} (Flyweight), so the
+ * underlying array is never handed out; use {@link #getCell(int, int)} or {@link #toMatrix()}.
+ * </p>
+ */
+public final class BrickShape {
+
+    private final int[][] cells;
+    private final int[] rowMasks;
+    private final int[] bottomProfile;
+    private final int minRow;
+    private final int maxRow;
+    private final int minCol;
+    private final int maxCol;
+    private final int colorId;
+    private final int cellCount;
+
+    /**
+     * Precomputes the masks, bounding box and bottom profile for a shape matrix.
+     *
+     * @param matrix The rotation state matrix (copied, not retained).
+     */
+    BrickShape(int[][] matrix) {
+        this.cells = MatrixOperations.copy(matrix);
+        int columns = cells.length == 0 ? 0 : cells[0].length;
+        this.rowMasks = new int[cells.length];
+        this.bottomProfile = new int[columns];
+        Arrays.fill(bottomProfile, -1);
+
+        int top = Integer.MAX_VALUE, bottom = -1, left = Integer.MAX_VALUE, right = -1;
+        int color = 0, count = 0;
+        for (int r = 0; r < cells.length; r++) {
+            for (int c = 0; c < cells[r].length; c++) {
+                if (cells[r][c] != 0) {
+                    rowMasks[r] |= 1 << c;
+                    bottomProfile[c] = r; // rows are scanned top-down, so the last hit is the lowest
+                    top = Math.min(top, r);
+                    bottom = Math.max(bottom, r);
+                    left = Math.min(left, c);
+                    right = Math.max(right, c);
+                    color = cells[r][c];
+                    count++;
+                }
+            }
+        }
+        this.minRow = count == 0 ? 0 : top;
+        this.maxRow = bottom;
+        this.minCol = count == 0 ? 0 : left;
+        this.maxCol = right;
+        this.colorId = color;
+        this.cellCount = count;
+    }
+
+    /**
+     * @return The number of rows in the shape matrix (4 for all standard bricks).
+     */
+    public int getRows() {
+        return cells.length;
+    }
+
+    /**
+     * @return The number of columns in the shape matrix (4 for all standard bricks).
+     */
+    public int getColumns() {
+        return bottomProfile.length;
+    }
+
+    /**
+     * Reads a single cell of the shape.
+     *
+     * @param row    The row within the shape matrix.
+     * @param column The column within the shape matrix.
+     * @return The colour ID at that cell, or 0 if empty.
+     */
+    public int getCell(int row, int column) {
+        return cells[row][column];
+    }
+
+    /**
+     * Retrieves the occupancy bitmask of one shape row.
+     *
+     * @param row The row within the shape matrix.
+     * @return A mask with bit {@code c} set when column {@code c} of that row is filled.
+     */
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     * Retrieves the lowest filled row in a column of the shape.
+     *
+     * @param column The column within the shape matrix.
+     * @return The row index of the lowest filled cell, or -1 if the column is empty.
+     */
+    public int getBottom(int column) {
+        return bottomProfile[column];
+    }
+
+    /** @return The topmost row containing a filled cell. */
+    public int getMinRow() {
+        return minRow;
+    }
+
+    /** @return The bottommost row containing a filled cell (-1 for an empty shape). */
+    public int getMaxRow() {
+        return maxRow;
+    }
+
+    /** @return The leftmost column containing a filled cell. */
+    public int getMinColumn() {
+        return minCol;
+    }
+
+    /** @return The rightmost column containing a filled cell (-1 for an empty shape). */
+    public int getMaxColumn() {
+        return maxCol;
+    }
+
+    /** @return The colour ID used by the filled cells of this shape. */
+    public int getColorId() {
+        return colorId;
+    }
+
+    /** @return The number of filled cells (4 for all standard bricks). */
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    /**
+     * Creates a mutable copy of the shape matrix for callers that need a plain array.
+     *
+     * @return A new 2D array with the shape's cell values.
+     */
+    public int[][] toMatrix() {
+        return MatrixOperations.copy(cells);
+    }
+}
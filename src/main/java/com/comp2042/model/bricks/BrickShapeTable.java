@@ -0,0 +1,54 @@
+package com.comp2042.model.bricks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared, precomputed rotation tables for every {@link BrickType} (Flyweight).
+ * <p>
+ * The table is built once when the class is loaded, from the matrices defined by the
+ * concrete brick classes. After that every brick of a given type reads the same immutable
+ * {@link BrickShape} instances, so moving, rotating or previewing a brick never copies a matrix.
+ * </p>
+ */
+final class BrickShapeTable {
+
+    // Indexed by BrickType ordinal
+    private static final List<List<BrickShape>> TABLE;
+
+    static {
+        List<List<BrickShape>> table = new ArrayList<>();
+        for (int i = 0; i < BrickType.values().length; i++) {
+            table.add(List.of());
+        }
+        register(table, new IBrick());
+        register(table, new JBrick());
+        register(table, new LBrick());
+        register(table, new OBrick());
+        register(table, new SBrick());
+        register(table, new TBrick());
+        register(table, new ZBrick());
+        TABLE = List.copyOf(table);
+    }
+
+    private BrickShapeTable() {
+    }
+
+    private static void register(List<List<BrickShape>> table, Brick brick) {
+        List<BrickShape> rotations = new ArrayList<>();
+        for (int[][] matrix : brick.getShapeMatrix()) {
+            rotations.add(new BrickShape(matrix));
+        }
+        table.set(brick.getType().ordinal(), List.copyOf(rotations));
+    }
+
+    /**
+     * Retrieves the precomputed rotation states of a brick type.
+     *
+     * @param type The brick type.
+     * @return An immutable list of shapes, one per rotation state (empty for {@link BrickType#EMPTY}).
+     */
+    static List<BrickShape> rotationsOf(BrickType type) {
+        return TABLE.get(type.ordinal());
+    }
+}
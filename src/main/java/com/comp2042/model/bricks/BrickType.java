@@ -21,6 +21,22 @@ public enum BrickType {
 
     private final int id;
 
+    // Indexed by ID, so a lookup is one array read
+    private static final BrickType[] BY_ID;
+
+    static {
+        BrickType[] types = values();
+        int maxId = 0;
+        for (BrickType type : types) {
+            maxId = Math.max(maxId, type.id);
+        }
+        BY_ID = new BrickType[maxId + 1];
+        Arrays.fill(BY_ID, EMPTY);
+        for (BrickType type : types) {
+            BY_ID[type.id] = type;
+        }
+    }
+
     BrickType(int id) {
         this.id = id;
     }
@@ -33,15 +49,32 @@ public enum BrickType {
         return id;
     }
 
+    /**
+     * Creates a brick of this type. Bricks hold no state of their own: the matrices and the
+     * precomputed shapes are built once per type and shared, so this is cheap.
+     *
+     * @return A new brick.
+     * @throws IllegalStateException For {@link #EMPTY}, which has no brick.
+     */
+    public Brick createBrick() {
+        return switch (this) {
+            case I -> new IBrick();
+            case J -> new JBrick();
+            case L -> new LBrick();
+            case O -> new OBrick();
+            case S -> new SBrick();
+            case T -> new TBrick();
+            case Z -> new ZBrick();
+            case EMPTY -> throw new IllegalStateException("EMPTY has no brick");
+        };
+    }
+
     /**
      * Lookup method to convert an integer ID back to a BrickType.
      * @param id The integer ID from the board matrix.
      * @return The corresponding BrickType, or EMPTY if not found.
      */
     public static BrickType fromID(int id) {
-        return Arrays.stream(values())
-                .filter(type -> type.id == id)
-                .findFirst()
-                .orElse(EMPTY);
+        return id >= 0 && id < BY_ID.length ? BY_ID[id] : EMPTY;
     }
 }
\ No newline at end of file
@@ -13,9 +13,11 @@ import java.util.List;
  */
 public final class IBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+    // Built once for the class, so creating a brick allocates nothing
+    private static final List<int[][]> SHAPES = buildShapes();
 
-    public IBrick() {
+    private static List<int[][]> buildShapes() {
+        List<int[][]> brickMatrix = new ArrayList<>();
         int id = BrickType.I.getID(); // Replace Magic Number "1"
 
         // Horizontal State
@@ -32,6 +34,7 @@ public final class IBrick implements Brick {
                 {0, 0, id, 0},
                 {0, 0, id, 0}
         });
+        return List.copyOf(brickMatrix);
     }
 
 
@@ -42,6 +45,11 @@ public final class IBrick implements Brick {
      */
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return MatrixOperations.deepCopyList(SHAPES);
     }
-}
\ No newline at end of file
+
+    @Override
+    public BrickType getType() {
+        return BrickType.I;
+    }
+}
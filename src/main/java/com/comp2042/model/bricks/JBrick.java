@@ -13,9 +13,11 @@ import java.util.List;
  */
 final class JBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+    // Built once for the class, so creating a brick allocates nothing
+    private static final List<int[][]> SHAPES = buildShapes();
 
-    public JBrick() {
+    private static List<int[][]> buildShapes() {
+        List<int[][]> brickMatrix = new ArrayList<>();
         int id = BrickType.J.getID(); // Replace Magic Number "2"
 
         brickMatrix.add(new int[][]{
@@ -42,10 +44,16 @@ final class JBrick implements Brick {
                 {id, id, 0, 0},
                 {0, 0, 0, 0}
         });
+        return List.copyOf(brickMatrix);
     }
 
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return MatrixOperations.deepCopyList(SHAPES);
     }
-}
\ No newline at end of file
+
+    @Override
+    public BrickType getType() {
+        return BrickType.J;
+    }
+}
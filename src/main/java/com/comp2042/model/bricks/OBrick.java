@@ -13,9 +13,11 @@ import java.util.List;
  */
 final class OBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+    // Built once for the class, so creating a brick allocates nothing
+    private static final List<int[][]> SHAPES = buildShapes();
 
-    public OBrick() {
+    private static List<int[][]> buildShapes() {
+        List<int[][]> brickMatrix = new ArrayList<>();
         int id = BrickType.O.getID(); // Replace Magic Number "4"
 
         brickMatrix.add(new int[][]{
@@ -24,10 +26,16 @@ final class OBrick implements Brick {
                 {0, id, id, 0},
                 {0, 0, 0, 0}
         });
+        return List.copyOf(brickMatrix);
     }
 
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return MatrixOperations.deepCopyList(SHAPES);
     }
-}
\ No newline at end of file
+
+    @Override
+    public BrickType getType() {
+        return BrickType.O;
+    }
+}
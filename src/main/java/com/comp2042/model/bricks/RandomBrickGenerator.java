@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * A concrete implementation of {@link BrickGenerator} that produces bricks randomly.
@@ -12,17 +13,33 @@ import java.util.concurrent.ThreadLocalRandom;
  * Maintains a queue of upcoming bricks to allow for a "Next Piece" preview.
  * Uses a bag-style randomization or simple random selection from the available brick types.
  * </p>
+ * <p>
+ * By default picks come from {@link ThreadLocalRandom}; pass a seeded {@link RandomGenerator}
+ * to get a reproducible piece sequence.
+ * </p>
  */
 public class RandomBrickGenerator implements BrickGenerator {
 
     private final List<Brick> brickList;
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
+    private final RandomGenerator random; // null = ThreadLocalRandom of the calling thread
 
     /**
      * Initializes the generator with all standard Tetris brick types.
      * Pre-populates the queue with the first set of bricks.
      */
     public RandomBrickGenerator() {
+        this(null);
+    }
+
+    /**
+     * Initializes the generator with a specific source of randomness.
+     *
+     * @param random The generator used for every pick (e.g. {@code new SplittableRandom(seed)}),
+     *               or null to use {@link ThreadLocalRandom}.
+     */
+    public RandomBrickGenerator(RandomGenerator random) {
+        this.random = random;
         brickList = new ArrayList<>();
         brickList.add(new IBrick());
         brickList.add(new JBrick());
@@ -33,8 +50,8 @@ public class RandomBrickGenerator implements BrickGenerator {
         brickList.add(new ZBrick());
 
         // Initialize queue
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+        nextBricks.add(pick());
+        nextBricks.add(pick());
     }
 
     /**
@@ -45,7 +62,7 @@ public class RandomBrickGenerator implements BrickGenerator {
     @Override
     public Brick getBrick() {
         if (nextBricks.size() <= 1) {
-            nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+            nextBricks.add(pick());
         }
         return nextBricks.poll();
     }
@@ -59,4 +76,10 @@ public class RandomBrickGenerator implements BrickGenerator {
     public Brick getNextBrick() {
         return nextBricks.peek();
     }
+
+    private Brick pick() {
+        // ThreadLocalRandom.current() must be fetched on the calling thread, so it is never stored
+        RandomGenerator source = random != null ? random : ThreadLocalRandom.current();
+        return brickList.get(source.nextInt(brickList.size()));
+    }
 }
\ No newline at end of file
@@ -13,9 +13,11 @@ import java.util.List;
  */
 final class SBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+    // Built once for the class, so creating a brick allocates nothing
+    private static final List<int[][]> SHAPES = buildShapes();
 
-    public SBrick() {
+    private static List<int[][]> buildShapes() {
+        List<int[][]> brickMatrix = new ArrayList<>();
         int id = BrickType.S.getID(); // Replace Magic Number "5"
 
         brickMatrix.add(new int[][]{
@@ -30,10 +32,16 @@ final class SBrick implements Brick {
                 {0, 0, id, 0},
                 {0, 0, 0, 0}
         });
+        return List.copyOf(brickMatrix);
     }
 
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return MatrixOperations.deepCopyList(SHAPES);
     }
-}
\ No newline at end of file
+
+    @Override
+    public BrickType getType() {
+        return BrickType.S;
+    }
+}
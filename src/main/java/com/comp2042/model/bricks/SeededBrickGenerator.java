@@ -0,0 +1,196 @@
+package com.comp2042.model.bricks;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A reproducible {@link BrickGenerator} driven by an explicit seed.
+ * <p>
+ * The same seed, mode and preview size always produce the same piece sequence, on any thread or
+ * JVM, which is what replays, bots and tests need. Randomness comes from a SplitMix64 state held
+ * in a single {@code long}, so the generator has no dependency on {@code java.util.Random}.
+ * </p>
+ * <p>
+ * Two selection modes are supported:
+ * </p>
+ * <ul>
+ * <li>{@link Mode#UNIFORM}: every piece is an independent pick (what {@link RandomBrickGenerator} does).</li>
+ * <li>{@link Mode#BAG}: the seven pieces are shuffled into a "bag" and dealt out before the next
+ * shuffle, so droughts are bounded.</li>
+ * </ul>
+ * <p>
+ * Upcoming pieces sit in a fixed ring buffer of 1 to {@value #MAX_PREVIEW} entries, so peeking at
+ * any depth is a single array read and nothing is allocated after construction.
+ * </p>
+ */
+public final class SeededBrickGenerator implements BrickGenerator {
+
+    /** How pieces are picked. */
+    public enum Mode { UNIFORM, BAG }
+
+    public static final int MIN_PREVIEW = 1;
+    public static final int MAX_PREVIEW = 6;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final Brick[] bricks = {
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
+    private final Mode mode;
+    private long seed;
+    private long state;
+
+    private final Brick[] queue; // ring buffer of upcoming bricks
+    private int head;
+
+    private final int[] bag; // brick indices, dealt from bagPosition onwards
+    private int bagPosition;
+
+    /**
+     * Creates a uniform generator with one brick of preview.
+     *
+     * @param seed The seed.
+     */
+    public SeededBrickGenerator(long seed) {
+        this(seed, Mode.UNIFORM, MIN_PREVIEW);
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param seed        The seed.
+     * @param mode        How pieces are picked.
+     * @param previewSize Number of upcoming bricks visible through {@link #getNextBrick(int)} (1 to 6).
+     * @throws IllegalArgumentException If the preview size is out of range.
+     */
+    public SeededBrickGenerator(long seed, Mode mode, int previewSize) {
+        if (previewSize < MIN_PREVIEW || previewSize > MAX_PREVIEW) {
+            throw new IllegalArgumentException("Preview size must be " + MIN_PREVIEW + "-" + MAX_PREVIEW + ", got " + previewSize);
+        }
+        this.mode = mode;
+        this.queue = new Brick[previewSize];
+        this.bag = new int[bricks.length];
+        reseed(seed);
+    }
+
+    /**
+     * Restarts the sequence from a new seed, exactly as if the generator had just been
+     * created with it. Used to start each game of a session from its own recorded seed.
+     *
+     * @param seed The new seed.
+     */
+    public void reseed(long seed) {
+        this.seed = seed;
+        this.state = seed;
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = i;
+        }
+        bagPosition = bag.length; // shuffle on first draw
+        head = 0;
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = pick();
+        }
+    }
+
+    /**
+     * Hands out the front of the queue and refills its slot at the back.
+     */
+    @Override
+    public Brick getBrick() {
+        Brick brick = queue[head];
+        queue[head] = pick();
+        head = (head + 1) % queue.length;
+        return brick;
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return queue[head];
+    }
+
+    @Override
+    public Brick getNextBrick(int depth) {
+        if (depth < 0 || depth >= queue.length) {
+            throw new IndexOutOfBoundsException("Preview depth " + depth + " outside 0-" + (queue.length - 1));
+        }
+        return queue[(head + depth) % queue.length];
+    }
+
+    @Override
+    public int getPreviewSize() {
+        return queue.length;
+    }
+
+    /**
+     * Writes the full generator state (seed, random state, bag and preview queue), so a game can
+     * resume from a keyframe with exactly the pieces it would have seen.
+     *
+     * @param out The buffer to write to.
+     */
+    public void writeState(ByteBuffer out) {
+        out.putLong(seed).putLong(state);
+        for (int index : bag) {
+            out.put((byte) index);
+        }
+        out.put((byte) bagPosition);
+        out.put((byte) queue.length);
+        for (int i = 0; i < queue.length; i++) {
+            out.put((byte) getNextBrick(i).getType().getID());
+        }
+    }
+
+    /**
+     * Restores a state written by {@link #writeState(ByteBuffer)}.
+     *
+     * @param in The buffer to read from.
+     * @throws IllegalArgumentException If the state was written with a different preview size.
+     */
+    public void readState(ByteBuffer in) {
+        seed = in.getLong();
+        state = in.getLong();
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = in.get();
+        }
+        bagPosition = in.get();
+        int previewSize = in.get();
+        if (previewSize != queue.length) {
+            throw new IllegalArgumentException("State has " + previewSize + " preview slots, generator has " + queue.length);
+        }
+        head = 0;
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = bricks[in.get() - 1]; // bricks are stored in id order
+        }
+    }
+
+    public long getSeed() { return seed; }
+    public Mode getMode() { return mode; }
+
+    private Brick pick() {
+        if (mode == Mode.UNIFORM) {
+            return bricks[nextInt(bricks.length)];
+        }
+        if (bagPosition == bag.length) {
+            // Fisher-Yates, in place
+            for (int i = bag.length - 1; i > 0; i--) {
+                int j = nextInt(i + 1);
+                int tmp = bag[i];
+                bag[i] = bag[j];
+                bag[j] = tmp;
+            }
+            bagPosition = 0;
+        }
+        return bricks[bag[bagPosition++]];
+    }
+
+    /* SplitMix64 step. */
+    private long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /* Maps the top 32 bits onto [0, bound); the bias for bounds this small is negligible. */
+    private int nextInt(int bound) {
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+}
@@ -13,9 +13,11 @@ import java.util.List;
  */
 public final class TBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+    // Built once for the class, so creating a brick allocates nothing
+    private static final List<int[][]> SHAPES = buildShapes();
 
-    public TBrick() {
+    private static List<int[][]> buildShapes() {
+        List<int[][]> brickMatrix = new ArrayList<>();
         int id = BrickType.T.getID(); // Replace Magic Number "6"
 
         brickMatrix.add(new int[][]{
@@ -42,10 +44,16 @@ public final class TBrick implements Brick {
                 {0, id, 0, 0},
                 {0, 0, 0, 0}
         });
+        return List.copyOf(brickMatrix);
     }
 
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return MatrixOperations.deepCopyList(SHAPES);
     }
-}
\ No newline at end of file
+
+    @Override
+    public BrickType getType() {
+        return BrickType.T;
+    }
+}
@@ -0,0 +1,196 @@
+package com.comp2042.model.engine;
+
+/**
+ * Delayed auto shift (DAS), auto repeat rate (ARR) and soft drop speed for held keys.
+ * <p>
+ * Held-key movement no longer depends on the operating system's key repeat. The input layer
+ * reports presses and releases, and the game loop calls {@link #update} once per fixed step.
+ * Holding a direction moves once on the press, again after the DAS delay, and then every ARR
+ * interval; an ARR of 0 slides the piece straight to the wall. Holding soft drop moves down
+ * {@link #getSoftDropFactor() factor} times faster than gravity.
+ * </p>
+ * <p>
+ * The charge survives a piece locking, so a held direction carries straight into the next
+ * piece, as in most modern games. Not thread-safe: presses and updates come from the same thread.
+ * </p>
+ */
+public final class AutoShift {
+
+    public static final int DEFAULT_DAS_MILLIS = 167; // 10 frames at 60 Hz
+    public static final int DEFAULT_ARR_MILLIS = 33;  // 2 frames
+    public static final int DEFAULT_SOFT_DROP_FACTOR = 20;
+    public static final int MAX_DAS_MILLIS = 500;
+    public static final int MAX_ARR_MILLIS = 200;
+    public static final int MAX_SOFT_DROP_FACTOR = 40;
+
+    // Soft drop can't outrun the board: this many rows per step at most
+    private static final int MAX_SOFT_DROPS_PER_STEP = 25;
+
+    /**
+     * Where the repeated moves go.
+     */
+    public interface Actions {
+        /**
+         * @param direction -1 for left, +1 for right.
+         * @return true if the piece moved.
+         */
+        boolean shift(int direction);
+
+        /**
+         * @param direction -1 for left, +1 for right.
+         */
+        void shiftToWall(int direction);
+
+        /** Moves the piece down one row on the player's behalf. */
+        void softDrop();
+    }
+
+    private long dasNanos = millisToNanos(DEFAULT_DAS_MILLIS);
+    private long arrNanos = millisToNanos(DEFAULT_ARR_MILLIS);
+    private int softDropFactor = DEFAULT_SOFT_DROP_FACTOR;
+
+    private boolean leftHeld;
+    private boolean rightHeld;
+    private int direction;    // -1, 0 or +1: the direction currently charging
+    private long charge;      // how long the current direction has been held
+    private long repeatsDone; // moves made since DAS ran out
+    private boolean softDropHeld;
+    private long softDropElapsed;
+
+    /**
+     * @param millis Delay before auto repeat starts, clamped to [0, {@value #MAX_DAS_MILLIS}].
+     */
+    public void setDasMillis(int millis) {
+        dasNanos = millisToNanos(Math.clamp(millis, 0, MAX_DAS_MILLIS));
+    }
+
+    /**
+     * @param millis Interval between repeated moves, clamped to [0, {@value #MAX_ARR_MILLIS}]; 0 means instant to wall.
+     */
+    public void setArrMillis(int millis) {
+        arrNanos = millisToNanos(Math.clamp(millis, 0, MAX_ARR_MILLIS));
+    }
+
+    /**
+     * @param factor How many times faster than gravity soft drop moves, clamped to [1, {@value #MAX_SOFT_DROP_FACTOR}].
+     */
+    public void setSoftDropFactor(int factor) {
+        softDropFactor = Math.clamp(factor, 1, MAX_SOFT_DROP_FACTOR);
+    }
+
+    public int getDasMillis() { return (int) (dasNanos / 1_000_000); }
+    public int getArrMillis() { return (int) (arrNanos / 1_000_000); }
+    public int getSoftDropFactor() { return softDropFactor; }
+
+    /**
+     * Records a left or right key going down. The newest direction wins while both are held.
+     *
+     * @param dir -1 for left, +1 for right.
+     * @return true for a fresh press (the caller makes the first move), false if the key was
+     *         already held (an OS key-repeat event, ignored).
+     */
+    public boolean press(int dir) {
+        if (dir < 0 ? leftHeld : rightHeld) {
+            return false;
+        }
+        if (dir < 0) {
+            leftHeld = true;
+        } else {
+            rightHeld = true;
+        }
+        startCharging(dir);
+        return true;
+    }
+
+    /**
+     * Records a left or right key coming up. If the other direction is still held, it takes
+     * over and starts charging from zero.
+     *
+     * @param dir -1 for left, +1 for right.
+     */
+    public void release(int dir) {
+        if (dir < 0) {
+            leftHeld = false;
+        } else {
+            rightHeld = false;
+        }
+        if (direction == dir) {
+            startCharging(leftHeld ? -1 : rightHeld ? 1 : 0);
+        }
+    }
+
+    /**
+     * Records the soft drop key going down.
+     *
+     * @return true for a fresh press (the caller makes the first move), false for a repeat.
+     */
+    public boolean pressSoftDrop() {
+        if (softDropHeld) {
+            return false;
+        }
+        softDropHeld = true;
+        softDropElapsed = 0;
+        return true;
+    }
+
+    /** Records the soft drop key coming up. */
+    public void releaseSoftDrop() {
+        softDropHeld = false;
+    }
+
+    /**
+     * Forgets every held key, e.g. when the game is paused and key releases may be missed.
+     */
+    public void reset() {
+        leftHeld = false;
+        rightHeld = false;
+        softDropHeld = false;
+        startCharging(0);
+    }
+
+    /**
+     * Advances the held keys by one step and makes any moves that fell due.
+     *
+     * @param elapsedNanos  Length of the step.
+     * @param gravityMillis The current gravity interval, which the soft drop factor divides.
+     * @param actions       Receives the moves.
+     */
+    public void update(long elapsedNanos, double gravityMillis, Actions actions) {
+        if (direction != 0) {
+            charge += elapsedNanos;
+            if (charge >= dasNanos) {
+                if (arrNanos == 0) {
+                    actions.shiftToWall(direction);
+                } else {
+                    long due = (charge - dasNanos) / arrNanos + 1;
+                    while (repeatsDone < due) {
+                        repeatsDone++;
+                        if (!actions.shift(direction)) {
+                            repeatsDone = due; // against something; try again next interval
+                        }
+                    }
+                }
+            }
+        }
+
+        if (softDropHeld) {
+            long interval = Math.max(1L, (long) (gravityMillis * 1_000_000 / softDropFactor));
+            softDropElapsed += elapsedNanos;
+            for (int i = 0; softDropElapsed >= interval && i < MAX_SOFT_DROPS_PER_STEP; i++) {
+                softDropElapsed -= interval;
+                actions.softDrop();
+            }
+            softDropElapsed = Math.min(softDropElapsed, interval);
+        }
+    }
+
+    private void startCharging(int dir) {
+        direction = dir;
+        charge = 0;
+        repeatsDone = 0;
+    }
+
+    private static long millisToNanos(int millis) {
+        return millis * 1_000_000L;
+    }
+}
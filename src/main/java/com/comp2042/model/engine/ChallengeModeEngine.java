@@ -0,0 +1,64 @@
+package com.comp2042.model.engine;
+
+import com.comp2042.model.board.Board;
+import com.comp2042.model.board.InvisibleBlocksBoard;
+import com.comp2042.model.state.ClearRow;
+
+/**
+ * The rules of "Challenge Mode".
+ * <ul>
+ * <li>Usually runs on an {@link InvisibleBlocksBoard} where blocks disappear.</li>
+ * <li>Doubles the score for every action.</li>
+ * <li>Reports the reveal countdown through {@link GameEngineListener#onNotification(String)}.</li>
+ * </ul>
+ */
+public class ChallengeModeEngine extends GameEngine {
+
+    /**
+     * Creates a Challenge Mode engine on the standard 25x11 invisible board.
+     */
+    public ChallengeModeEngine() {
+        this(new InvisibleBlocksBoard(25, 11));
+    }
+
+    /**
+     * Creates a Challenge Mode engine on the given board.
+     *
+     * @param board The board to play on.
+     */
+    public ChallengeModeEngine(Board board) {
+        super(board);
+    }
+
+    @Override
+    protected int softDropPoints() {
+        return 2; // Double Score
+    }
+
+    @Override
+    protected int hardDropPoints(int rowsDropped) {
+        return rowsDropped * 4;
+    }
+
+    @Override
+    protected int calculateScore(ClearRow clearRow) {
+        return clearRow.scoreBonus() * 2;
+    }
+
+    @Override
+    protected void beforeDown() {
+        if (board instanceof InvisibleBlocksBoard invisibleBoard) {
+            String countdown = invisibleBoard.getCountdown();
+            if (countdown != null) {
+                listener().onNotification(countdown);
+            }
+        }
+    }
+
+    @Override
+    protected void onGameOver() {
+        if (board instanceof InvisibleBlocksBoard invisibleBoard) {
+            invisibleBoard.stopGame();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.comp2042.model.engine;
+
+import com.comp2042.model.event.EventSource;
+import com.comp2042.model.event.EventType;
+import com.comp2042.model.event.InputEventListener;
+import com.comp2042.model.event.MoveEvent;
+import com.comp2042.model.state.DownData;
+import com.comp2042.model.state.ViewSnapshot;
+
+/**
+ * An {@link InputEventListener} that drives a {@link GameEngine} with no view attached.
+ * <p>
+ * Lets anything written against the listener interface (replays, scripted input) run headless,
+ * with the same input-to-engine mapping the JavaFX controllers use.
+ * </p>
+ */
+public class EngineInputListener implements InputEventListener {
+
+    private final GameEngine engine;
+
+    public EngineInputListener(GameEngine engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        return new DownData(event.eventSource() == EventSource.USER ? engine.softDrop() : engine.tick(),
+                engine.getViewSnapshot());
+    }
+
+    @Override
+    public ViewSnapshot onLeftEvent(MoveEvent event) {
+        engine.moveLeft();
+        return engine.getViewSnapshot();
+    }
+
+    @Override
+    public ViewSnapshot onRightEvent(MoveEvent event) {
+        engine.moveRight();
+        return engine.getViewSnapshot();
+    }
+
+    @Override
+    public boolean onShiftEvent(MoveEvent event) {
+        return event.eventType() == EventType.LEFT ? engine.moveLeft() : engine.moveRight();
+    }
+
+    @Override
+    public ViewSnapshot onShiftToWallEvent(MoveEvent event) {
+        engine.shiftToWall(event.eventType() == EventType.LEFT ? -1 : 1);
+        return engine.getViewSnapshot();
+    }
+
+    @Override
+    public DownData onLockDelayStep(long elapsedNanos) {
+        return engine.updateLockDelay(elapsedNanos) ? onLockEvent() : null;
+    }
+
+    @Override
+    public DownData onLockEvent() {
+        return new DownData(engine.lock(), engine.getViewSnapshot());
+    }
+
+    @Override
+    public ViewSnapshot onRotateEvent(MoveEvent event) {
+        engine.rotate();
+        return engine.getViewSnapshot();
+    }
+
+    @Override
+    public void createNewGame() {
+        engine.newGame();
+    }
+
+    @Override
+    public void onQuit() {
+        // nothing to release
+    }
+
+    @Override
+    public ViewSnapshot getViewSnapshot() {
+        return engine.getViewSnapshot();
+    }
+
+    @Override
+    public DownData onHardDropEvent() {
+        return new DownData(engine.hardDrop(), engine.getViewSnapshot());
+    }
+
+    @Override
+    public int[][] getBoard() {
+        return engine.getBoard().getBoardMatrix();
+    }
+
+    @Override
+    public ViewSnapshot onHoldEvent() {
+        engine.hold();
+        return engine.getViewSnapshot();
+    }
+
+    public GameEngine getEngine() { return engine; }
+}
@@ -0,0 +1,396 @@
+package com.comp2042.model.engine;
+
+import com.comp2042.model.Score;
+import com.comp2042.model.board.AbstractBoard;
+import com.comp2042.model.board.Board;
+import com.comp2042.model.state.ClearRow;
+import com.comp2042.model.state.ViewSnapshot;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Runs the rules of a game mode on top of a {@link Board}, with no dependency on JavaFX.
+ * <p>
+ * The engine is driven through a plain call API: one {@link #tick()} per gravity step, plus the
+ * player actions ({@link #moveLeft()}, {@link #softDrop()}, {@link #hardDrop()}, ...). Nothing here
+ * reads a clock or touches the UI, so the same engine backs the JavaFX controllers and headless
+ * runners (simulations, bots, CI) alike. Events the UI needs to react to are reported through a
+ * {@link GameEngineListener}.
+ * </p>
+ * <p>
+ * Like the old controllers, this uses the Template Method pattern: the landing sequence is fixed
+ * here, while subclasses supply the scoring rules through the hook methods.
+ * </p>
+ * <p>
+ * By default a piece locks the moment it lands. With {@link #setLockDelay(int)} it rests instead,
+ * and only locks once the caller's clock runs the {@link LockDelay} out ({@link #updateLockDelay}
+ * then {@link #lock()}) or it is hard dropped; gravity and soft drop never lock it.
+ * </p>
+ */
+public abstract class GameEngine {
+
+    protected final Board board;
+    private GameEngineListener listener = GameEngineListener.NONE;
+    private boolean gameOver;
+    private long tickCount;
+    private int piecesPlaced;
+    private int linesCleared;
+    private int keyframeInterval; // pieces between keyframes, 0 = off
+    private LockDelay lockDelay;  // null = lock on landing
+
+    /**
+     * Creates an engine for the given board and spawns the first piece.
+     *
+     * @param board The board this engine plays on.
+     */
+    protected GameEngine(Board board) {
+        this.board = board;
+        if (board.createNewBrick()) {
+            gameOver = true; // only possible on a pre-filled board
+        }
+    }
+
+    /**
+     * Sets the listener notified of engine events.
+     *
+     * @param listener The listener, or null to ignore events.
+     */
+    public void setListener(GameEngineListener listener) {
+        this.listener = listener != null ? listener : GameEngineListener.NONE;
+    }
+
+    /**
+     * Turns the lock delay on or off, restarting it for the current piece.
+     *
+     * @param millis How long a landed piece may still be moved, or 0 to lock pieces on landing.
+     */
+    public void setLockDelay(int millis) {
+        lockDelay = millis > 0 ? new LockDelay(millis) : null;
+        startLockDelay();
+    }
+
+    /**
+     * Asks the engine to call {@link GameEngineListener#onKeyframeDue()} after every
+     * {@code pieces}-th piece locks, e.g. so a recorder can store a snapshot.
+     *
+     * @param pieces Pieces between keyframes, or 0 to turn keyframes off.
+     */
+    public void setKeyframeInterval(int pieces) {
+        this.keyframeInterval = Math.max(0, pieces);
+    }
+
+    /**
+     * Writes a compact snapshot of the whole game: counters, score and board (see
+     * {@link AbstractBoard#writeState(ByteBuffer)}).
+     *
+     * @param out The buffer to write to.
+     */
+    public void writeState(ByteBuffer out) {
+        out.putLong(tickCount).putInt(piecesPlaced).putInt(linesCleared).putInt(board.getScore().getValue());
+        ((AbstractBoard) board).writeState(out);
+    }
+
+    /**
+     * Restores a snapshot written by {@link #writeState(ByteBuffer)}. The game continues from
+     * that point exactly as the original did.
+     *
+     * @param in The buffer to read from.
+     */
+    public void readState(ByteBuffer in) {
+        tickCount = in.getLong();
+        piecesPlaced = in.getInt();
+        linesCleared = in.getInt();
+        int restoredScore = in.getInt();
+        ((AbstractBoard) board).readState(in);
+        gameOver = false;
+        board.getScore().reset();
+        addScore(restoredScore);
+        startLockDelay();
+    }
+
+    // --- Player actions ---
+
+    /**
+     * Moves the active piece one column left.
+     *
+     * @return true if the piece moved.
+     */
+    public boolean moveLeft() {
+        return afterMove(!gameOver && board.moveBrickLeft());
+    }
+
+    /**
+     * Moves the active piece one column right.
+     *
+     * @return true if the piece moved.
+     */
+    public boolean moveRight() {
+        return afterMove(!gameOver && board.moveBrickRight());
+    }
+
+    /**
+     * Slides the active piece as far left or right as it goes (auto-repeat with a zero repeat
+     * interval), without stepping through every column.
+     *
+     * @param direction -1 for left, +1 for right.
+     * @return true if the piece moved.
+     */
+    public boolean shiftToWall(int direction) {
+        return afterMove(!gameOver && board instanceof AbstractBoard ab && ab.moveBrickToWall(direction) > 0);
+    }
+
+    /**
+     * Rotates the active piece.
+     *
+     * @return true if the rotation succeeded.
+     */
+    public boolean rotate() {
+        return afterMove(!gameOver && board.rotateLeftBrick());
+    }
+
+    /**
+     * Swaps the active piece with the held one, if the board supports holding.
+     */
+    public void hold() {
+        if (!gameOver && board instanceof AbstractBoard ab) {
+            ab.holdBrick();
+            startLockDelay();
+        }
+    }
+
+    /**
+     * Advances gravity by one row, or at 20G all the way to the landing row.
+     *
+     * @return The clear result if the piece locked, otherwise null.
+     */
+    public ClearRow tick() {
+        tickCount++;
+        return !gameOver && isInstantGravity() ? dropToGround() : down(false);
+    }
+
+    /**
+     * Moves the piece down one row on player request, awarding soft-drop points.
+     *
+     * @return The clear result if the piece locked, otherwise null.
+     */
+    public ClearRow softDrop() {
+        return down(true);
+    }
+
+    /**
+     * Drops the piece straight onto its shadow row and locks it.
+     *
+     * @return The clear result of the lock, or null if the game is already over.
+     */
+    public ClearRow hardDrop() {
+        if (gameOver) {
+            return null;
+        }
+        int rowsDropped = board.hardDrop();
+        if (rowsDropped > 0) {
+            addScore(hardDropPoints(rowsDropped));
+        }
+        return lockPiece();
+    }
+
+    /**
+     * Advances the lock delay by one step of the caller's clock. Does not lock by itself, so the
+     * caller can record the lock before calling {@link #lock()}.
+     *
+     * @param elapsedNanos Time since the last update.
+     * @return true if the piece has rested for the whole delay and should lock now; always
+     *         false with the lock delay off.
+     */
+    public boolean updateLockDelay(long elapsedNanos) {
+        return !gameOver && lockDelay != null && lockDelay.update(elapsedNanos);
+    }
+
+    /**
+     * Locks the piece where it is, if it is resting on the floor or the stack.
+     *
+     * @return The clear result, or null if the piece is still falling or the game is over.
+     */
+    public ClearRow lock() {
+        if (gameOver || board.canMoveBrickDown()) {
+            return null;
+        }
+        return lockPiece();
+    }
+
+    /**
+     * Resets the board and score and starts a new game.
+     */
+    public void newGame() {
+        board.newGame();
+        gameOver = false;
+        tickCount = 0;
+        piecesPlaced = 0;
+        linesCleared = 0;
+        startLockDelay();
+        onNewGame();
+        listener.onScoreChanged(board.getScore().getValue());
+    }
+
+    // --- State ---
+
+    public Board getBoard() { return board; }
+    public Score getScore() { return board.getScore(); }
+    public ViewSnapshot getViewSnapshot() { return board.getViewSnapshot(); }
+    public boolean isGameOver() { return gameOver; }
+
+    /**
+     * @return true if the active piece is resting on the floor or the stack.
+     */
+    public boolean isGrounded() { return !gameOver && !board.canMoveBrickDown(); }
+
+    /**
+     * @return The number of gravity ticks since the game started.
+     */
+    public long getTickCount() { return tickCount; }
+
+    /**
+     * @return The number of pieces locked since the game started.
+     */
+    public int getPiecesPlaced() { return piecesPlaced; }
+
+    /**
+     * @return The number of lines cleared since the game started.
+     */
+    public int getLinesCleared() { return linesCleared; }
+
+    // --- Hooks ---
+
+    /**
+     * Points awarded for one row of player soft drop.
+     *
+     * @return The soft-drop reward.
+     */
+    protected abstract int softDropPoints();
+
+    /**
+     * Points awarded for a hard drop.
+     *
+     * @param rowsDropped The number of rows the piece fell.
+     * @return The hard-drop reward.
+     */
+    protected abstract int hardDropPoints(int rowsDropped);
+
+    /**
+     * Calculates the score to be awarded based on cleared rows.
+     *
+     * @param clearRow The result of the row clearing operation.
+     * @return The score bonus to add.
+     */
+    protected int calculateScore(ClearRow clearRow) {
+        return clearRow.scoreBonus();
+    }
+
+    /**
+     * Whether gravity currently drops a piece to its landing row in a single tick (20G).
+     *
+     * @return true to make every gravity tick a drop to the ghost row.
+     */
+    protected boolean isInstantGravity() { return false; }
+
+    /** Called before each downward move (gravity or soft drop). */
+    protected void beforeDown() { }
+
+    /** Called after the score changes. */
+    protected void onScoreChanged() { }
+
+    /** Called once when the game ends, before the listener is notified. */
+    protected void onGameOver() { }
+
+    /** Called after {@link #newGame()} has reset the board. */
+    protected void onNewGame() { }
+
+    protected final GameEngineListener listener() {
+        return listener;
+    }
+
+    protected final void addScore(int points) {
+        board.getScore().add(points);
+        onScoreChanged();
+        listener.onScoreChanged(board.getScore().getValue());
+    }
+
+    // --- Internals ---
+
+    private ClearRow down(boolean user) {
+        if (gameOver) {
+            return null;
+        }
+        beforeDown();
+        if (!board.moveBrickDown()) {
+            if (lockDelay == null) {
+                return lockPiece();
+            }
+            lockDelay.blocked(); // resting: only the timer (or a hard drop) locks it
+            return null;
+        }
+        boolean grounded = !board.canMoveBrickDown();
+        if (lockDelay != null) {
+            lockDelay.fell(board.getBrickRow(), grounded);
+        } else if (grounded) {
+            return lockPiece(); // no delay: lock the moment it lands
+        }
+        if (user) {
+            addScore(softDropPoints());
+        }
+        return null;
+    }
+
+    /* 20G gravity: straight to the ghost row, then land exactly as a one-row fall would. */
+    private ClearRow dropToGround() {
+        beforeDown();
+        if (board.hardDrop() > 0 && lockDelay != null) {
+            lockDelay.fell(board.getBrickRow(), true);
+            return null;
+        }
+        if (lockDelay == null) {
+            return lockPiece();
+        }
+        lockDelay.blocked();
+        return null;
+    }
+
+    /*
+     * The landing sequence: merge, clear, score, then spawn the next piece (game over if blocked).
+     */
+    private ClearRow lockPiece() {
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        piecesPlaced++;
+
+        if (clearRow.getLinesRemoved() > 0) {
+            linesCleared += clearRow.getLinesRemoved();
+            addScore(calculateScore(clearRow));
+            listener.onLinesCleared(clearRow);
+        }
+
+        if (board.createNewBrick()) {
+            gameOver = true;
+            onGameOver();
+            listener.onGameOver(board.getScore().getValue());
+        } else {
+            startLockDelay();
+            if (keyframeInterval > 0 && piecesPlaced % keyframeInterval == 0) {
+                listener.onKeyframeDue();
+            }
+        }
+        return clearRow;
+    }
+
+    private boolean afterMove(boolean moved) {
+        if (moved && lockDelay != null) {
+            lockDelay.moved(board.getBrickRow(), !board.canMoveBrickDown());
+        }
+        return moved;
+    }
+
+    private void startLockDelay() {
+        if (lockDelay != null) {
+            lockDelay.start(board.getBrickRow(), !board.canMoveBrickDown());
+        }
+    }
+}
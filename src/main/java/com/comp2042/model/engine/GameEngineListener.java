@@ -0,0 +1,57 @@
+package com.comp2042.model.engine;
+
+import com.comp2042.model.state.ClearRow;
+
+/**
+ * Receives notifications from a {@link GameEngine}.
+ * <p>
+ * Every method has an empty default, so a headless runner only overrides what it cares about
+ * (usually just {@link #onGameOver(int)}), while the JavaFX controllers forward the rest to the UI.
+ * </p>
+ */
+public interface GameEngineListener {
+
+    /** A listener that ignores everything. */
+    GameEngineListener NONE = new GameEngineListener() { };
+
+    /**
+     * Called after a piece locks and at least one line was cleared.
+     *
+     * @param clearRow The result of the clear.
+     */
+    default void onLinesCleared(ClearRow clearRow) { }
+
+    /**
+     * Called when the score changes, including back to zero for a new game.
+     *
+     * @param score The new score.
+     */
+    default void onScoreChanged(int score) { }
+
+    /**
+     * Called when the level changes.
+     *
+     * @param level The new level.
+     */
+    default void onLevelChanged(int level) { }
+
+    /**
+     * Called when the engine has a short message for the player (e.g. a countdown).
+     *
+     * @param message The text to show.
+     */
+    default void onNotification(String message) { }
+
+    /**
+     * Called when a keyframe is due (see {@link GameEngine#setKeyframeInterval(int)}), once the
+     * piece has locked and the next one has spawned.
+     */
+    default void onKeyframeDue() { }
+
+    /**
+     * Called once when a new piece cannot spawn.
+     *
+     * @param finalScore The score at the end of the game.
+     */
+    default void onGameOver(int finalScore) { }
+}
@@ -0,0 +1,61 @@
+package com.comp2042.model.engine;
+
+import com.comp2042.model.board.InvisibleBlocksBoard;
+import com.comp2042.model.board.TetrisBoard;
+import com.comp2042.model.bricks.BrickGenerator;
+import com.comp2042.model.bricks.SeededBrickGenerator;
+
+import java.util.function.LongSupplier;
+
+/**
+ * The playable game modes, each knowing how to build its engine on the standard 25x11 board.
+ * <p>
+ * Every engine built here plays with a {@value #LOCK_DELAY_MILLIS} ms lock delay, live or headless
+ * alike, so a replay runs under the same landing rules it was recorded with.
+ * </p>
+ */
+public enum GameMode {
+
+    NORMAL {
+        @Override
+        GameEngine build(BrickGenerator generator, LongSupplier clock) {
+            return new NormalModeEngine(new TetrisBoard(BOARD_HEIGHT, BOARD_WIDTH, generator));
+        }
+    },
+    CHALLENGE {
+        @Override
+        GameEngine build(BrickGenerator generator, LongSupplier clock) {
+            return new ChallengeModeEngine(new InvisibleBlocksBoard(BOARD_HEIGHT, BOARD_WIDTH, generator, clock));
+        }
+    };
+
+    public static final int BOARD_HEIGHT = 25;
+    public static final int BOARD_WIDTH = 11;
+    public static final int LOCK_DELAY_MILLIS = LockDelay.DEFAULT_DELAY_MILLIS;
+
+    /**
+     * Creates a fresh engine for this mode.
+     *
+     * @param generator The piece source.
+     * @param clock     Millisecond clock for time-based effects (only the invisible-block reveal uses it).
+     * @return A new engine with its first piece spawned.
+     */
+    public GameEngine createEngine(BrickGenerator generator, LongSupplier clock) {
+        GameEngine engine = build(generator, clock);
+        engine.setLockDelay(LOCK_DELAY_MILLIS);
+        return engine;
+    }
+
+    abstract GameEngine build(BrickGenerator generator, LongSupplier clock);
+
+    /**
+     * Creates an engine for headless runs: pieces come from a {@link SeededBrickGenerator} and the
+     * clock is frozen, since time-based effects only change what a player sees.
+     *
+     * @param seed The piece-sequence seed.
+     * @return A new engine with its first piece spawned.
+     */
+    public GameEngine createHeadlessEngine(long seed) {
+        return createEngine(new SeededBrickGenerator(seed), () -> 0L);
+    }
+}
@@ -0,0 +1,112 @@
+package com.comp2042.model.engine;
+
+/**
+ * The grace period between a piece touching down and locking, with a limited move reset.
+ * <p>
+ * While the piece rests on the floor or the stack, the timer runs on the game loop's clock
+ * ({@link #update}). Every successful shift or rotation restarts it, up to {@value #MAX_RESETS}
+ * times; after that, moves still work but the timer keeps running, so a piece can't be spun
+ * forever. Reaching a row lower than any before gives the piece a fresh set of resets.
+ * </p>
+ * <p>
+ * Lifting the piece off the ground (walking it off a ledge, a kicked rotation) pauses the timer;
+ * falling back onto the same row resumes it where it was instead of starting over.
+ * </p>
+ */
+public final class LockDelay {
+
+    public static final int DEFAULT_DELAY_MILLIS = 500;
+    public static final int MAX_DELAY_MILLIS = 2000;
+    public static final int MAX_RESETS = 15;
+
+    private final long delayNanos;
+    private boolean grounded;
+    private long elapsed;
+    private int resets;
+    private int lowestRow;
+
+    /**
+     * @param delayMillis How long a resting piece waits before locking, clamped to [1, {@value #MAX_DELAY_MILLIS}].
+     */
+    public LockDelay(int delayMillis) {
+        this.delayNanos = Math.clamp(delayMillis, 1, MAX_DELAY_MILLIS) * 1_000_000L;
+    }
+
+    /**
+     * Starts over for a newly spawned piece.
+     *
+     * @param row       The row it spawned on.
+     * @param grounded  true if it spawned resting on the stack.
+     */
+    public void start(int row, boolean grounded) {
+        this.grounded = grounded;
+        elapsed = 0;
+        resets = 0;
+        lowestRow = row;
+    }
+
+    /**
+     * Called after the piece moved down a row.
+     *
+     * @param row      Its new row.
+     * @param grounded true if it can't fall any further.
+     */
+    public void fell(int row, boolean grounded) {
+        if (row > lowestRow) {
+            lowestRow = row;
+            resets = 0;
+            elapsed = 0;
+        }
+        this.grounded = grounded;
+    }
+
+    /**
+     * Called after a successful shift or rotation. Restarts the timer while resets remain.
+     *
+     * @param row      The piece's row afterwards (a kicked rotation can change it).
+     * @param grounded true if it is resting on something afterwards.
+     */
+    public void moved(int row, boolean grounded) {
+        if (row > lowestRow) {
+            lowestRow = row;
+            resets = 0;
+        }
+        if (resets < MAX_RESETS) {
+            resets++;
+            elapsed = 0;
+        }
+        this.grounded = grounded;
+    }
+
+    /**
+     * Called when a downward move was blocked, i.e. the piece is resting after all.
+     */
+    public void blocked() {
+        grounded = true;
+    }
+
+    /**
+     * Advances the timer while the piece is resting.
+     *
+     * @param elapsedNanos Time since the last update.
+     * @return true once the delay has run out and the piece should lock.
+     */
+    public boolean update(long elapsedNanos) {
+        if (!grounded) {
+            return false;
+        }
+        if (elapsedNanos >= delayNanos - elapsed) {
+            elapsed = delayNanos;
+            return true;
+        }
+        elapsed += elapsedNanos;
+        return false;
+    }
+
+    public boolean isGrounded() { return grounded; }
+
+    /**
+     * @return Resets used since the piece last reached a new lowest row.
+     */
+    public int getResets() { return resets; }
+}
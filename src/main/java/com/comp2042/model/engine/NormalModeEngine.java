@@ -0,0 +1,80 @@
+package com.comp2042.model.engine;
+
+import com.comp2042.model.LevelManager;
+import com.comp2042.model.board.Board;
+import com.comp2042.model.board.TetrisBoard;
+import com.comp2042.model.state.ClearRow;
+
+/**
+ * The rules of "Normal Mode".
+ * <p>
+ * Scoring scales with the current level from a {@link LevelManager}: soft drop earns the level
+ * per row, hard drop earns 2 points per row, and line clears are multiplied by the level.
+ * </p>
+ */
+public class NormalModeEngine extends GameEngine {
+
+    private final LevelManager levelManager = new LevelManager();
+
+    /**
+     * Creates a Normal Mode engine on the standard 25x11 board.
+     */
+    public NormalModeEngine() {
+        this(new TetrisBoard(25, 11));
+    }
+
+    /**
+     * Creates a Normal Mode engine on the given board.
+     *
+     * @param board The board to play on.
+     */
+    public NormalModeEngine(Board board) {
+        super(board);
+    }
+
+    /**
+     * @return The level manager tracking this game's progression.
+     */
+    public LevelManager getLevelManager() {
+        return levelManager;
+    }
+
+    @Override
+    protected int softDropPoints() {
+        return levelManager.getCurrentLevel();
+    }
+
+    @Override
+    protected int hardDropPoints(int rowsDropped) {
+        return rowsDropped * 2;
+    }
+
+    /**
+     * Calculates the score for cleared rows with a level-based multiplier.
+     * <p>
+     * The formula used is: {@code Base_Score * Current_Level}.
+     * For example, clearing a line (100 pts) at Level 5 awards 500 points.
+     * </p>
+     */
+    @Override
+    protected int calculateScore(ClearRow clearRow) {
+        return super.calculateScore(clearRow) * levelManager.getCurrentLevel();
+    }
+
+    @Override
+    protected boolean isInstantGravity() {
+        return levelManager.isTwentyG();
+    }
+
+    @Override
+    protected void onScoreChanged() {
+        if (levelManager.update(board.getScore().getValue())) {
+            listener().onLevelChanged(levelManager.getCurrentLevel());
+        }
+    }
+
+    @Override
+    protected void onNewGame() {
+        onScoreChanged(); // score is back to zero, so drop back to level 1
+    }
+}
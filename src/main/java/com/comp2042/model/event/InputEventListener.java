@@ -1,7 +1,7 @@
 package com.comp2042.model.event;
 
 import com.comp2042.model.state.DownData;
-import com.comp2042.model.state.ViewData;
+import com.comp2042.model.state.ViewSnapshot;
 
 /**
  * Interface defining the contract for handling user input events.
@@ -24,31 +24,67 @@ public interface InputEventListener {
      * Handles the event when the user requests to move the brick left.
      *
      * @param event The move event details.
-     * @return A {@link ViewData} object representing the updated state of the board.
+     * @return A {@link ViewSnapshot} representing the updated state of the board.
      */
-    ViewData onLeftEvent(MoveEvent event);
+    ViewSnapshot onLeftEvent(MoveEvent event);
 
     /**
      * Handles the event when the user requests to move the brick right.
      *
      * @param event The move event details.
-     * @return A {@link ViewData} object representing the updated state of the board.
+     * @return A {@link ViewSnapshot} representing the updated state of the board.
      */
-    ViewData onRightEvent(MoveEvent event);
+    ViewSnapshot onRightEvent(MoveEvent event);
+
+    /**
+     * Moves the brick one column in the event's direction, for held-key auto-repeat.
+     *
+     * @param event The move event; its type ({@link EventType#LEFT} or {@link EventType#RIGHT}) gives the direction.
+     * @return true if the brick moved, false if something was in the way.
+     */
+    boolean onShiftEvent(MoveEvent event);
+
+    /**
+     * Handles an instant shift to the wall (auto-repeat with no repeat delay).
+     *
+     * @param event The move event; its type ({@link EventType#LEFT} or {@link EventType#RIGHT}) gives the direction.
+     * @return A {@link ViewSnapshot} representing the updated state of the board.
+     */
+    ViewSnapshot onShiftToWallEvent(MoveEvent event);
+
+    /**
+     * Advances the lock delay by one game-loop step, locking the piece if it has rested long enough.
+     *
+     * @param elapsedNanos Length of the step.
+     * @return A {@link DownData} with the lock's result if the piece locked, otherwise null.
+     */
+    DownData onLockDelayStep(long elapsedNanos);
+
+    /**
+     * Locks a resting piece straight away (a recorded lock-delay expiry being replayed).
+     *
+     * @return A {@link DownData} with the lock's result; its clear row is null if nothing locked.
+     */
+    DownData onLockEvent();
 
     /**
      * Handles the event when the user requests to rotate the brick.
      *
      * @param event The move event details.
-     * @return A {@link ViewData} object representing the updated state of the board.
+     * @return A {@link ViewSnapshot} representing the updated state of the board.
      */
-    ViewData onRotateEvent(MoveEvent event);
+    ViewSnapshot onRotateEvent(MoveEvent event);
 
     /**
      * Resets the game state to start a new session.
      */
     void createNewGame();
 
+    /**
+     * Ends the session when the player leaves the game for the menu, e.g. to close its recording.
+     */
+    void onQuit();
+
     /**
      * Handles the event when the user requests a hard drop (instant fall).
      *
@@ -56,6 +92,13 @@ public interface InputEventListener {
      */
     DownData onHardDropEvent();
 
+    /**
+     * Retrieves the current state of the board for drawing, without changing it.
+     *
+     * @return A {@link ViewSnapshot} of the active brick and its surroundings.
+     */
+    ViewSnapshot getViewSnapshot();
+
     /**
      * Retrieves the current configuration of the game board.
      *
@@ -66,7 +109,7 @@ public interface InputEventListener {
     /**
      * Handles the event when the user requests to hold the current brick.
      *
-     * @return A {@link ViewData} object containing the updated board state and held brick info.
+     * @return A {@link ViewSnapshot} containing the updated board state and held brick info.
      */
-    ViewData onHoldEvent();
+    ViewSnapshot onHoldEvent();
 }
\ No newline at end of file
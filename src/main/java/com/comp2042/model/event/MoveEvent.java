@@ -4,7 +4,7 @@ package com.comp2042.model.event;
  * An immutable record representing a single movement command in the game.
  * <p>
  * This event object encapsulates <i>what</i> is happening ({@link EventType}) and
- * <i>who</i> caused it ({@link EventSource}), allowing the AbstractGameController, NormalModeController, and ChallengeModeController to apply
+ * <i>who</i> caused it ({@link EventSource}), allowing the AbstractGameController to route it to the right GameEngine call and apply
  * the correct logic (e.g., only awarding points for USER-driven moves).
  * </p>
  *
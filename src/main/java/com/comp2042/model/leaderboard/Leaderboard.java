@@ -0,0 +1,99 @@
+package com.comp2042.model.leaderboard;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The ranked scores of one game mode.
+ * <p>
+ * Two indexes are kept: every game, and each player's best game. Both are
+ * {@link RankedSkipList}s, so inserts, rank lookups and page reads stay O(log n) however many
+ * thousands of entries a shared cabinet collects. Ranks are 1-based.
+ * </p>
+ * <p>
+ * Not thread-safe; the UI reads and updates it from the FX thread.
+ * </p>
+ */
+public final class Leaderboard {
+
+    private final RankedSkipList<LeaderboardEntry> games = new RankedSkipList<>(LeaderboardEntry.ORDER);
+    private final RankedSkipList<LeaderboardEntry> players = new RankedSkipList<>(LeaderboardEntry.ORDER);
+    private final Map<String, LeaderboardEntry> bestByPlayer = new HashMap<>();
+
+    /**
+     * Adds a finished game.
+     *
+     * @param entry The game.
+     * @return Its rank among all games.
+     */
+    public int add(LeaderboardEntry entry) {
+        int index = games.add(entry);
+        LeaderboardEntry best = bestByPlayer.get(entry.player());
+        if (best == null || LeaderboardEntry.ORDER.compare(entry, best) < 0) {
+            if (best != null) {
+                players.remove(best);
+            }
+            players.add(entry);
+            bestByPlayer.put(entry.player(), entry);
+        }
+        return index + 1;
+    }
+
+    /**
+     * @return The number of games recorded.
+     */
+    public int size() { return games.size(); }
+
+    /**
+     * @return The number of different players.
+     */
+    public int playerCount() { return players.size(); }
+
+    /**
+     * @param entry A game on this board.
+     * @return Its rank among all games.
+     */
+    public int rankOf(LeaderboardEntry entry) {
+        return games.indexOf(entry) + 1;
+    }
+
+    /**
+     * Reads one page of the all-games table.
+     *
+     * @param offset Number of top games to skip.
+     * @param limit  Page size.
+     * @return Up to {@code limit} games, best first.
+     */
+    public List<LeaderboardEntry> page(int offset, int limit) {
+        return games.range(offset, limit);
+    }
+
+    /**
+     * Reads one page of the per-player table (each player's best game).
+     *
+     * @param offset Number of top players to skip.
+     * @param limit  Page size.
+     * @return Up to {@code limit} games, best first.
+     */
+    public List<LeaderboardEntry> playerPage(int offset, int limit) {
+        return players.range(offset, limit);
+    }
+
+    /**
+     * @param player A player name.
+     * @return That player's best game, or null if they have none.
+     */
+    public LeaderboardEntry bestOf(String player) {
+        return bestByPlayer.get(player);
+    }
+
+    /**
+     * @param player A player name.
+     * @return The player's rank among players, or 0 if they have no games.
+     */
+    public int playerRank(String player) {
+        LeaderboardEntry best = bestByPlayer.get(player);
+        return best == null ? 0 : players.indexOf(best) + 1;
+    }
+}
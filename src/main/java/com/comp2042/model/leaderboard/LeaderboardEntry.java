@@ -0,0 +1,36 @@
+package com.comp2042.model.leaderboard;
+
+import java.util.Comparator;
+
+/**
+ * One finished game on a leaderboard.
+ *
+ * @param player    Who played it (trimmed and capped at {@value #MAX_NAME_LENGTH} characters).
+ * @param score     The final score.
+ * @param lines     Lines cleared during the game.
+ * @param timestamp When the game ended, in epoch milliseconds.
+ */
+public record LeaderboardEntry(String player, int score, int lines, long timestamp) {
+
+    public static final int MAX_NAME_LENGTH = 16;
+
+    /** Name used for scores with no player, e.g. ones imported from the old text file. */
+    public static final String UNKNOWN_PLAYER = "???";
+
+    /**
+     * Leaderboard order: higher score first; on a tie, whoever got there first; then by name and
+     * lines so that two different entries never compare as equal.
+     */
+    public static final Comparator<LeaderboardEntry> ORDER = Comparator
+            .comparingInt(LeaderboardEntry::score).reversed()
+            .thenComparingLong(LeaderboardEntry::timestamp)
+            .thenComparing(LeaderboardEntry::player)
+            .thenComparing(Comparator.comparingInt(LeaderboardEntry::lines).reversed());
+
+    public LeaderboardEntry {
+        player = player == null || player.isBlank() ? UNKNOWN_PLAYER : player.strip();
+        if (player.length() > MAX_NAME_LENGTH) {
+            player = player.substring(0, MAX_NAME_LENGTH);
+        }
+    }
+}
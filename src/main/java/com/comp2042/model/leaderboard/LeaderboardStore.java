@@ -0,0 +1,273 @@
+package com.comp2042.model.leaderboard;
+
+import com.comp2042.model.engine.GameMode;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps one {@link Leaderboard} per game mode, each in its own append-only binary file.
+ * <pre>
+ * header : "TLBD" (4 bytes) | version (1)
+ * entry  : name length (1) | name (UTF-8) | score (4) | lines (4) | timestamp (8)
+ * </pre>
+ * <p>
+ * Files are read on a background thread and never waited for: {@link #load} starts reading a
+ * mode (the game starts every mode at startup), and until it is done {@link #get} returns null
+ * so the screen can show that it is loading. Games added meanwhile are appended to the file
+ * straight away and kept aside, then added to the table once it arrives. New entries are
+ * appended by the same thread; a torn last entry (a crash mid-append) is cut off on the next
+ * load, and a file that is not a leaderboard at all is moved aside to {@code .bad} so the mode
+ * starts over with an empty table. Since the thread runs its work in order, a load sees exactly
+ * the entries queued before it.
+ * </p>
+ * <p>
+ * Call from one thread only (the FX thread in the game).
+ * </p>
+ */
+public final class LeaderboardStore implements AutoCloseable {
+
+    static final int MAGIC = 0x544C4244; // "TLBD"
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 4 + 1;
+    private static final int MAX_ENTRY_SIZE = 1 + LeaderboardEntry.MAX_NAME_LENGTH * 3 + 4 + 4 + 8;
+
+    // One shared writer thread keeps each file's appends in order and off the FX thread
+    private static final ExecutorService IO = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "leaderboard-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path directory; // null = memory only
+    private final Map<GameMode, Leaderboard> loaded = new EnumMap<>(GameMode.class);
+    private final Map<GameMode, Loading> loading = new EnumMap<>(GameMode.class);
+
+    /* A file being read on the writer thread, and the games added while it is. */
+    private record Loading(CompletableFuture<Leaderboard> file, List<LeaderboardEntry> added) { }
+
+    /**
+     * @param directory Folder for the {@code leaderboard-<mode>.dat} files (created on first write).
+     */
+    public LeaderboardStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return A store that keeps everything in memory, e.g. for tests.
+     */
+    public static LeaderboardStore inMemory() {
+        return new LeaderboardStore(null);
+    }
+
+    /**
+     * Starts reading a mode's file in the background, unless it is already read or being read.
+     *
+     * @param mode The game mode.
+     * @return Completes (on the writer thread) once {@link #get} will return the mode's table.
+     */
+    public CompletableFuture<?> load(GameMode mode) {
+        if (directory == null || loaded.containsKey(mode)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return loading.computeIfAbsent(mode, m -> {
+            Path file = fileFor(m);
+            return new Loading(CompletableFuture.supplyAsync(() -> load(file), IO), new ArrayList<>());
+        }).file();
+    }
+
+    /**
+     * Starts reading every mode's file in the background.
+     */
+    public void loadAll() {
+        for (GameMode mode : GameMode.values()) {
+            load(mode);
+        }
+    }
+
+    /**
+     * Returns a mode's leaderboard if its file has been read, starting the read otherwise.
+     * Never waits for the disk.
+     *
+     * @param mode The game mode.
+     * @return The live leaderboard, or null while it is still loading; use {@link #add} rather
+     *         than adding to it directly.
+     */
+    public Leaderboard get(GameMode mode) {
+        Leaderboard board = loaded.get(mode);
+        if (board != null) {
+            return board;
+        }
+        if (directory == null) {
+            board = new Leaderboard();
+        } else {
+            load(mode);
+            Loading pending = loading.get(mode);
+            if (!pending.file().isDone()) {
+                return null;
+            }
+            loading.remove(mode);
+            try {
+                board = pending.file().join();
+            } catch (CompletionException e) {
+                // load() already recovers from bad files; whatever else went wrong, start an empty table
+                System.err.println("Could not load leaderboard: " + e.getCause());
+                board = new Leaderboard();
+            }
+            for (LeaderboardEntry entry : pending.added()) {
+                board.add(entry);
+            }
+        }
+        loaded.put(mode, board);
+        return board;
+    }
+
+    /**
+     * Adds a finished game and queues it for saving.
+     *
+     * @param mode  The mode it was played in.
+     * @param entry The game.
+     * @return Its rank among that mode's games, or 0 if the mode is still loading (the game is
+     *         added to the table once it has loaded).
+     */
+    public int add(GameMode mode, LeaderboardEntry entry) {
+        Leaderboard board = get(mode);
+        int rank = 0;
+        if (board != null) {
+            rank = board.add(entry);
+        } else {
+            loading.get(mode).added().add(entry);
+        }
+        if (directory != null) {
+            ByteBuffer record = ByteBuffer.allocate(MAX_ENTRY_SIZE);
+            encode(record, entry);
+            Path file = fileFor(mode);
+            IO.submit(() -> append(file, record.flip()));
+        }
+        return rank;
+    }
+
+    /**
+     * @param mode The game mode.
+     * @return true if the mode has a file on disk, without loading it.
+     */
+    public boolean isStored(GameMode mode) {
+        return directory != null && Files.exists(fileFor(mode));
+    }
+
+    /**
+     * @return Completes once every entry added so far has reached the disk.
+     */
+    public Future<?> flush() {
+        return IO.submit(() -> { });
+    }
+
+    /**
+     * Waits (briefly) for pending writes, e.g. when the application exits.
+     */
+    @Override
+    public void close() {
+        try {
+            flush().get(2, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            System.err.println("Could not finish saving the leaderboard: " + e.getMessage());
+        }
+    }
+
+    Path fileFor(GameMode mode) {
+        return directory.resolve("leaderboard-" + mode.name().toLowerCase(Locale.ROOT) + ".dat");
+    }
+
+    static void encode(ByteBuffer out, LeaderboardEntry entry) {
+        byte[] name = entry.player().getBytes(StandardCharsets.UTF_8);
+        out.put((byte) name.length).put(name).putInt(entry.score()).putInt(entry.lines()).putLong(entry.timestamp());
+    }
+
+    /* Decodes every whole entry; runs on the writer thread. */
+    static Leaderboard load(Path file) {
+        Leaderboard board = new Leaderboard();
+        ByteBuffer in;
+        try {
+            in = ByteBuffer.wrap(Files.readAllBytes(file));
+        } catch (NoSuchFileException e) {
+            return board;
+        } catch (IOException e) {
+            System.err.println("Could not load leaderboard: " + e.getMessage());
+            return board;
+        }
+        if (in.remaining() < HEADER_SIZE) {
+            truncate(file, 0); // torn header: start the file again
+            return board;
+        }
+        if (in.getInt() != MAGIC || in.get() != VERSION) {
+            System.err.println("Not a leaderboard file, moving it aside: " + file);
+            moveAside(file);
+            return board;
+        }
+        int whole = in.position();
+        try {
+            while (in.hasRemaining()) {
+                byte[] name = new byte[Byte.toUnsignedInt(in.get())];
+                in.get(name);
+                board.add(new LeaderboardEntry(new String(name, StandardCharsets.UTF_8), in.getInt(), in.getInt(), in.getLong()));
+                whole = in.position();
+            }
+        } catch (BufferUnderflowException e) {
+            // torn last entry: keep what we have, and cut it off so later appends line up again
+            truncate(file, whole);
+        }
+        return board;
+    }
+
+    private static void moveAside(Path file) {
+        try {
+            Files.move(file, file.resolveSibling(file.getFileName() + ".bad"), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("Could not move bad leaderboard aside: " + e.getMessage());
+        }
+    }
+
+    private static void truncate(Path file, long size) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        } catch (IOException e) {
+            System.err.println("Could not repair leaderboard: " + e.getMessage());
+        }
+    }
+
+    private static void append(Path file, ByteBuffer record) {
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                if (channel.size() == 0) {
+                    channel.write(ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).put(VERSION).flip());
+                }
+                while (record.hasRemaining()) {
+                    channel.write(record);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Could not save leaderboard entry: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.comp2042.model.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * A sorted list with O(log n) insert, remove, rank and positional lookup.
+ * <p>
+ * This is a skip list where every forward link also stores its <em>span</em>: how many
+ * elements it jumps over. Summing spans on the way down gives an element's position without
+ * walking the bottom level, which is what makes "you are #1,234 of 50,000" cheap. Equal
+ * elements are kept in insertion order.
+ * </p>
+ * <p>
+ * Not thread-safe.
+ * </p>
+ *
+ * @param <T> The element type.
+ */
+public final class RankedSkipList<T> {
+
+    private static final int MAX_LEVEL = 32;
+
+    private static final class Node<T> {
+        final T value;
+        final Node<T>[] next;
+        final int[] span;
+
+        Node(T value, int level) {
+            this.value = value;
+            this.next = newArray(level);
+            this.span = new int[level];
+        }
+
+        // Generic arrays can't be created directly; a wildcard array cast once keeps raw types out
+        @SuppressWarnings("unchecked")
+        static <T> Node<T>[] newArray(int length) {
+            return (Node<T>[]) new Node<?>[length];
+        }
+    }
+
+    private final Comparator<? super T> order;
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);
+    // Fixed seed: the shape of the list never affects results, and this keeps runs repeatable
+    private final SplittableRandom random = new SplittableRandom(0x5EEDL);
+    private int level = 1;
+    private int size;
+
+    // Scratch for add/remove, so updates don't allocate beyond the new node
+    private final Node<T>[] update = Node.newArray(MAX_LEVEL);
+    private final int[] rank = new int[MAX_LEVEL];
+
+    /**
+     * @param order The sort order; elements that compare less come first.
+     */
+    public RankedSkipList(Comparator<? super T> order) {
+        this.order = order;
+    }
+
+    /**
+     * Inserts an element after any equal ones.
+     *
+     * @param value The element.
+     * @return The 0-based position it was inserted at.
+     */
+    public int add(T value) {
+        Node<T> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && order.compare(x.next[i].value, value) <= 0) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node<T> node = new Node<>(value, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+        return rank[0];
+    }
+
+    /**
+     * Removes one element equal to the given one.
+     *
+     * @param value The element to remove.
+     * @return true if an element was removed.
+     */
+    public boolean remove(T value) {
+        Node<T> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && order.compare(x.next[i].value, value) < 0) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        Node<T> target = x.next[0];
+        if (target == null || order.compare(target.value, value) != 0) {
+            return false;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].next[i] = target.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Counts the elements that sort strictly before a value, i.e. the 0-based position the
+     * first equal element has (or would have).
+     *
+     * @param value The value to look up; it need not be in the list.
+     * @return The number of smaller elements.
+     */
+    public int indexOf(T value) {
+        Node<T> x = head;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && order.compare(x.next[i].value, value) < 0) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+        }
+        return traversed;
+    }
+
+    /**
+     * @param index 0-based position.
+     * @return The element at that position.
+     * @throws IndexOutOfBoundsException If the index is not in {@code [0, size)}.
+     */
+    public T get(int index) {
+        return nodeAt(index).value;
+    }
+
+    /**
+     * Copies out a run of consecutive elements.
+     *
+     * @param from  0-based position of the first element.
+     * @param count Maximum number of elements.
+     * @return Up to {@code count} elements; empty if {@code from} is past the end.
+     */
+    public List<T> range(int from, int count) {
+        if (from < 0 || count < 0) {
+            throw new IllegalArgumentException("Negative range: " + from + ", " + count);
+        }
+        int end = Math.min(size, from + count);
+        List<T> result = new ArrayList<>(Math.max(0, end - from));
+        if (from >= end) {
+            return result;
+        }
+        for (Node<T> x = nodeAt(from); result.size() < end - from; x = x.next[0]) {
+            result.add(x.value);
+        }
+        return result;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    private Node<T> nodeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+        }
+        Node<T> x = head;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= index + 1) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == index + 1) {
+                return x;
+            }
+        }
+        throw new IllegalStateException("Broken span at index " + index);
+    }
+
+    /* Each extra level with probability 1/4, like most skip list implementations. */
+    private int randomLevel() {
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && (random.nextInt() & 3) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+}
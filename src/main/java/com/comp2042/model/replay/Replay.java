@@ -0,0 +1,49 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.model.engine.GameMode;
+
+/**
+ * A decoded replay: the game's mode and seed plus its timed input stream.
+ * <p>
+ * The arrays are shared, not copied; treat them as read-only.
+ * </p>
+ *
+ * @param mode       The mode the game was played in.
+ * @param seed       The seed of the piece sequence.
+ * @param actions    The recorded actions, in order (without the END marker).
+ * @param ticks      Game-loop ticks (1/60 s) since the start of the game for each action.
+ * @param finalScore The recorded final score, or -1 if the game was not finished.
+ */
+public record Replay(GameMode mode, long seed, ReplayAction[] actions, long[] ticks, int finalScore) {
+
+    /**
+     * @return The number of recorded actions.
+     */
+    public int size() {
+        return actions.length;
+    }
+
+    /**
+     * @return true if the recording ended with a game over.
+     */
+    public boolean isComplete() {
+        return finalScore >= 0;
+    }
+
+    /**
+     * @return Tick of the last recorded action.
+     */
+    public long durationTicks() {
+        return ticks.length == 0 ? 0 : ticks[ticks.length - 1];
+    }
+
+    /**
+     * Converts a wall-clock offset into replay ticks, e.g. to drive {@link ReplayPlayer#advanceTo(long)}.
+     *
+     * @param millis Milliseconds since the start of the game.
+     * @return The matching tick.
+     */
+    public static long ticksAt(long millis) {
+        return millis * ReplayFormat.TICKS_PER_SECOND / 1000;
+    }
+}
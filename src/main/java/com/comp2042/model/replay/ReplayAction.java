@@ -0,0 +1,70 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.model.event.EventSource;
+import com.comp2042.model.event.MoveEvent;
+
+/**
+ * One recorded input, stored as a single byte in a replay file.
+ * <p>
+ * The byte is the ordinal, so new actions must only ever be added at the end.
+ * </p>
+ */
+public enum ReplayAction {
+    LEFT,
+    RIGHT,
+    ROTATE,
+    /** Player-requested move down (scores soft-drop points). */
+    SOFT_DROP,
+    /** Gravity move down from the game loop. */
+    GRAVITY,
+    HARD_DROP,
+    HOLD,
+    /** End of a finished game; followed by the final score. */
+    END,
+    /** A game-state snapshot; followed by its length and payload. Not an input. */
+    KEYFRAME,
+    /** Instant shift to the left wall (auto-repeat with no repeat delay). */
+    WALL_LEFT,
+    /** Instant shift to the right wall. */
+    WALL_RIGHT,
+    /** The lock delay ran out and the resting piece locked. */
+    LOCK,
+    /**
+     * Several {@link #GRAVITY} moves in a row with nothing in between; followed by their count
+     * and the ticks from the first to the last. Only appears in files, never in a decoded {@link Replay}.
+     */
+    GRAVITY_RUN;
+
+    private static final ReplayAction[] VALUES = values();
+
+    /**
+     * @return The byte written to the replay file.
+     */
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    /**
+     * Decodes an action byte.
+     *
+     * @param code The byte read from a replay file.
+     * @return The action.
+     * @throws IllegalArgumentException If the byte is not a known action.
+     */
+    public static ReplayAction fromCode(int code) {
+        if (code < 0 || code >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown replay action " + code);
+        }
+        return VALUES[code];
+    }
+
+    /**
+     * Maps a down event to the matching action.
+     *
+     * @param event The down event.
+     * @return {@link #SOFT_DROP} for player moves, {@link #GRAVITY} otherwise.
+     */
+    public static ReplayAction ofDown(MoveEvent event) {
+        return event.eventSource() == EventSource.USER ? SOFT_DROP : GRAVITY;
+    }
+}
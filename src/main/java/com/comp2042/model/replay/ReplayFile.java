@@ -0,0 +1,182 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.model.engine.EngineInputListener;
+import com.comp2042.model.engine.GameEngine;
+import com.comp2042.model.engine.GameMode;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Random access to a replay file through its keyframe index.
+ * <p>
+ * The file is memory-mapped; opening it only reads the header and the footer. To
+ * {@link #seek(long) seek}, the keyframe index at the tail is binary-searched for the last
+ * snapshot at or before the target tick, the engine is restored from it, and only the events
+ * between that keyframe and the target are simulated. Finished games have an index; files
+ * without one (abandoned or still being written) are played forward from the start instead.
+ * </p>
+ */
+public final class ReplayFile {
+
+    private final ByteBuffer data;
+    private final GameMode mode;
+    private final long seed;
+    private final int keyframeCount;
+    private final int indexStart;
+    private Replay replay; // decoded on first use
+
+    /**
+     * Maps a replay file.
+     *
+     * @param path The file.
+     * @return The opened replay.
+     * @throws IOException If the file cannot be mapped or has no valid header.
+     */
+    public static ReplayFile open(Path path) throws IOException {
+        // The mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            try {
+                return new ReplayFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Not a valid replay file: " + path, e);
+            }
+        }
+    }
+
+    /**
+     * Wraps an encoded replay.
+     *
+     * @param data The whole file; it is not copied.
+     * @throws IllegalArgumentException If the header is invalid.
+     */
+    public ReplayFile(ByteBuffer data) {
+        this.data = data;
+        if (data.capacity() < ReplayFormat.HEADER_SIZE || data.getInt(0) != ReplayFormat.MAGIC
+                || !ReplayFormat.isReadable(data.get(4))) {
+            throw new IllegalArgumentException("Missing replay header");
+        }
+        int modeOrdinal = data.get(5);
+        if (modeOrdinal < 0 || modeOrdinal >= GameMode.values().length) {
+            throw new IllegalArgumentException("Unknown game mode " + modeOrdinal);
+        }
+        this.mode = GameMode.values()[modeOrdinal];
+        this.seed = data.getLong(6);
+
+        int size = data.capacity();
+        int count = 0;
+        int start = size;
+        if (size >= ReplayFormat.HEADER_SIZE + ReplayFormat.FOOTER_SIZE && data.getInt(size - 4) == ReplayFormat.FOOTER_MAGIC) {
+            count = data.getInt(size - 8);
+            start = size - ReplayFormat.FOOTER_SIZE - count * ReplayFormat.INDEX_ENTRY_SIZE;
+            if (count < 0 || start < ReplayFormat.HEADER_SIZE) {
+                count = 0; // not a footer after all
+                start = size;
+            }
+        }
+        this.keyframeCount = count;
+        this.indexStart = start;
+    }
+
+    public GameMode mode() { return mode; }
+    public long seed() { return seed; }
+    public int keyframeCount() { return keyframeCount; }
+
+    /**
+     * @return The fully decoded event stream.
+     */
+    public Replay replay() {
+        if (replay == null) {
+            replay = ReplayReader.decode(data.duplicate().clear());
+        }
+        return replay;
+    }
+
+    /**
+     * @param index Keyframe number, 0 to {@link #keyframeCount()} - 1.
+     * @return The tick the keyframe was taken at.
+     */
+    public long keyframeTick(int index) {
+        return data.getLong(indexStart + index * ReplayFormat.INDEX_ENTRY_SIZE);
+    }
+
+    /**
+     * Binary-searches the index for the last keyframe at or before a tick.
+     *
+     * @param tick The target tick.
+     * @return The keyframe number, or -1 if the target is before the first keyframe.
+     */
+    public int findKeyframe(long tick) {
+        int low = 0;
+        int high = keyframeCount - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (keyframeTick(mid) <= tick) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Rebuilds the game as it was at a tick: every action recorded at or before the tick has
+     * been applied, none after it.
+     *
+     * @param tick The target tick.
+     * @return A headless engine in that state.
+     */
+    public GameEngine seek(long tick) {
+        GameEngine engine = mode.createHeadlessEngine(seed);
+        int keyframe = findKeyframe(tick);
+        if (keyframe < 0) {
+            new ReplayPlayer(replay(), new EngineInputListener(engine)).advanceTo(tick);
+            return engine;
+        }
+
+        int entry = indexStart + keyframe * ReplayFormat.INDEX_ENTRY_SIZE;
+        int payload = (int) data.getLong(entry + 12);
+        ByteBuffer stream = data.duplicate().clear().position(payload);
+        engine.readState(stream); // leaves the stream just past the keyframe
+
+        EngineInputListener listener = new EngineInputListener(engine);
+        long current = keyframeTick(keyframe);
+        try {
+            while (stream.position() < indexStart) {
+                current += ReplayFormat.getVarint(stream);
+                ReplayAction action = ReplayAction.fromCode(stream.get());
+                if (action == ReplayAction.GRAVITY_RUN) {
+                    // The run may straddle the target: play only the moves up to it
+                    long moves = ReplayFormat.getVarint(stream);
+                    long span = ReplayFormat.getVarint(stream);
+                    for (long i = 0; i < moves && ReplayFormat.runTick(current, span, moves, i) <= tick; i++) {
+                        ReplayPlayer.dispatch(listener, ReplayAction.GRAVITY);
+                    }
+                    if (current > tick) {
+                        break;
+                    }
+                    continue;
+                }
+                if (current > tick || action == ReplayAction.END) {
+                    break;
+                }
+                if (action == ReplayAction.KEYFRAME) {
+                    int length = (int) ReplayFormat.getVarint(stream);
+                    stream.position(stream.position() + length);
+                } else {
+                    ReplayPlayer.dispatch(listener, action);
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            // torn tail: the game is as far as the file goes
+        }
+        return engine;
+    }
+}
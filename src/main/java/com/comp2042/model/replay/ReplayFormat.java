@@ -0,0 +1,87 @@
+package com.comp2042.model.replay;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Layout of a replay file.
+ * <pre>
+ * header : "TRPL" (4 bytes) | version (1) | game mode ordinal (1) | seed (8, big-endian)
+ * event  : varint(ticks since previous event) | action (1)
+ * key    : varint(ticks since previous event) | KEYFRAME (1) | varint(length) | engine state
+ * run    : varint(ticks since previous event) | GRAVITY_RUN (1) | varint(count) | varint(ticks from first to last)
+ * END    : varint(ticks since previous event) | END (1) | varint(final score)
+ * index  : { tick (8) | actions before it (4) | payload offset (8) } per keyframe, in tick order
+ * footer : keyframe count (4) | "TRKX" (4)
+ * </pre>
+ * <p>
+ * Keyframes sit in the event stream, so a file is still readable front to back while it is
+ * being written. The index and footer are only written when a game finishes; they let a reader
+ * memory-map the file and binary-search the keyframe for any tick without decoding the events.
+ * </p>
+ * <p>
+ * Times are in game-loop ticks ({@value #TICKS_PER_SECOND} per second). Varints are unsigned
+ * LEB128: 7 bits per byte, low bits first, high bit set on every byte except the last, so any
+ * gap under two seconds costs one byte and a typical event two bytes in total.
+ * </p>
+ * <p>
+ * Gravity moves down every interval whether or not the player does anything, up to once per
+ * tick at the top levels, so consecutive ones are written as a single run stamped with its last
+ * tick. Readers spread the run's moves evenly over its span ({@link #runTick}); only their order
+ * relative to other events matters to the game, so this replays exactly.
+ * </p>
+ */
+final class ReplayFormat {
+
+    static final int MAGIC = 0x5452504C; // "TRPL"
+    static final byte VERSION = 3; // 2: pieces rest for the lock delay and LOCK events lock them; 3: gravity runs
+    /** Oldest version still readable: version 2 files are valid version 3 files without runs. */
+    static final byte OLDEST_VERSION = 2;
+    static final int TICKS_PER_SECOND = 60;
+    static final int HEADER_SIZE = 4 + 1 + 1 + 8;
+    static final int FOOTER_MAGIC = 0x54524B58; // "TRKX"
+    static final int INDEX_ENTRY_SIZE = 8 + 4 + 8;
+    static final int FOOTER_SIZE = 4 + 4;
+    /** Upper bound for one keyframe payload on the standard board (about 180 bytes in practice). */
+    static final int MAX_KEYFRAME_SIZE = 512;
+    /** Largest single record: 10-byte varint time, action byte, then a gravity run's 5-byte count and 10-byte span. */
+    static final int MAX_RECORD_SIZE = 26;
+
+    private ReplayFormat() { }
+
+    static void putVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static boolean isReadable(byte version) {
+        return version >= OLDEST_VERSION && version <= VERSION;
+    }
+
+    /**
+     * Tick of one move of a gravity run.
+     *
+     * @param lastTick Tick the run was stamped with (its last move).
+     * @param span     Ticks from the first move to the last.
+     * @param count    Moves in the run.
+     * @param index    Which move, 0 to count - 1.
+     * @return The move's tick.
+     */
+    static long runTick(long lastTick, long span, long count, long index) {
+        return count <= 1 ? lastTick : lastTick - span + span * index / (count - 1);
+    }
+
+    static long getVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
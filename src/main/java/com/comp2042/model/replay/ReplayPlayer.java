@@ -0,0 +1,99 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.model.engine.EngineInputListener;
+import com.comp2042.model.engine.GameEngine;
+import com.comp2042.model.event.EventSource;
+import com.comp2042.model.event.EventType;
+import com.comp2042.model.event.InputEventListener;
+import com.comp2042.model.event.MoveEvent;
+
+/**
+ * Feeds a {@link Replay} back through an {@link InputEventListener}, the same path live input takes.
+ * <p>
+ * Playback is driven by the caller's clock: {@link #advanceTo(long)} dispatches everything up to a
+ * replay tick, so a UI can call it once per frame with {@code Replay.ticksAt(elapsedMillis * speed)}
+ * for any playback speed, while {@link #playAll()} runs the whole replay at once. {@link #verify(Replay)}
+ * does the latter on a fresh headless engine to check a recorded score.
+ * </p>
+ */
+public final class ReplayPlayer {
+
+    // Move events are immutable, so one instance per kind is enough
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent SOFT_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    private final Replay replay;
+    private final InputEventListener listener;
+    private int position;
+
+    /**
+     * @param replay   The replay to play.
+     * @param listener Receives the recorded input, e.g. a game controller or an {@link EngineInputListener}.
+     *                 It must be playing a fresh game with the replay's mode and seed.
+     */
+    public ReplayPlayer(Replay replay, InputEventListener listener) {
+        this.replay = replay;
+        this.listener = listener;
+    }
+
+    /**
+     * Dispatches every action recorded at or before the given replay tick.
+     *
+     * @param replayTick Ticks since the start of the recorded game.
+     * @return The number of actions dispatched.
+     */
+    public int advanceTo(long replayTick) {
+        int dispatched = 0;
+        while (position < replay.size() && replay.ticks()[position] <= replayTick) {
+            dispatch(replay.actions()[position++]);
+            dispatched++;
+        }
+        return dispatched;
+    }
+
+    /**
+     * Dispatches all remaining actions as fast as possible.
+     */
+    public void playAll() {
+        advanceTo(Long.MAX_VALUE);
+    }
+
+    public boolean isFinished() {
+        return position >= replay.size();
+    }
+
+    /**
+     * Replays a recording headlessly and reports the score it produces.
+     *
+     * @param replay The replay.
+     * @return The final score of the replayed game.
+     */
+    public static int verify(Replay replay) {
+        GameEngine engine = replay.mode().createHeadlessEngine(replay.seed());
+        new ReplayPlayer(replay, new EngineInputListener(engine)).playAll();
+        return engine.getScore().getValue();
+    }
+
+    private void dispatch(ReplayAction action) {
+        dispatch(listener, action);
+    }
+
+    static void dispatch(InputEventListener listener, ReplayAction action) {
+        switch (action) {
+            case LEFT -> listener.onLeftEvent(LEFT);
+            case RIGHT -> listener.onRightEvent(RIGHT);
+            case ROTATE -> listener.onRotateEvent(ROTATE);
+            case SOFT_DROP -> listener.onDownEvent(SOFT_DROP);
+            case GRAVITY -> listener.onDownEvent(GRAVITY);
+            case HARD_DROP -> listener.onHardDropEvent();
+            case HOLD -> listener.onHoldEvent();
+            case WALL_LEFT -> listener.onShiftToWallEvent(LEFT);
+            case WALL_RIGHT -> listener.onShiftToWallEvent(RIGHT);
+            case LOCK -> listener.onLockEvent();
+            case END, KEYFRAME, GRAVITY_RUN -> { } // markers, not input (runs are expanded on reading)
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.model.engine.GameMode;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Decodes replay files written by {@link ReplayWriter}.
+ * <p>
+ * A file without an END marker (a game that was abandoned, or is still being written) decodes
+ * to an incomplete {@link Replay} containing every whole event that made it to disk.
+ * </p>
+ */
+public final class ReplayReader {
+
+    private ReplayReader() { }
+
+    /**
+     * Reads and decodes a replay file.
+     *
+     * @param path The file.
+     * @return The decoded replay.
+     * @throws IOException If the file cannot be read or is not a replay.
+     */
+    public static Replay read(Path path) throws IOException {
+        try {
+            return decode(ByteBuffer.wrap(Files.readAllBytes(path)));
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new IOException("Not a valid replay file: " + path, e);
+        }
+    }
+
+    /**
+     * Decodes a replay from a buffer positioned at the start of the header.
+     *
+     * @param buffer The encoded replay.
+     * @return The decoded replay.
+     * @throws IllegalArgumentException If the header is invalid.
+     */
+    public static Replay decode(ByteBuffer buffer) {
+        if (buffer.remaining() < ReplayFormat.HEADER_SIZE || buffer.getInt() != ReplayFormat.MAGIC) {
+            throw new IllegalArgumentException("Missing replay header");
+        }
+        byte version = buffer.get();
+        if (!ReplayFormat.isReadable(version)) {
+            throw new IllegalArgumentException("Unsupported replay version " + version);
+        }
+        int modeOrdinal = buffer.get();
+        if (modeOrdinal < 0 || modeOrdinal >= GameMode.values().length) {
+            throw new IllegalArgumentException("Unknown game mode " + modeOrdinal);
+        }
+        GameMode mode = GameMode.values()[modeOrdinal];
+        long seed = buffer.getLong();
+
+        // Every event takes at least two bytes; gravity runs grow the arrays past that
+        int capacity = Math.max(16, buffer.remaining() / 2);
+        ReplayAction[] actions = new ReplayAction[capacity];
+        long[] ticks = new long[capacity];
+        int count = 0;
+        long tick = 0;
+        int finalScore = -1;
+
+        while (buffer.hasRemaining()) {
+            int start = buffer.position();
+            try {
+                tick += ReplayFormat.getVarint(buffer);
+                ReplayAction action = ReplayAction.fromCode(buffer.get());
+                if (action == ReplayAction.END) {
+                    finalScore = (int) ReplayFormat.getVarint(buffer);
+                    break;
+                }
+                if (action == ReplayAction.KEYFRAME) {
+                    int length = (int) ReplayFormat.getVarint(buffer);
+                    if (length > buffer.remaining()) {
+                        throw new BufferUnderflowException();
+                    }
+                    buffer.position(buffer.position() + length);
+                    continue;
+                }
+                long moves = 1;
+                long span = 0;
+                if (action == ReplayAction.GRAVITY_RUN) {
+                    moves = ReplayFormat.getVarint(buffer);
+                    span = ReplayFormat.getVarint(buffer);
+                    action = ReplayAction.GRAVITY;
+                }
+                if (count + moves > actions.length) {
+                    int grown = (int) Math.max(actions.length * 2L, count + moves);
+                    actions = Arrays.copyOf(actions, grown);
+                    ticks = Arrays.copyOf(ticks, grown);
+                }
+                for (long i = 0; i < moves; i++) {
+                    actions[count] = action;
+                    ticks[count] = ReplayFormat.runTick(tick, span, moves, i);
+                    count++;
+                }
+            } catch (BufferUnderflowException e) {
+                buffer.position(start); // torn final record: keep what we have
+                break;
+            }
+        }
+        return new Replay(mode, seed, Arrays.copyOf(actions, count), Arrays.copyOf(ticks, count), finalScore);
+    }
+}
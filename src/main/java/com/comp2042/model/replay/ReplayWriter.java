@@ -0,0 +1,287 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.model.engine.GameEngine;
+import com.comp2042.model.engine.GameMode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Records one game as a compact binary replay (see {@link ReplayFormat} for the layout).
+ * <p>
+ * {@link #record(ReplayAction)} only writes a few bytes into an in-memory chunk, so it is safe to
+ * call on the FX thread. Gravity moves are only counted until something else happens, then
+ * written as one run, so a game at top speed costs about as much as its player's input. Full chunks are handed to a single background thread that appends them
+ * to the file with a {@link FileChannel}; the caller never waits for the disk. The file is only
+ * created when the first chunk is written, so a short game that is abandoned leaves nothing behind.
+ * </p>
+ * <p>
+ * {@link #recordKeyframe(GameEngine)} stores a snapshot of the engine in the stream and remembers
+ * where it went; {@link #finish(int)} writes those positions as an index at the end of the file,
+ * which {@link ReplayFile} uses to seek.
+ * </p>
+ * <p>
+ * Recordings still open when the application exits are closed by {@link #closeAll()}, so an
+ * abandoned game keeps everything up to the exit instead of losing its last chunk.
+ * </p>
+ * <p>
+ * A writer is used from one thread only (the thread that plays the game).
+ * </p>
+ */
+public final class ReplayWriter implements AutoCloseable {
+
+    static final int CHUNK_SIZE = 4096;
+
+    // One shared writer thread keeps each file's chunks in order and never blocks the game
+    private static final ExecutorService IO = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "replay-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Recordings not yet finished or closed, for closeAll()
+    private static final Set<ReplayWriter> OPEN = ConcurrentHashMap.newKeySet();
+
+    private final Path path;
+    private final LongSupplier clock;
+    private final long startMillis;
+    private ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+    private final ByteBuffer keyframe = ByteBuffer.allocate(ReplayFormat.MAX_KEYFRAME_SIZE);
+    private long lastTick; // of the last record written
+    private int gravityRun; // gravity moves counted but not yet written
+    private long gravityRunStart;
+    private long gravityRunEnd;
+    private long flushedBytes; // bytes handed to the writer thread so far
+    private int actionCount;
+
+    // Keyframe index, written at the tail by finish()
+    private long[] keyframeTicks = new long[16];
+    private int[] keyframeActions = new int[16];
+    private long[] keyframeOffsets = new long[16];
+    private int keyframeCount;
+    private boolean fileCreated;
+    private boolean closed;
+
+    /**
+     * Starts a recording timed by the monotonic system clock.
+     *
+     * @param path File to write (created on the first flush; an existing file is replaced).
+     * @param mode The game's mode.
+     * @param seed The game's piece-sequence seed.
+     */
+    public ReplayWriter(Path path, GameMode mode, long seed) {
+        this(path, mode, seed, () -> System.nanoTime() / 1_000_000L);
+    }
+
+    /**
+     * Starts a recording timed by the given clock.
+     *
+     * @param path  File to write (created on the first flush; an existing file is replaced).
+     * @param mode  The game's mode.
+     * @param seed  The game's piece-sequence seed.
+     * @param clock Millisecond clock; readings are stored as ticks since the first one.
+     */
+    public ReplayWriter(Path path, GameMode mode, long seed, LongSupplier clock) {
+        this.path = path;
+        this.clock = clock;
+        this.startMillis = clock.getAsLong();
+        chunk.putInt(ReplayFormat.MAGIC).put(ReplayFormat.VERSION).put((byte) mode.ordinal()).putLong(seed);
+        OPEN.add(this);
+    }
+
+    /**
+     * Closes every recording that is still open and waits (briefly) for them to reach the disk,
+     * e.g. when the application exits. Call from the thread that plays the games.
+     */
+    public static void closeAll() {
+        for (ReplayWriter writer : List.copyOf(OPEN)) {
+            writer.close();
+        }
+        try {
+            IO.submit(() -> { }).get(2, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            System.err.println("Could not finish writing replays: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Appends an action stamped with the current clock reading.
+     *
+     * @param action The action the game just processed.
+     */
+    public void record(ReplayAction action) {
+        if (closed) {
+            return;
+        }
+        if (action == ReplayAction.GRAVITY) {
+            long tick = currentTick();
+            if (gravityRun == 0) {
+                gravityRunStart = tick;
+            }
+            gravityRunEnd = tick;
+            gravityRun++;
+            actionCount++;
+            return;
+        }
+        writeGravityRun();
+        if (chunk.remaining() < ReplayFormat.MAX_RECORD_SIZE) {
+            flush();
+        }
+        putCode(action, currentTick());
+        if (action != ReplayAction.END) {
+            actionCount++;
+        }
+    }
+
+    /**
+     * Stores a snapshot of the engine at the current point of the stream.
+     *
+     * @param engine The engine being recorded; its board must use a seeded generator.
+     */
+    public void recordKeyframe(GameEngine engine) {
+        if (closed) {
+            return;
+        }
+        keyframe.clear();
+        engine.writeState(keyframe);
+        keyframe.flip();
+        writeGravityRun();
+        if (chunk.remaining() < ReplayFormat.MAX_RECORD_SIZE + keyframe.remaining()) {
+            flush();
+        }
+        putCode(ReplayAction.KEYFRAME, currentTick());
+        ReplayFormat.putVarint(chunk, keyframe.remaining());
+        addIndexEntry(lastTick, actionCount, flushedBytes + chunk.position());
+        chunk.put(keyframe);
+    }
+
+    private long currentTick() {
+        // Ticks come from the total elapsed time, so rounding never accumulates
+        return Math.max(Math.max(lastTick, gravityRunEnd), Replay.ticksAt(clock.getAsLong() - startMillis));
+    }
+
+    private void putCode(ReplayAction action, long tick) {
+        ReplayFormat.putVarint(chunk, tick - lastTick);
+        chunk.put(action.code());
+        lastTick = tick;
+    }
+
+    /* Writes the counted gravity moves, a lone one as a plain GRAVITY event. */
+    private void writeGravityRun() {
+        if (gravityRun == 0) {
+            return;
+        }
+        if (chunk.remaining() < ReplayFormat.MAX_RECORD_SIZE) {
+            flush();
+        }
+        if (gravityRun == 1) {
+            putCode(ReplayAction.GRAVITY, gravityRunEnd);
+        } else {
+            putCode(ReplayAction.GRAVITY_RUN, gravityRunEnd);
+            ReplayFormat.putVarint(chunk, gravityRun);
+            ReplayFormat.putVarint(chunk, gravityRunEnd - gravityRunStart);
+        }
+        gravityRun = 0;
+    }
+
+    /**
+     * Writes the END marker with the final score and closes the recording.
+     *
+     * @param finalScore The score the game ended with.
+     * @return Completes when everything has reached the file.
+     */
+    public Future<?> finish(int finalScore) {
+        if (closed) {
+            return CompletableFuture.completedFuture(null);
+        }
+        record(ReplayAction.END);
+        ReplayFormat.putVarint(chunk, finalScore);
+        for (int i = 0; i < keyframeCount; i++) {
+            if (chunk.remaining() < ReplayFormat.INDEX_ENTRY_SIZE + ReplayFormat.FOOTER_SIZE) {
+                flush();
+            }
+            chunk.putLong(keyframeTicks[i]).putInt(keyframeActions[i]).putLong(keyframeOffsets[i]);
+        }
+        chunk.putInt(keyframeCount).putInt(ReplayFormat.FOOTER_MAGIC);
+        closed = true;
+        OPEN.remove(this);
+        return flush();
+    }
+
+    /**
+     * Closes the recording without an END marker (the game was abandoned).
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            writeGravityRun();
+            closed = true;
+            OPEN.remove(this);
+            flush();
+        }
+    }
+
+    /**
+     * @return Tick of the last recorded action.
+     */
+    public long lastTick() {
+        return gravityRun > 0 ? gravityRunEnd : lastTick;
+    }
+
+    public Path getPath() { return path; }
+
+    /* Hands the current chunk to the writer thread and starts a new one. */
+    private Future<?> flush() {
+        if (chunk.position() == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        ByteBuffer full = chunk.flip();
+        flushedBytes += full.remaining();
+        chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        boolean append = fileCreated;
+        fileCreated = true;
+        return IO.submit(() -> write(full, append));
+    }
+
+    private void addIndexEntry(long tick, int actions, long offset) {
+        if (keyframeCount == keyframeTicks.length) {
+            keyframeTicks = Arrays.copyOf(keyframeTicks, keyframeCount * 2);
+            keyframeActions = Arrays.copyOf(keyframeActions, keyframeCount * 2);
+            keyframeOffsets = Arrays.copyOf(keyframeOffsets, keyframeCount * 2);
+        }
+        keyframeTicks[keyframeCount] = tick;
+        keyframeActions[keyframeCount] = actions;
+        keyframeOffsets[keyframeCount] = offset;
+        keyframeCount++;
+    }
+
+    private void write(ByteBuffer data, boolean append) {
+        try {
+            if (!append && path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            StandardOpenOption mode = append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write replay: " + e.getMessage());
+        }
+    }
+}
@@ -30,6 +30,8 @@ public record ClearRow(int[][] newMatrix, int scoreBonus, List<Integer> clearedR
      * Retrieves the new board matrix.
      * <p>
      * Returns a defensive copy to prevent external modification of the game state.
+     * Boards that clear rows in place pass their live matrix here, so the copy reflects the
+     * board at the time this method is called.
      * </p>
      *
      * @return A deep copy of the 2D integer array.
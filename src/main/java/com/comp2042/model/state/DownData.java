@@ -8,7 +8,7 @@ package com.comp2042.model.state;
  * </p>
  *
  * @param clearRow The result of checking for cleared lines after the move.
- * @param viewData The updated view state (positions, active brick) after the move.
+ * @param viewSnapshot The updated view state (positions, active brick) after the move.
  */
-public record DownData(ClearRow clearRow, ViewData viewData) {
+public record DownData(ClearRow clearRow, ViewSnapshot viewSnapshot) {
 }
\ No newline at end of file
@@ -9,6 +9,10 @@ import com.comp2042.util.MatrixOperations;
  * Model to the View. It contains all necessary information to render a single frame,
  * including the active brick, its position, the next brick, the shadow, and the held brick.
  * </p>
+ * <p>
+ * Every accessor returns a defensive copy, which makes this convenient for tests but too costly
+ * for the render path; the game loop uses the non-copying {@link ViewSnapshot} instead.
+ * </p>
  *
  * @param brickData       The matrix of the currently falling active brick.
  * @param xPosition       The current X-coordinate (column) of the active brick.
@@ -0,0 +1,54 @@
+package com.comp2042.model.state;
+
+import com.comp2042.model.bricks.BrickShape;
+
+/**
+ * A read-only view of the game's visual state, as handed from the Model to the View.
+ * <p>
+ * Unlike {@link ViewData}, a snapshot does not copy anything: the brick shapes are the shared,
+ * immutable {@link BrickShape} table entries and the snapshot object itself is reused by the
+ * board. A snapshot stays valid until the board publishes the one after next, which is plenty
+ * for a consumer that renders it straight away.
+ * </p>
+ * <p>
+ * {@link #version()} increases whenever the board state changes, so a renderer can remember the
+ * last version it drew and skip the frame entirely when nothing moved.
+ * </p>
+ */
+public interface ViewSnapshot {
+
+    /**
+     * @return The shape of the currently falling active brick.
+     */
+    BrickShape brickShape();
+
+    /**
+     * @return The current X-coordinate (column) of the active brick.
+     */
+    int xPosition();
+
+    /**
+     * @return The current Y-coordinate (row) of the active brick.
+     */
+    int yPosition();
+
+    /**
+     * @return The shape of the upcoming brick (for the Next Piece preview).
+     */
+    BrickShape nextBrickShape();
+
+    /**
+     * @return The projected Y-coordinate where the brick would land (Ghost Piece).
+     */
+    int shadowYPosition();
+
+    /**
+     * @return The shape of the currently held brick, or null if nothing is held.
+     */
+    BrickShape heldBrickShape();
+
+    /**
+     * @return The board state version this snapshot was taken at.
+     */
+    long version();
+}
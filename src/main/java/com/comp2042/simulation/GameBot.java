@@ -0,0 +1,176 @@
+package com.comp2042.simulation;
+
+import com.comp2042.model.board.AbstractBoard;
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.model.engine.GameEngine;
+import com.comp2042.util.MatrixOperations;
+
+import java.util.Arrays;
+
+/**
+ * A simple placement bot for simulations.
+ * <p>
+ * When a piece spawns, the bot tries every rotation and column of it: it drops the piece straight
+ * down from where it is, scores the resulting board with a weighted sum of aggregate height,
+ * completed lines, holes and bumpiness, and picks the best placement. It then plays that
+ * placement through the {@link GameEngine} one input per {@link #act} call (rotate, shift, and
+ * finally hard drop), so a runner that calls it on a budget while gravity runs sees it fall
+ * behind as the game speeds up. It reads the locked board, not the player's view, so it plays
+ * Challenge Mode as if every block were visible.
+ * </p>
+ * <p>
+ * A rotation that is refused (no room to turn) drops the plan to the best column for the
+ * rotation the piece is in; a shift that is refused drops the piece where it is.
+ * </p>
+ * <p>
+ * A bot keeps a scratch matrix, column buffer and its current plan, so it must not be shared
+ * between games.
+ * </p>
+ */
+public class GameBot {
+
+    // Weights from the classic "near-perfect" heuristic tuning for a 10-wide well
+    private static final double HEIGHT_WEIGHT = -0.510066;
+    private static final double LINES_WEIGHT = 0.760666;
+    private static final double HOLES_WEIGHT = -0.35663;
+    private static final double BUMPINESS_WEIGHT = -0.184483;
+
+    private int[][] scratch;
+    private int[] tops; // topmost filled row per column, -1 when empty
+
+    private int plannedPiece = -1; // engine.getPiecesPlaced() when the plan was made
+    private int targetRotation;
+    private int targetX;
+
+    /**
+     * Makes one input towards the best placement of the active piece, planning it first if the
+     * piece is new.
+     *
+     * @param engine The engine to play on (its board must be an {@link AbstractBoard}).
+     */
+    public void act(GameEngine engine) {
+        if (engine.isGameOver()) {
+            return;
+        }
+        AbstractBoard board = (AbstractBoard) engine.getBoard();
+        if (plannedPiece != engine.getPiecesPlaced()) {
+            plan(board, -1);
+            plannedPiece = engine.getPiecesPlaced();
+        }
+
+        int rotation = board.getBrickRotation();
+        if (rotation != targetRotation) {
+            engine.rotate();
+            if (board.getBrickRotation() == rotation) {
+                plan(board, rotation); // can't turn here: make the best of this rotation
+            }
+            return;
+        }
+        // A wall kick may have moved us already, so the column is read fresh every time
+        int x = engine.getViewSnapshot().xPosition();
+        if (x != targetX && (x < targetX ? engine.moveRight() : engine.moveLeft())) {
+            return;
+        }
+        engine.hardDrop(); // in place, or as close as it could get
+    }
+
+    /* Picks the target; only the given rotation if onlyRotation >= 0. */
+    private void plan(AbstractBoard board, int onlyRotation) {
+        int[][] locked = board.getLockedMatrix();
+        ensureBuffers(locked);
+
+        Brick brick = board.getActiveBrick();
+        int startY = board.getBrickRow();
+        targetRotation = board.getBrickRotation();
+        targetX = board.getViewSnapshot().xPosition();
+        double bestScore = Double.NEGATIVE_INFINITY;
+
+        for (int r = 0; r < brick.getRotationCount(); r++) {
+            if (onlyRotation >= 0 && r != onlyRotation) {
+                continue;
+            }
+            BrickShape shape = brick.getShape(r);
+            for (int x = -shape.getMinColumn(); x + shape.getMaxColumn() < locked[0].length; x++) {
+                double score = evaluate(locked, shape, x, startY);
+                if (score > bestScore) {
+                    bestScore = score;
+                    targetRotation = r;
+                    targetX = x;
+                }
+            }
+        }
+    }
+
+    /* Scores dropping the shape straight down at column x from row y; -infinity if it doesn't fit there. */
+    private double evaluate(int[][] locked, BrickShape shape, int x, int startY) {
+        if (MatrixOperations.intersect(locked, shape, x, startY)) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        int y = startY;
+        while (!MatrixOperations.intersect(locked, shape, x, y + 1)) {
+            y++;
+        }
+        for (int i = 0; i < locked.length; i++) {
+            System.arraycopy(locked[i], 0, scratch[i], 0, locked[i].length);
+        }
+        MatrixOperations.mergeInPlace(scratch, shape, x, y);
+        return score(scratch);
+    }
+
+    /* Full rows are skipped while scanning, which is the same as clearing them first. */
+    private double score(int[][] matrix) {
+        int columns = matrix[0].length;
+        int lines = 0;
+        int holes = 0;
+        Arrays.fill(tops, -1);
+
+        int effectiveRow = 0; // row index from the top, not counting full rows
+        for (int[] row : matrix) {
+            if (isFull(row)) {
+                lines++;
+                continue;
+            }
+            for (int j = 0; j < columns; j++) {
+                if (row[j] != 0) {
+                    if (tops[j] < 0) {
+                        tops[j] = effectiveRow;
+                    }
+                } else if (tops[j] >= 0) {
+                    holes++; // empty cell under a block
+                }
+            }
+            effectiveRow++;
+        }
+
+        int aggregateHeight = 0;
+        int bumpiness = 0;
+        int previousHeight = 0;
+        for (int j = 0; j < columns; j++) {
+            int height = tops[j] < 0 ? 0 : effectiveRow - tops[j];
+            aggregateHeight += height;
+            if (j > 0) {
+                bumpiness += Math.abs(height - previousHeight);
+            }
+            previousHeight = height;
+        }
+        return HEIGHT_WEIGHT * aggregateHeight + LINES_WEIGHT * lines
+                + HOLES_WEIGHT * holes + BUMPINESS_WEIGHT * bumpiness;
+    }
+
+    private static boolean isFull(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureBuffers(int[][] locked) {
+        if (scratch == null || scratch.length != locked.length || scratch[0].length != locked[0].length) {
+            scratch = new int[locked.length][locked[0].length];
+            tops = new int[locked[0].length];
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.comp2042.simulation;
+
+/**
+ * The outcome of one simulated game.
+ *
+ * @param index        Position of the game in its batch.
+ * @param seed         The seed the game's piece sequence was drawn from.
+ * @param score        Final score.
+ * @param linesCleared Total lines cleared.
+ * @param piecesPlaced Total pieces locked.
+ * @param level        Level reached (always 1 in modes without levelling).
+ * @param reason       Why the game stopped.
+ */
+public record GameResult(int index, long seed, int score, int linesCleared, int piecesPlaced,
+                         int level, TopOutReason reason) {
+}
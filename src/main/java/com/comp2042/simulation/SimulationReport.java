@@ -0,0 +1,76 @@
+package com.comp2042.simulation;
+
+import com.comp2042.model.engine.GameMode;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregate statistics over a batch of simulated games.
+ *
+ * @param mode         The mode that was played.
+ * @param results      Per-game results, in batch order.
+ * @param elapsedNanos Wall time for the whole batch.
+ */
+public record SimulationReport(GameMode mode, List<GameResult> results, long elapsedNanos) {
+
+    public SimulationReport {
+        results = List.copyOf(results);
+    }
+
+    public int games() {
+        return results.size();
+    }
+
+    public double meanScore() {
+        return results.stream().mapToInt(GameResult::score).average().orElse(0);
+    }
+
+    public int maxScore() {
+        return results.stream().mapToInt(GameResult::score).max().orElse(0);
+    }
+
+    public double meanLinesCleared() {
+        return results.stream().mapToInt(GameResult::linesCleared).average().orElse(0);
+    }
+
+    public long totalPiecesPlaced() {
+        return results.stream().mapToLong(GameResult::piecesPlaced).sum();
+    }
+
+    public double meanLevel() {
+        return results.stream().mapToInt(GameResult::level).average().orElse(0);
+    }
+
+    /**
+     * @return How many games ended for each reason.
+     */
+    public Map<TopOutReason, Integer> reasonCounts() {
+        Map<TopOutReason, Integer> counts = new EnumMap<>(TopOutReason.class);
+        for (GameResult result : results) {
+            counts.merge(result.reason(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * @return Games completed per second of wall time.
+     */
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games() * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%s: %d games in %.2f s (%.1f games/s, %.0f pieces/s)%n"
+                        + "  score  mean %.1f  max %d%n"
+                        + "  lines  mean %.1f%n"
+                        + "  level  mean %.2f%n"
+                        + "  ended  %s",
+                mode, games(), elapsedNanos / 1e9, gamesPerSecond(),
+                elapsedNanos == 0 ? 0 : totalPiecesPlaced() * 1e9 / elapsedNanos,
+                meanScore(), maxScore(), meanLinesCleared(), meanLevel(), reasonCounts());
+    }
+}
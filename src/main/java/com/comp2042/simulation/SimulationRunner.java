@@ -0,0 +1,152 @@
+package com.comp2042.simulation;
+
+import com.comp2042.model.LevelManager;
+import com.comp2042.model.engine.GameEngine;
+import com.comp2042.model.engine.GameMode;
+import com.comp2042.model.engine.NormalModeEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays batches of bot-driven games headlessly, one virtual thread per game.
+ * <p>
+ * Every game owns its engine, board, piece generator and {@link GameBot}, and its seed is
+ * derived only from the batch seed and its index, so games share no mutable state and the
+ * report is the same however the threads are scheduled. Results are collected in index order.
+ * </p>
+ * <p>
+ * Games run frame by frame (60 a second, like the game loop): every frame gravity moves the piece
+ * at the current level's speed and the lock delay counts down, and every
+ * {@code framesPerInput} frames the bot gets to make one input. As the level rises pieces fall
+ * faster than the bot can steer them, so speed can top it out just as it would a player.
+ * </p>
+ * <p>
+ * Run from the command line with
+ * {@code java -cp <classpath> com.comp2042.simulation.SimulationRunner [games] [seed] [NORMAL|CHALLENGE] [maxPieces] [framesPerInput]}.
+ * </p>
+ */
+public class SimulationRunner {
+
+    public static final int DEFAULT_MAX_PIECES = 10_000;
+    /** One input every 4 frames: 15 a second, a quick but human pace. */
+    public static final int DEFAULT_FRAMES_PER_INPUT = 4;
+
+    private static final long FRAME_NANOS = 1_000_000_000L / 60;
+    private static final double FRAME_MILLIS = 1000.0 / 60;
+    // Modes without levels fall at level 1 speed, as the game loop starts out
+    private static final double BASE_DELAY_MILLIS = new LevelManager().getCurrentDelay();
+
+    private final GameMode mode;
+    private final int maxPieces;
+    private final int framesPerInput;
+
+    /**
+     * @param mode      The mode every game is played in.
+     * @param maxPieces Games still alive after this many pieces are stopped and counted as {@link TopOutReason#PIECE_LIMIT}.
+     */
+    public SimulationRunner(GameMode mode, int maxPieces) {
+        this(mode, maxPieces, DEFAULT_FRAMES_PER_INPUT);
+    }
+
+    /**
+     * @param mode           The mode every game is played in.
+     * @param maxPieces      Games still alive after this many pieces are stopped and counted as {@link TopOutReason#PIECE_LIMIT}.
+     * @param framesPerInput Frames between two of the bot's inputs (1 = an input every frame).
+     */
+    public SimulationRunner(GameMode mode, int maxPieces, int framesPerInput) {
+        if (maxPieces <= 0) {
+            throw new IllegalArgumentException("maxPieces must be positive, got " + maxPieces);
+        }
+        if (framesPerInput <= 0) {
+            throw new IllegalArgumentException("framesPerInput must be positive, got " + framesPerInput);
+        }
+        this.mode = mode;
+        this.maxPieces = maxPieces;
+        this.framesPerInput = framesPerInput;
+    }
+
+    /**
+     * Plays a batch of games in parallel.
+     *
+     * @param games    Number of games.
+     * @param baseSeed Seed of the batch; each game's seed is {@link #seedFor(long, int)}.
+     * @return The aggregate report.
+     */
+    public SimulationReport run(int games, long baseSeed) {
+        long start = System.nanoTime();
+        List<Future<GameResult>> futures = new ArrayList<>(games);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < games; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> playGame(index, seedFor(baseSeed, index))));
+            }
+        } // close() waits for every game
+
+        List<GameResult> results = new ArrayList<>(games);
+        for (Future<GameResult> future : futures) {
+            results.add(future.resultNow());
+        }
+        return new SimulationReport(mode, results, System.nanoTime() - start);
+    }
+
+    /**
+     * Plays a single game on the calling thread.
+     *
+     * @param index Position of the game in its batch (reported only).
+     * @param seed  Piece-sequence seed.
+     * @return The game's result.
+     */
+    public GameResult playGame(int index, long seed) {
+        GameEngine engine = mode.createHeadlessEngine(seed);
+        LevelManager levels = engine instanceof NormalModeEngine normal ? normal.getLevelManager() : null;
+        GameBot bot = new GameBot();
+        double gravityMillis = 0; // time towards the next gravity tick, as in the game loop
+        for (long frame = 0; !engine.isGameOver() && engine.getPiecesPlaced() < maxPieces; frame++) {
+            if (frame % framesPerInput == 0) {
+                bot.act(engine);
+            }
+            double delay = levels != null ? levels.getCurrentDelay() : BASE_DELAY_MILLIS;
+            gravityMillis += FRAME_MILLIS;
+            while (gravityMillis >= delay && !engine.isGameOver()) {
+                gravityMillis -= delay;
+                engine.tick();
+            }
+            if (engine.updateLockDelay(FRAME_NANOS)) {
+                engine.lock();
+            }
+        }
+        int level = levels != null ? levels.getCurrentLevel() : 1;
+        return new GameResult(index, seed, engine.getScore().getValue(), engine.getLinesCleared(),
+                engine.getPiecesPlaced(), level,
+                engine.isGameOver() ? TopOutReason.SPAWN_BLOCKED : TopOutReason.PIECE_LIMIT);
+    }
+
+    /**
+     * Derives the seed of one game from the batch seed (SplitMix64 finaliser), so neighbouring
+     * indices still get unrelated piece sequences.
+     *
+     * @param baseSeed The batch seed.
+     * @param index    The game index.
+     * @return The game's seed.
+     */
+    public static long seedFor(long baseSeed, int index) {
+        long z = baseSeed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 2042L;
+        GameMode mode = args.length > 2 ? GameMode.valueOf(args[2].toUpperCase()) : GameMode.NORMAL;
+        int maxPieces = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_MAX_PIECES;
+        int framesPerInput = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_FRAMES_PER_INPUT;
+
+        System.out.println(new SimulationRunner(mode, maxPieces, framesPerInput).run(games, seed));
+    }
+}
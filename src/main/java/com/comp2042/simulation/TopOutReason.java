@@ -0,0 +1,11 @@
+package com.comp2042.simulation;
+
+/**
+ * Why a simulated game stopped.
+ */
+public enum TopOutReason {
+    /** A new piece could not spawn because the stack reached the spawn area. */
+    SPAWN_BLOCKED,
+    /** The game was still alive when it hit the runner's piece limit. */
+    PIECE_LIMIT
+}
@@ -10,11 +10,15 @@ import java.net.URL;
  * Handles loading and playing of background music (looped) and sound effects (one-shot).
  * Centralizes volume control and mute settings for the entire game.
  * </p>
+ * <p>
+ * Music streams through a {@link MediaPlayer}; sound effects come from a {@link SoundBank}
+ * decoded once by {@link #preloadSounds()}, so playing one never touches the disk.
+ * </p>
  */
 public class AudioManager {
 
     private MediaPlayer musicPlayer;
-    private MediaPlayer sfxPlayer;
+    private volatile SoundBank soundBank; // loaded by the scene preloader thread
 
     private double musicVolume = 0.5;  // 0.0 to 1.0
     private double sfxVolume = 0.7;    // 0.0 to 1.0
@@ -52,30 +56,47 @@ public class AudioManager {
     }
 
     /**
-     * Plays a short sound effect (SFX) once.
-     *
-     * @param resourcePath The relative path to the SFX resource.
+     * Decodes every sound effect up front, so the first line clear doesn't stall on a decode.
+     * Meant for a background thread: the bank is published through a volatile field, and the
+     * play path only reads that field, so it never waits on this lock while the bank decodes.
      */
-    public void playSFX(String resourcePath) {
-        if (!sfxEnabled) return;
+    public synchronized void preloadSounds() {
+        if (soundBank == null) {
+            soundBank = SoundBank.load();
+        }
+    }
 
-        try {
-            URL resource = getClass().getResource(resourcePath);
-            if (resource == null) {
-                System.err.println("SFX file not found: " + resourcePath);
-                return;
-            }
+    /**
+     * Plays a short sound effect (SFX) once, in reply to something that happens now (a button
+     * click, say). Game events pass their own time to {@link #playSFX(SoundEffect, long)}.
+     *
+     * @param effect The effect to play.
+     */
+    public void playSFX(SoundEffect effect) {
+        playSFX(effect, System.nanoTime());
+    }
 
-            Media media = new Media(resource.toExternalForm());
-            sfxPlayer = new MediaPlayer(media);
-            sfxPlayer.setVolume(sfxVolume);
-            sfxPlayer.play();
+    /**
+     * Plays a short sound effect (SFX) once, measuring latency from an earlier trigger.
+     * <p>
+     * Until {@link #preloadSounds()} has finished the sound is simply dropped; a late sound is
+     * worse than a missing one, and decoding here would stall the FX thread.
+     * </p>
+     *
+     * @param effect      The effect to play.
+     * @param triggeredAt When the event that makes the sound happened ({@link System#nanoTime()}).
+     */
+    public void playSFX(SoundEffect effect, long triggeredAt) {
+        SoundBank bank = soundBank;
+        if (!sfxEnabled || bank == null) return;
+        bank.play(effect, sfxVolume, triggeredAt);
+    }
 
-            // Clean up after playing
-            sfxPlayer.setOnEndOfMedia(() -> sfxPlayer.dispose());
-        } catch (Exception e) {
-            System.err.println("Error playing SFX: " + e.getMessage());
-        }
+    /**
+     * @return The loaded sound effects with their play and latency figures, or null before {@link #preloadSounds()}.
+     */
+    public SoundBank getSoundBank() {
+        return soundBank;
     }
 
     /**
@@ -140,13 +161,13 @@ public class AudioManager {
      * Helper method to play the standard button press sound.
      */
     public void playButtonPress() {
-        playSFX("/sfx/button-press.mp3");
+        playSFX(SoundEffect.BUTTON_PRESS);
     }
 
     /**
      * Helper method to play the 'Play' button start sound.
      */
     public void playPlayPress() {
-        playSFX("/sfx/play-press.mp3");
+        playSFX(SoundEffect.PLAY_PRESS);
     }
 }
\ No newline at end of file
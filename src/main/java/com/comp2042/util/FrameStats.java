@@ -0,0 +1,96 @@
+package com.comp2042.util;
+
+/**
+ * Per-frame timing figures collected by the {@link GameLoop}.
+ * <p>
+ * Values are overwritten every frame (no history is kept), so reading them is cheap enough
+ * to do from a debug overlay or a log line. All times are in nanoseconds.
+ * </p>
+ */
+public final class FrameStats {
+
+    private long frameCount;
+    private long missedFrames;
+    private long lastFrameInterval;
+    private long lastUpdateTime;
+    private long lastRenderTime;
+    private long lastInputLatency;
+    private long maxInputLatency;
+
+    /**
+     * Records the time between two frames and counts any whole steps that were skipped.
+     *
+     * @param interval  Time since the previous frame.
+     * @param stepNanos Length of one expected frame.
+     */
+    void recordFrame(long interval, long stepNanos) {
+        frameCount++;
+        lastFrameInterval = interval;
+        if (interval > stepNanos + stepNanos / 2) {
+            missedFrames += (interval + stepNanos / 2) / stepNanos - 1;
+        }
+    }
+
+    void recordTimes(long updateNanos, long renderNanos) {
+        lastUpdateTime = updateNanos;
+        lastRenderTime = renderNanos;
+    }
+
+    /**
+     * Records how long an input waited before the frame that displayed its result.
+     *
+     * @param latencyNanos Time from the key press being queued to its result being drawn.
+     */
+    public void recordInputLatency(long latencyNanos) {
+        lastInputLatency = latencyNanos;
+        maxInputLatency = Math.max(maxInputLatency, latencyNanos);
+    }
+
+    /**
+     * Clears all counters (e.g. when a new game starts).
+     */
+    public void reset() {
+        frameCount = 0;
+        missedFrames = 0;
+        lastFrameInterval = 0;
+        lastUpdateTime = 0;
+        lastRenderTime = 0;
+        lastInputLatency = 0;
+        maxInputLatency = 0;
+    }
+
+    /** @return Frames processed since the last reset. */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /** @return Frames that were expected but never arrived (long pulses) since the last reset. */
+    public long getMissedFrames() {
+        return missedFrames;
+    }
+
+    /** @return Time between the two most recent frames. */
+    public long getLastFrameInterval() {
+        return lastFrameInterval;
+    }
+
+    /** @return Time spent running fixed steps (gravity, lock delay, input repeat) in the last frame. */
+    public long getLastUpdateTime() {
+        return lastUpdateTime;
+    }
+
+    /** @return Time spent in the render pass in the last frame. */
+    public long getLastRenderTime() {
+        return lastRenderTime;
+    }
+
+    /** @return Latency of the most recently displayed input. */
+    public long getLastInputLatency() {
+        return lastInputLatency;
+    }
+
+    /** @return Worst input latency since the last reset. */
+    public long getMaxInputLatency() {
+        return maxInputLatency;
+    }
+}
@@ -1,81 +1,201 @@
 package com.comp2042.util;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
+import javafx.animation.AnimationTimer;
 
 import java.util.function.Consumer;
 
 /**
- * A wrapper class for the JavaFX Timeline to manage the game loop.
+ * The game loop, driven by a JavaFX {@link AnimationTimer} with a fixed simulation step.
  * <p>
- * Encapsulates the logic for starting, stopping, pausing, and adjusting the speed
- * of the game tick cycle.
+ * Every pulse first runs the input action once (applying whatever the player pressed since the
+ * last frame), then adds the real elapsed time to an accumulator, which is then drained in fixed
+ * steps of {@link #STEP_NANOS} (60 per second, whatever the monitor's refresh rate). Each step
+ * runs the step action (used for lock delay and key repeat) and advances a separate gravity
+ * accumulator, which fires the tick action once per gravity interval. After the steps, the
+ * render action runs once, so drawing is decoupled from how many updates happened.
+ * </p>
+ * <p>
+ * {@link #setSpeed(double)} only changes the gravity interval: the partially elapsed tick is
+ * kept (scaled to the new interval), so levelling up no longer restarts the fall timer.
  * </p>
  */
 public class GameLoop {
 
-    private Timeline timeline;
-    private final Consumer<Void> tickAction; // What runs every tick
-    private double currentDelay;
+    /** Length of one simulation step in nanoseconds (60 updates per second). */
+    public static final long STEP_NANOS = 1_000_000_000L / 60;
+
+    // A single frame may not feed more than this into the accumulator (e.g. after the window was dragged)
+    private static final long MAX_FRAME_NANOS = STEP_NANOS * 15;
+
+    private final Consumer<Void> tickAction; // What runs every gravity tick
+    private Runnable inputAction = () -> { };
+    private Runnable stepAction = () -> { };
+    private Runnable renderAction = () -> { };
+    private final FrameStats stats = new FrameStats();
+
+    private AnimationTimer timer;
+    private boolean haltRequested;
+    private long gravityNanos;
+    private long lastFrameTime = -1;
+    private long stepAccumulator;
+    private long gravityAccumulator;
+    private long stepTime;
 
     /**
      * Creates a new GameLoop.
      *
-     * @param initialDelay The starting duration (in ms) between each tick.
-     * @param tickAction   The action (Consumer) to execute on every tick.
+     * @param initialDelay The starting duration (in ms) between each gravity tick.
+     * @param tickAction   The action (Consumer) to execute on every gravity tick.
      */
     public GameLoop(double initialDelay, Consumer<Void> tickAction) {
-        this.currentDelay = initialDelay;
         this.tickAction = tickAction;
-        createTimeline();
+        this.gravityNanos = toNanos(initialDelay);
     }
 
-    private void createTimeline() {
-        if (timeline != null) {
-            timeline.stop();
-        }
-        timeline = new Timeline(new KeyFrame(
-                Duration.millis(currentDelay),
-                ae -> tickAction.accept(null)
-        ));
-        timeline.setCycleCount(Timeline.INDEFINITE);
+    /**
+     * Sets the action run once per frame before the fixed steps, e.g. to drain queued input.
+     *
+     * @param inputAction The per-frame input action.
+     */
+    public void setInputAction(Runnable inputAction) {
+        this.inputAction = inputAction;
+    }
+
+    /**
+     * Sets the action run on every fixed step, before gravity is applied.
+     *
+     * @param stepAction The per-step action.
+     */
+    public void setStepAction(Runnable stepAction) {
+        this.stepAction = stepAction;
+    }
+
+    /**
+     * Sets the action run once per frame after all fixed steps.
+     *
+     * @param renderAction The per-frame render action.
+     */
+    public void setRenderAction(Runnable renderAction) {
+        this.renderAction = renderAction;
     }
 
     /**
-     * Starts or resumes the game loop.
+     * Starts or resumes the game loop. Time spent stopped or paused is not counted.
      */
     public void start() {
-        if (timeline != null) timeline.play();
+        haltRequested = false;
+        lastFrameTime = -1;
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    advance(now);
+                }
+            };
+        }
+        timer.start();
     }
 
     /**
-     * Stops the game loop completely.
+     * Stops the game loop completely; the next start begins a fresh gravity interval.
      */
     public void stop() {
-        if (timeline != null) timeline.stop();
+        halt();
+        stepAccumulator = 0;
+        gravityAccumulator = 0;
     }
 
     /**
-     * Pauses the game loop. Identical to stop() but semantically different.
+     * Pauses the game loop, keeping the partially elapsed gravity interval for when it resumes.
      */
     public void pause() {
-        if (timeline != null) timeline.pause();
+        halt();
+    }
+
+    private void halt() {
+        haltRequested = true;
+        if (timer != null) timer.stop();
     }
 
     /**
-     * Updates the loop speed (tick duration).
-     * If the loop is currently running, it restarts with the new speed immediately.
+     * Updates the loop speed (gravity interval).
+     * <p>
+     * The fraction of the current interval that has already elapsed is preserved, so the next
+     * tick comes proportionally sooner or later instead of the timer restarting from zero.
+     * </p>
      *
      * @param delayMillis The new delay between ticks in milliseconds.
      */
     public void setSpeed(double delayMillis) {
-        this.currentDelay = delayMillis;
-        // Restart with new speed if running
-        boolean wasRunning = (timeline.getStatus() == javafx.animation.Animation.Status.RUNNING);
-        createTimeline();
-        if (wasRunning) {
-            start();
+        long newGravity = toNanos(delayMillis);
+        gravityAccumulator = (long) ((double) gravityAccumulator * newGravity / gravityNanos);
+        gravityNanos = newGravity;
+    }
+
+    /**
+     * @return The current gravity interval in milliseconds.
+     */
+    public double getSpeed() {
+        return gravityNanos / 1_000_000.0;
+    }
+
+    /**
+     * When the step being run was due, on the {@link System#nanoTime()} clock. A frame that runs
+     * several steps to catch up runs them all at once, so this is usually a little in the past;
+     * it is the time to measure an effect of the step (a sound, say) from.
+     *
+     * @return The due time of the current (or last) step.
+     */
+    public long getStepTime() {
+        return stepTime;
+    }
+
+    /**
+     * @return The timing figures of the most recent frames.
+     */
+    public FrameStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Processes one frame at the given timestamp. Called by the animation timer on every pulse;
+     * package-private so tests can drive the loop with a synthetic clock.
+     *
+     * @param now The pulse timestamp in nanoseconds.
+     */
+    void advance(long now) {
+        if (lastFrameTime < 0) {
+            lastFrameTime = now; // first pulse after (re)starting only sets the clock
+            return;
+        }
+        long frame = now - lastFrameTime;
+        lastFrameTime = now;
+        stats.recordFrame(frame, STEP_NANOS);
+
+        long updateStart = System.nanoTime();
+        inputAction.run();
+        stepAccumulator += Math.min(frame, MAX_FRAME_NANOS);
+        while (stepAccumulator >= STEP_NANOS && !haltRequested) {
+            stepAccumulator -= STEP_NANOS;
+            stepTime = now - stepAccumulator;
+            step();
         }
+        long renderStart = System.nanoTime();
+        renderAction.run();
+        stats.recordTimes(renderStart - updateStart, System.nanoTime() - renderStart);
+    }
+
+    private void step() {
+        stepAction.run();
+        gravityAccumulator += STEP_NANOS;
+        // the tick may end the game (and stop the loop), so re-check after each one
+        while (gravityAccumulator >= gravityNanos && !haltRequested) {
+            gravityAccumulator -= gravityNanos;
+            tickAction.accept(null);
+        }
+    }
+
+    private static long toNanos(double millis) {
+        return Math.max(1L, (long) (millis * 1_000_000));
     }
-}
\ No newline at end of file
+}
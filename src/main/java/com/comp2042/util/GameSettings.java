@@ -1,9 +1,17 @@
 package com.comp2042.util;
 
+import com.comp2042.model.engine.AutoShift;
+import com.comp2042.view.renderers.RenderBackend;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
 
 /**
  * Manages game configuration and user preferences.
@@ -26,6 +34,15 @@ public class GameSettings {
 
     // Visual settings
     private final BooleanProperty ghostPieceEnabled = new SimpleBooleanProperty(true);
+    private final ObjectProperty<RenderBackend> renderBackend = new SimpleObjectProperty<>(RenderBackend.NODES);
+
+    // Name recorded on the leaderboards (blank = unknown)
+    private final StringProperty playerName = new SimpleStringProperty("");
+
+    // Handling settings (see AutoShift)
+    private final IntegerProperty dasMillis = new SimpleIntegerProperty(AutoShift.DEFAULT_DAS_MILLIS);
+    private final IntegerProperty arrMillis = new SimpleIntegerProperty(AutoShift.DEFAULT_ARR_MILLIS);
+    private final IntegerProperty softDropFactor = new SimpleIntegerProperty(AutoShift.DEFAULT_SOFT_DROP_FACTOR);
 
     /**
      * Constructs a new GameSettings instance and binds it to the provided Audio Manager.
@@ -137,4 +154,109 @@ public class GameSettings {
     public void setGhostPieceEnabled(boolean value) {
         ghostPieceEnabled.set(value);
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the playfield renderer used for new games.
+     *
+     * @return The selected {@link RenderBackend} (scene-graph nodes by default).
+     */
+    public RenderBackend getRenderBackend() {
+        return renderBackend.get();
+    }
+
+    /**
+     * Selects the playfield renderer. Takes effect the next time a game screen is opened.
+     *
+     * @param value The backend to use.
+     */
+    public void setRenderBackend(RenderBackend value) {
+        renderBackend.set(value);
+    }
+
+    // --- Player Properties ---
+
+    /**
+     * Retrieves the name recorded with finished games on the leaderboards.
+     *
+     * @return The player's name; blank if none was entered.
+     */
+    public String getPlayerName() {
+        return playerName.get();
+    }
+
+    /**
+     * Sets the name recorded with finished games. Takes effect when a game starts or resumes.
+     *
+     * @param value The player's name; null or blank means unknown.
+     */
+    public void setPlayerName(String value) {
+        playerName.set(value == null ? "" : value.strip());
+    }
+
+    // --- Handling Properties ---
+
+    /**
+     * Retrieves the delayed auto shift: how long a direction must be held before it repeats.
+     *
+     * @return The delay in milliseconds.
+     */
+    public int getDasMillis() {
+        return dasMillis.get();
+    }
+
+    /**
+     * Sets the delayed auto shift.
+     *
+     * @param value The delay in milliseconds, 0 to {@value AutoShift#MAX_DAS_MILLIS}.
+     */
+    public void setDasMillis(int value) {
+        dasMillis.set(Math.clamp(value, 0, AutoShift.MAX_DAS_MILLIS));
+    }
+
+    /**
+     * Retrieves the auto repeat rate: the time between repeated moves once DAS has run out.
+     *
+     * @return The interval in milliseconds; 0 means the piece goes straight to the wall.
+     */
+    public int getArrMillis() {
+        return arrMillis.get();
+    }
+
+    /**
+     * Sets the auto repeat rate.
+     *
+     * @param value The interval in milliseconds, 0 (instant) to {@value AutoShift#MAX_ARR_MILLIS}.
+     */
+    public void setArrMillis(int value) {
+        arrMillis.set(Math.clamp(value, 0, AutoShift.MAX_ARR_MILLIS));
+    }
+
+    /**
+     * Retrieves the soft drop factor: how many times faster than gravity a held soft drop falls.
+     *
+     * @return The factor.
+     */
+    public int getSoftDropFactor() {
+        return softDropFactor.get();
+    }
+
+    /**
+     * Sets the soft drop factor.
+     *
+     * @param value The factor, 1 to {@value AutoShift#MAX_SOFT_DROP_FACTOR}.
+     */
+    public void setSoftDropFactor(int value) {
+        softDropFactor.set(Math.clamp(value, 1, AutoShift.MAX_SOFT_DROP_FACTOR));
+    }
+
+    /**
+     * Copies the handling settings into an auto-shift handler.
+     *
+     * @param autoShift The handler to configure.
+     */
+    public void applyTo(AutoShift autoShift) {
+        autoShift.setDasMillis(getDasMillis());
+        autoShift.setArrMillis(getArrMillis());
+        autoShift.setSoftDropFactor(getSoftDropFactor());
+    }
+}
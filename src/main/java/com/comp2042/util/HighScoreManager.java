@@ -1,46 +1,118 @@
 package com.comp2042.util;
 
-import java.io.*;
+import com.comp2042.model.engine.GameMode;
+import com.comp2042.model.leaderboard.Leaderboard;
+import com.comp2042.model.leaderboard.LeaderboardEntry;
+import com.comp2042.model.leaderboard.LeaderboardStore;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Manages the persistence and retrieval of high scores.
  * <p>
- * This class handles reading from and writing to a local text file.
- * It ensures the score list is always sorted in descending order and capped at a maximum size (Top 10).
+ * The scores live in memory as an immutable snapshot, sorted in descending order and capped at
+ * the Top 10. {@link #addScore(int)} only swaps that snapshot and queues the disk work, so the
+ * FX thread never waits for a file.
+ * </p>
+ * <p>
+ * On disk there are two files. The score file ({@code highscores.txt}) holds the compacted list
+ * and is only ever replaced whole: it is written to a temp file and renamed over the old one, so
+ * a crash leaves either the old list or the new one, never half of each. Each new score is
+ * appended to a small journal ({@code highscores.txt.journal}) as {@code <seq> <score>}. On load,
+ * journal entries newer than the sequence number recorded in the score file are merged in, and
+ * the result is compacted back into the score file. A torn last journal line is cut off (so the
+ * next append starts on a line of its own), and a crash between the rename and the journal
+ * delete is harmless because the sequence number stops entries being applied twice. Every
+ * append is forced to disk, and so are the temp file before its rename and the folder after it,
+ * so a saved score survives a power cut, not just a crash of the game.
+ * </p>
+ * <p>
+ * Alongside the Top 10, every game is also recorded with its player, mode and lines in a
+ * {@link LeaderboardStore} for the paged, per-mode tables. The tables start loading in the
+ * background as soon as the manager is created. The first time the store is used the existing
+ * Top 10 is imported into the Normal table.
  * </p>
  */
-public class HighScoreManager {
+public class HighScoreManager implements AutoCloseable {
 
     // Default file name for the main application
     private static final String DEFAULT_FILE_NAME = "highscores.txt";
+    private static final int MAX_SCORES = 10;
+    private static final String SEQUENCE_PREFIX = "# ";
+    private static final String DEFAULT_LEADERBOARD_DIRECTORY = "leaderboard";
 
-    private final String fileName;
-    private List<Integer> scores;
+    // One shared writer thread keeps the file operations in order and off the FX thread
+    private static final ExecutorService IO = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "highscore-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path file;
+    private final Path journal;
+    private final Path temp;
+    private volatile List<Integer> scores = List.of();
+    private long sequence; // last journal entry written (touched on the writer thread only, after load)
+    private final LeaderboardStore leaderboard;
+    private String playerName = LeaderboardEntry.UNKNOWN_PLAYER;
 
     /**
      * Default constructor for the main application.
      * Uses "highscores.txt".
      */
     public HighScoreManager() {
-        this(DEFAULT_FILE_NAME);
+        this(DEFAULT_FILE_NAME, new LeaderboardStore(Path.of(DEFAULT_LEADERBOARD_DIRECTORY)));
     }
 
     /**
-     * Constructor for testing or custom files.
-     * * @param fileName The name of the file to store scores in.
+     * Constructor for testing or custom files. The leaderboard is kept in memory only.
+     *
+     * @param fileName The name of the file to store scores in.
      */
     public HighScoreManager(String fileName) {
-        this.fileName = fileName;
-        this.scores = new ArrayList<>();
+        this(fileName, LeaderboardStore.inMemory());
+    }
+
+    /**
+     * Constructor with an explicit leaderboard store.
+     *
+     * @param fileName    The name of the file to store scores in.
+     * @param leaderboard The store for the full per-mode tables.
+     */
+    public HighScoreManager(String fileName, LeaderboardStore leaderboard) {
+        this.file = Path.of(fileName);
+        this.journal = Path.of(fileName + ".journal");
+        this.temp = Path.of(fileName + ".tmp");
+        this.leaderboard = leaderboard;
         loadScores();
+        leaderboard.loadAll();
+        Leaderboard normal = leaderboard.get(GameMode.NORMAL); // null while its file is read
+        if (!leaderboard.isStored(GameMode.NORMAL) && (normal == null || normal.size() == 0)) {
+            for (int score : scores) {
+                leaderboard.add(GameMode.NORMAL, new LeaderboardEntry(LeaderboardEntry.UNKNOWN_PLAYER, score, 0, 0L));
+            }
+        }
     }
 
     /**
-     * Adds a new score to the list and persists the updated list to the file.
+     * Adds a new score to the list and queues it for saving.
      * <p>
      * The list is re-sorted in descending order (highest score first). If the list
      * exceeds 10 entries after the addition, the lowest score is removed to maintain
@@ -50,48 +122,206 @@ public class HighScoreManager {
      * @param score The score value to add.
      */
     public void addScore(int score) {
-        scores.add(score);
-        // Sort descending (High to Low)
-        scores.sort(Collections.reverseOrder());
-
-        // Keep only top 10
-        if (scores.size() > 10) {
-            scores.subList(10, scores.size()).clear();
+        List<Integer> current = scores;
+        if (current.size() == MAX_SCORES && score <= current.get(MAX_SCORES - 1)) {
+            return; // would be cut straight away, nothing to save
         }
-        saveScores();
+        List<Integer> updated = new ArrayList<>(current);
+        updated.add(score);
+        scores = topScores(updated);
+        IO.submit(() -> appendToJournal(score));
+    }
+
+    /**
+     * Records a finished game on the mode's leaderboard as well as in the Top 10.
+     *
+     * @param mode  The mode it was played in.
+     * @param score The final score.
+     * @param lines Lines cleared during the game.
+     * @return The game's rank on the mode's leaderboard, or 0 if that table is still loading.
+     */
+    public int addScore(GameMode mode, int score, int lines) {
+        addScore(score);
+        return leaderboard.add(mode, new LeaderboardEntry(playerName, score, lines, System.currentTimeMillis()));
+    }
+
+    /**
+     * @return The per-mode leaderboards.
+     */
+    public LeaderboardStore getLeaderboard() {
+        return leaderboard;
+    }
+
+    /**
+     * Sets the name recorded with the following games.
+     *
+     * @param playerName The player's name; blank means unknown.
+     */
+    public void setPlayerName(String playerName) {
+        this.playerName = new LeaderboardEntry(playerName, 0, 0, 0L).player();
     }
 
     /**
      * Retrieves the current list of high scores.
      *
-     * @return A list of integers representing the top scores, sorted descending.
+     * @return An unmodifiable snapshot of the top scores, sorted descending.
      */
     public List<Integer> getScores() {
         return scores;
     }
 
+    /**
+     * @return Completes once every score added so far has reached the disk.
+     */
+    public Future<?> flush() {
+        return IO.submit(() -> { });
+    }
+
+    /**
+     * Waits (briefly) for pending writes, e.g. when the application exits.
+     */
+    @Override
+    public void close() {
+        leaderboard.close();
+        try {
+            flush().get(2, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            System.err.println("Could not finish saving scores: " + e.getMessage());
+        }
+    }
+
     private void loadScores() {
-        File file = new File(fileName);
-        if (!file.exists()) return;
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            scores = reader.lines()
-                    .map(Integer::parseInt)
-                    .collect(Collectors.toList());
-            scores.sort(Collections.reverseOrder());
+        List<Integer> loaded = new ArrayList<>();
+        long applied = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(SEQUENCE_PREFIX)) {
+                    applied = parseOr(line.substring(SEQUENCE_PREFIX.length()), 0L);
+                } else if (!line.isBlank()) {
+                    loaded.add(Integer.parseInt(line.trim()));
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // first run
         } catch (IOException | NumberFormatException e) {
             System.err.println("Could not load scores: " + e.getMessage());
-            scores = new ArrayList<>();
+        }
+
+        long last = applied;
+        boolean replayed = false;
+        try {
+            // Only newline-terminated entries count; anything after the last one is a torn write,
+            // cut off here so the next append doesn't get glued onto it
+            byte[] bytes = Files.readAllBytes(journal);
+            int whole = bytes.length;
+            while (whole > 0 && bytes[whole - 1] != '\n') {
+                whole--;
+            }
+            if (whole < bytes.length) {
+                try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+                    channel.truncate(whole);
+                    channel.force(true);
+                }
+            }
+            String text = new String(bytes, 0, whole, StandardCharsets.UTF_8);
+            for (String line : text.split("\n")) {
+                String[] parts = line.trim().split(" ");
+                if (parts.length != 2) {
+                    continue;
+                }
+                long seq = parseOr(parts[0], -1L);
+                long score = parseOr(parts[1], Long.MIN_VALUE);
+                if (seq > applied && score >= Integer.MIN_VALUE && score <= Integer.MAX_VALUE) {
+                    loaded.add((int) score);
+                    last = Math.max(last, seq);
+                    replayed = true;
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // nothing since the last compaction
+        } catch (IOException e) {
+            System.err.println("Could not read score journal: " + e.getMessage());
+        }
+
+        scores = topScores(loaded);
+        sequence = last;
+        if (replayed) {
+            List<Integer> snapshot = scores;
+            long upTo = last;
+            IO.submit(() -> compact(snapshot, upTo));
         }
     }
 
-    private void saveScores() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(fileName))) {
-            for (int score : scores) {
-                writer.write(score + "\n");
+    /* Runs on the writer thread. */
+    private void appendToJournal(int score) {
+        sequence++;
+        try (FileChannel channel = FileChannel.open(journal,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            writeFully(channel, sequence + " " + score + "\n");
+            channel.force(true);
+        } catch (IOException e) {
+            System.err.println("Could not save score: " + e.getMessage());
+        }
+    }
+
+    /* Runs on the writer thread: replace the score file atomically, then drop the journal. */
+    private void compact(List<Integer> snapshot, long upTo) {
+        try {
+            StringBuilder text = new StringBuilder(SEQUENCE_PREFIX).append(upTo).append('\n');
+            for (int score : snapshot) {
+                text.append(score).append('\n');
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeFully(channel, text.toString());
+                channel.force(true); // the contents must be on disk before the rename can be
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            syncDirectory(file);
+            // Entries appended since the load have higher sequence numbers, so only clear the
+            // journal if nothing was added in the meantime
+            if (sequence == upTo) {
+                Files.deleteIfExists(journal);
             }
         } catch (IOException e) {
-            e.printStackTrace();
+            System.err.println("Could not compact scores: " + e.getMessage());
+        }
+    }
+
+    private static void writeFully(FileChannel channel, String text) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    /* Makes a rename in the file's folder durable. Not every platform can open a folder (Windows
+     * can't), and there the rename is as durable as the OS makes it anyway. */
+    private static void syncDirectory(Path file) {
+        Path directory = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // best effort
+        }
+    }
+
+    private static List<Integer> topScores(List<Integer> all) {
+        // Sort descending (High to Low), then keep only the top 10
+        all.sort(Collections.reverseOrder());
+        return List.copyOf(all.subList(0, Math.min(MAX_SCORES, all.size())));
+    }
+
+    private static long parseOr(String text, long fallback) {
+        try {
+            return Long.parseLong(text.trim());
+        } catch (NumberFormatException e) {
+            return fallback;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,122 @@
+package com.comp2042.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A bounded, lock-free single-producer/single-consumer queue of timestamped inputs.
+ * <p>
+ * The producer (the key handler) {@link #offer offers} inputs as they arrive, and the consumer
+ * (the game loop) {@link #drainTo drains} everything once per frame. Each side owns one index
+ * and only publishes it with a release store, so neither side ever blocks or allocates.
+ * Exactly one thread may offer and exactly one thread may drain; in the game both happen to be
+ * the FX thread, but nothing here relies on that.
+ * </p>
+ *
+ * @param <T> The input type.
+ */
+public final class InputQueue<T> {
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(InputQueue.class, "head", long.class);
+            TAIL = lookup.findVarHandle(InputQueue.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] items;
+    private final long[] timestamps;
+    private final int mask;
+
+    @SuppressWarnings("unused") // accessed through HEAD
+    private volatile long head; // next slot to read, written by the consumer
+    @SuppressWarnings("unused") // accessed through TAIL
+    private volatile long tail; // next slot to write, written by the producer
+    private long cachedHead;    // producer's last look at head, saves re-reading it on every offer
+
+    /**
+     * @param capacity Maximum number of queued inputs; rounded up to a power of two.
+     */
+    public InputQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        items = new Object[size];
+        timestamps = new long[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Adds an input. Producer thread only.
+     *
+     * @param item           The input.
+     * @param timestampNanos When it arrived ({@link System#nanoTime()} clock).
+     * @return false if the queue was full and the input was dropped.
+     */
+    public boolean offer(T item, long timestampNanos) {
+        long t = (long) TAIL.getOpaque(this);
+        if (t - cachedHead == items.length) {
+            cachedHead = (long) HEAD.getAcquire(this);
+            if (t - cachedHead == items.length) {
+                return false;
+            }
+        }
+        int slot = (int) t & mask;
+        items[slot] = item;
+        timestamps[slot] = timestampNanos;
+        TAIL.setRelease(this, t + 1);
+        return true;
+    }
+
+    /**
+     * Moves queued inputs, oldest first, into the given arrays. Consumer thread only.
+     *
+     * @param out           Receives the inputs.
+     * @param outTimestamps Receives their timestamps; at least as long as {@code out}.
+     * @return The number of inputs moved (at most {@code out.length}).
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(T[] out, long[] outTimestamps) {
+        long h = (long) HEAD.getOpaque(this);
+        long available = (long) TAIL.getAcquire(this) - h;
+        int count = (int) Math.min(available, out.length);
+        for (int i = 0; i < count; i++) {
+            int slot = (int) (h + i) & mask;
+            out[i] = (T) items[slot];
+            outTimestamps[i] = timestamps[slot];
+            items[slot] = null;
+        }
+        HEAD.setRelease(this, h + count);
+        return count;
+    }
+
+    /**
+     * Discards everything queued so far. Consumer thread only.
+     */
+    public void clear() {
+        long h = (long) HEAD.getOpaque(this);
+        long t = (long) TAIL.getAcquire(this);
+        for (long i = h; i < t; i++) {
+            items[(int) i & mask] = null;
+        }
+        HEAD.setRelease(this, t);
+    }
+
+    /**
+     * @return Number of queued inputs; only a snapshot when the other side is running.
+     */
+    public int size() {
+        return (int) ((long) TAIL.getAcquire(this) - (long) HEAD.getAcquire(this));
+    }
+
+    /**
+     * @return The maximum number of queued inputs.
+     */
+    public int capacity() {
+        return items.length;
+    }
+}
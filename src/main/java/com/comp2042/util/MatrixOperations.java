@@ -1,9 +1,11 @@
 package com.comp2042.util;
 
+import com.comp2042.model.bricks.BrickShape;
 import com.comp2042.model.state.ClearRow;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -45,6 +47,31 @@ public class MatrixOperations {
         return false;
     }
 
+    /**
+     * Checks if a precomputed brick shape collides with existing blocks or board boundaries.
+     * <p>
+     * Only the shape's bounding box is scanned, and the shape data is read in place.
+     * </p>
+     *
+     * @param matrix The game board grid.
+     * @param brick  The read-only brick shape.
+     * @param x      The target x-coordinate.
+     * @param y      The target y-coordinate.
+     * @return true if a collision is detected; false otherwise.
+     */
+    public static boolean intersect(final int[][] matrix, final BrickShape brick, int x, int y) {
+        for (int row = brick.getMinRow(); row <= brick.getMaxRow(); row++) {
+            for (int column = brick.getMinColumn(); column <= brick.getMaxColumn(); column++) {
+                int targetX = x + column;
+                int targetY = y + row;
+                if (brick.getCell(row, column) != 0 && (checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     //simplified method & fixed potential error of bricks goign above board
     private static boolean checkOutOfBound(int[][] matrix, int targetX, int targetY) {
         //fixed: Added targetY < 0 check
@@ -92,6 +119,93 @@ public class MatrixOperations {
         return copy;
     }
 
+    /**
+     * Merges a brick's shape directly into the board matrix at the specified position.
+     * <p>
+     * Unlike {@link #merge(int[][], int[][], int, int)} this mutates {@code filledFields} and
+     * allocates nothing, so it is the variant used on every piece lock.
+     * </p>
+     *
+     * @param filledFields The board state to write into.
+     * @param brick        The brick to merge.
+     * @param x            The x-coordinate.
+     * @param y            The y-coordinate.
+     */
+    public static void mergeInPlace(int[][] filledFields, int[][] brick, int x, int y) {
+        for (int row = 0; row < brick.length; row++) {
+            for (int column = 0; column < brick[row].length; column++) {
+                if (brick[row][column] != 0) {
+                    filledFields[y + row][x + column] = brick[row][column];
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges a precomputed brick shape directly into the board matrix (see {@link #mergeInPlace(int[][], int[][], int, int)}).
+     *
+     * @param filledFields The board state to write into.
+     * @param brick        The read-only brick shape.
+     * @param x            The x-coordinate.
+     * @param y            The y-coordinate.
+     */
+    public static void mergeInPlace(int[][] filledFields, BrickShape brick, int x, int y) {
+        for (int row = brick.getMinRow(); row <= brick.getMaxRow(); row++) {
+            for (int column = brick.getMinColumn(); column <= brick.getMaxColumn(); column++) {
+                int cell = brick.getCell(row, column);
+                if (cell != 0) {
+                    filledFields[y + row][x + column] = cell;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes full rows from the matrix in place.
+     * <p>
+     * Each cleared row array is zeroed and rotated to the top of the matrix while the rows above
+     * it slide down one slot, so a clear only moves row references around and allocates nothing.
+     * Rows are processed top to bottom, which keeps the indices of the lower full rows valid.
+     * </p>
+     *
+     * @param matrix      The board matrix to compact.
+     * @param clearedRows Output buffer receiving the (original) indices of the cleared rows, in ascending order.
+     *                    Must be at least {@code matrix.length} long.
+     * @return The number of rows cleared.
+     */
+    public static int removeFullRows(int[][] matrix, int[] clearedRows) {
+        int count = 0;
+        for (int i = 0; i < matrix.length; i++) {
+            if (isRowFull(matrix[i])) {
+                clearedRows[count++] = i;
+                int[] recycled = matrix[i];
+                System.arraycopy(matrix, 0, matrix, 1, i);
+                Arrays.fill(recycled, 0);
+                matrix[0] = recycled;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Calculates the score bonus awarded for clearing the given number of lines.
+     *
+     * @param linesCleared The number of rows removed in one lock.
+     * @return The score bonus (quadratic in the number of lines).
+     */
+    public static int scoreForLines(int linesCleared) {
+        return 50 * linesCleared * linesCleared;
+    }
+
+    private static boolean isRowFull(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Scans the matrix for full rows, removes them, and adds new empty rows at the top.
      * Calculates the score based on number of lines cleared.
@@ -131,7 +245,7 @@ public class MatrixOperations {
         for (int i = 0; i <= targetRow; i++) {
             tmp[i] = new int[matrix[0].length];
         }
-        int scoreBonus = 50 * clearedRows.size() * clearedRows.size();
+        int scoreBonus = scoreForLines(clearedRows.size());
         return new ClearRow(tmp, scoreBonus,clearedRows);
     }
 
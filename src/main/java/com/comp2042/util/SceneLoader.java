@@ -4,8 +4,18 @@ import com.comp2042.controller.*;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.text.Font;
 import javafx.stage.Stage;
+
+import java.io.IOException;
 import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Utility class for loading and managing scenes throughout the application.
@@ -15,9 +25,87 @@ import java.net.URL;
  * This class also facilitates dependency injection by passing core services
  * (AudioManager, GameSettings, HighScoreManager) to the controllers of new scenes.
  * </p>
+ * <p>
+ * Menu screens are parsed once and cached with their controllers; opening one again only
+ * re-injects the dependencies. Game screens hold a whole game's state, so they are never
+ * reused: instead, while the menus are up, a background thread parses a spare game layout
+ * (with its fonts, images and the sound bank), and starting a game takes that spare.
+ * </p>
  */
 public class SceneLoader {
 
+    /** A parsed FXML file and its controller. */
+    public record Loaded<C>(Parent root, C controller) { }
+
+    private record CachedScene<C>(Scene scene, C controller) { }
+
+    private static final String GAME_LAYOUT_FXML = "gameLayout.fxml";
+    private static final String FONT = "digital.ttf";
+
+    // FX thread only
+    private static final Map<String, CachedScene<?>> SCENES = new HashMap<>();
+    private static Future<Loaded<GameViewController>> spareGame;
+
+    // Parsing FXML off the FX thread is fine as long as the nodes aren't in a shown scene yet
+    private static final ExecutorService PRELOADER = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "scene-preloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static volatile boolean fontsLoaded;
+
+    /**
+     * Starts preparing the next game's layout in the background, if one isn't already being
+     * prepared. Also warms the sound bank and the fonts. Call whenever a menu is showing.
+     *
+     * @param audio The AudioManager whose sound effects to preload.
+     */
+    public static void preloadGame(AudioManager audio) {
+        if (spareGame == null) {
+            spareGame = PRELOADER.submit(() -> {
+                audio.preloadSounds(); // first: menu clicks are silent until the bank is in
+                loadFonts();
+                return load(GAME_LAYOUT_FXML);
+            });
+        }
+    }
+
+    /**
+     * Returns a freshly parsed game layout, taking the preloaded one if there is one.
+     * Each layout is only handed out once.
+     *
+     * @return The layout and its {@link GameViewController}.
+     * @throws IOException If the layout can't be loaded.
+     */
+    public static Loaded<GameViewController> takeGameLayout() throws IOException {
+        Future<Loaded<GameViewController>> spare = spareGame;
+        spareGame = null;
+        if (spare != null) {
+            try {
+                return spare.get(); // normally long done; otherwise still ahead of starting over
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                System.err.println("Game layout preload failed: " + e.getCause());
+            }
+        }
+        return load(GAME_LAYOUT_FXML);
+    }
+
+    /**
+     * Registers the game's fonts with JavaFX once; later calls return straight away.
+     */
+    public static void loadFonts() {
+        if (!fontsLoaded) {
+            synchronized (SceneLoader.class) {
+                if (!fontsLoaded) {
+                    Font.loadFont(Objects.requireNonNull(SceneLoader.class.getClassLoader().getResource(FONT)).toExternalForm(), 38);
+                    fontsLoaded = true;
+                }
+            }
+        }
+    }
+
     /**
      * Opens the Settings Panel, injecting necessary dependencies.
      * <p>
@@ -30,11 +118,8 @@ public class SceneLoader {
      * @throws Exception If the FXML file cannot be loaded.
      */
     public static void openSettings(Stage stage, GameSettings settings, AudioManager audio) throws Exception {
-        URL location = SceneLoader.class.getClassLoader().getResource("settingsPanel.fxml");
-        FXMLLoader fxmlLoader = new FXMLLoader(location);
-        Parent root = fxmlLoader.load();
-
-        SettingsController controller = fxmlLoader.getController();
+        CachedScene<SettingsController> cached = cachedScene("settingsPanel.fxml", 440, 510);
+        SettingsController controller = cached.controller();
         // Inject dependencies
         controller.initModel(settings, audio);
 
@@ -43,7 +128,7 @@ public class SceneLoader {
         controller.setOnCloseCallback(() -> stage.setScene(currentScene));
         controller.setStage(stage);
 
-        stage.setScene(new Scene(root, 440, 510));
+        stage.setScene(cached.scene());
     }
 
     /**
@@ -59,16 +144,14 @@ public class SceneLoader {
      * @throws Exception If the FXML file cannot be loaded.
      */
     public static void openMainMenu(Stage stage, AudioManager audio, GameSettings settings, HighScoreManager highScores) throws Exception {
-        URL location = SceneLoader.class.getClassLoader().getResource("mainMenu.fxml");
-        FXMLLoader fxmlLoader = new FXMLLoader(location);
-        Parent root = fxmlLoader.load();
-
-        MainMenuController controller = fxmlLoader.getController();
+        CachedScene<MainMenuController> cached = cachedScene("mainMenu.fxml", 500, 600);
+        MainMenuController controller = cached.controller();
         controller.setStage(stage);
         controller.initModel(audio, settings, highScores);
 
         stage.setTitle("TetrisJFX");
-        stage.setScene(new Scene(root, 500, 600));
+        stage.setScene(cached.scene());
+        preloadGame(audio);
     }
 
     /**
@@ -84,11 +167,8 @@ public class SceneLoader {
      * @throws Exception If the FXML file cannot be loaded.
      */
     public static void openLevelSelection(Stage stage, AudioManager audio, GameSettings settings, HighScoreManager highScores) throws Exception {
-        URL location = SceneLoader.class.getClassLoader().getResource("levelSelection.fxml");
-        FXMLLoader fxmlLoader = new FXMLLoader(location);
-        Parent root = fxmlLoader.load();
-
-        LevelSelectionController controller = fxmlLoader.getController();
+        CachedScene<LevelSelectionController> cached = cachedScene("levelSelection.fxml", 530, 600);
+        LevelSelectionController controller = cached.controller();
         // Pass all three dependencies
         controller.initModel(audio, settings, highScores);
 
@@ -96,7 +176,8 @@ public class SceneLoader {
         controller.setOnBackCallback(() -> stage.setScene(currentScene));
         controller.setStage(stage);
 
-        stage.setScene(new Scene(root, 530, 600));
+        stage.setScene(cached.scene());
+        preloadGame(audio);
     }
 
     /**
@@ -107,11 +188,8 @@ public class SceneLoader {
      * @throws Exception If the FXML file cannot be loaded.
      */
     public static void openControls(Stage stage, AudioManager audio) throws Exception {
-        URL location = SceneLoader.class.getClassLoader().getResource("controlsPanel.fxml");
-        FXMLLoader fxmlLoader = new FXMLLoader(location);
-        Parent root = fxmlLoader.load();
-
-        ControlsController controller = fxmlLoader.getController();
+        CachedScene<ControlsController> cached = cachedScene("controlsPanel.fxml", 470, 600);
+        ControlsController controller = cached.controller();
         controller.initModel(audio);
 
         // Save current scene to return to
@@ -119,7 +197,7 @@ public class SceneLoader {
         controller.setOnCloseCallback(() -> stage.setScene(currentScene));
         controller.setStage(stage);
 
-        stage.setScene(new Scene(root, 470, 600));
+        stage.setScene(cached.scene());
     }
 
 
@@ -132,17 +210,32 @@ public class SceneLoader {
      * @throws Exception If the FXML file cannot be loaded.
      */
     public static void openHighScores(Stage stage, HighScoreManager manager, AudioManager audio) throws Exception {
-        URL location = SceneLoader.class.getClassLoader().getResource("highScores.fxml");
-        FXMLLoader fxmlLoader = new FXMLLoader(location);
-        Parent root = fxmlLoader.load();
-
-        HighScoreController controller = fxmlLoader.getController();
+        CachedScene<HighScoreController> cached = cachedScene("highScores.fxml", 440, 510);
+        HighScoreController controller = cached.controller();
         controller.initModel(manager, audio);
 
         Scene currentScene = stage.getScene();
         controller.setOnCloseCallback(() -> stage.setScene(currentScene));
         controller.setStage(stage);
 
-        stage.setScene(new Scene(root, 440, 510));
+        stage.setScene(cached.scene());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C> CachedScene<C> cachedScene(String fxml, double width, double height) throws IOException {
+        CachedScene<?> cached = SCENES.get(fxml);
+        if (cached == null) {
+            Loaded<C> loaded = load(fxml);
+            cached = new CachedScene<>(new Scene(loaded.root(), width, height), loaded.controller());
+            SCENES.put(fxml, cached);
+        }
+        return (CachedScene<C>) cached;
+    }
+
+    private static <C> Loaded<C> load(String fxml) throws IOException {
+        URL location = SceneLoader.class.getClassLoader().getResource(fxml);
+        FXMLLoader fxmlLoader = new FXMLLoader(location);
+        Parent root = fxmlLoader.load();
+        return new Loaded<>(root, fxmlLoader.getController());
     }
 }
\ No newline at end of file
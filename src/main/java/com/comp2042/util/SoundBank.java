@@ -0,0 +1,91 @@
+package com.comp2042.util;
+
+import javafx.scene.media.AudioClip;
+
+import java.net.URL;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Every {@link SoundEffect}, decoded once into memory and played through a bounded {@link VoicePool}.
+ * <p>
+ * An {@link AudioClip} keeps its samples decoded, so playing one is a mix-in rather than a file
+ * open and decode, and several plays of the same clip overlap instead of cutting each other
+ * off. The bank also keeps a running figure of trigger-to-playback latency: the time from the
+ * game deciding to make a sound to the clip being handed to the mixer.
+ * </p>
+ * <p>
+ * Call from the FX thread only.
+ * </p>
+ */
+public final class SoundBank {
+
+    private final Map<SoundEffect, AudioClip> clips = new EnumMap<>(SoundEffect.class);
+    private final VoicePool voices = new VoicePool();
+    private long played;
+    private long lastLatency;
+    private long maxLatency;
+    private long totalLatency;
+
+    private SoundBank() { }
+
+    /**
+     * Decodes every sound effect. A clip that is missing or can't be decoded is reported and
+     * left silent rather than failing the whole bank.
+     *
+     * @return The loaded bank.
+     */
+    public static SoundBank load() {
+        SoundBank bank = new SoundBank();
+        for (SoundEffect effect : SoundEffect.values()) {
+            URL resource = SoundBank.class.getResource(effect.getResourcePath());
+            if (resource == null) {
+                System.err.println("SFX file not found: " + effect.getResourcePath());
+                continue;
+            }
+            try {
+                bank.clips.put(effect, new AudioClip(resource.toExternalForm()));
+            } catch (RuntimeException e) {
+                System.err.println("Could not load SFX " + effect.getResourcePath() + ": " + e.getMessage());
+            }
+        }
+        return bank;
+    }
+
+    /**
+     * Plays an effect if its limits and the voice pool allow it.
+     *
+     * @param effect      The effect.
+     * @param volume      0.0 to 1.0.
+     * @param triggeredAt When the game asked for the sound ({@link System#nanoTime()}).
+     * @return true if the effect started, false if it was dropped.
+     */
+    public boolean play(SoundEffect effect, double volume, long triggeredAt) {
+        AudioClip clip = clips.get(effect);
+        if (clip == null || !voices.tryStart(effect, System.nanoTime())) {
+            return false;
+        }
+        clip.play(volume);
+        long latency = System.nanoTime() - triggeredAt;
+        played++;
+        lastLatency = latency;
+        maxLatency = Math.max(maxLatency, latency);
+        totalLatency += latency;
+        return true;
+    }
+
+    /** @return Effects played since the bank was loaded. */
+    public long getPlayed() { return played; }
+
+    /** @return Effects dropped by the rate and polyphony limits. */
+    public long getDropped() { return voices.getDropped(); }
+
+    /** @return Trigger-to-playback latency of the most recent effect, in nanoseconds. */
+    public long getLastLatency() { return lastLatency; }
+
+    /** @return Worst trigger-to-playback latency so far, in nanoseconds. */
+    public long getMaxLatency() { return maxLatency; }
+
+    /** @return Mean trigger-to-playback latency, in nanoseconds (0 before anything played). */
+    public long getMeanLatency() { return played == 0 ? 0 : totalLatency / played; }
+}
@@ -0,0 +1,34 @@
+package com.comp2042.util;
+
+/**
+ * Every clip under {@code /sfx}, with the limits the {@link SoundBank} plays it under.
+ * <p>
+ * {@code maxVoices} caps how many copies may overlap, {@code minIntervalMillis} drops triggers
+ * that come faster than that (a held key, a burst of menu clicks), and {@code lengthMillis} is
+ * roughly how long one play lasts, which is how long it holds its voice.
+ * </p>
+ */
+public enum SoundEffect {
+    BUTTON_PRESS("/sfx/button-press.mp3", 2, 40, 200),
+    PLAY_PRESS("/sfx/play-press.mp3", 1, 150, 700),
+    LINE_CLEARED("/sfx/line-cleared.mp3", 2, 60, 900),
+    NEGATIVE_BEEPS("/sfx/negative_beeps.mp3", 1, 250, 1200),
+    GAME_OVER("/sfx/game_over.mp3", 1, 500, 2500);
+
+    private final String resourcePath;
+    private final int maxVoices;
+    private final long minIntervalNanos;
+    private final long lengthNanos;
+
+    SoundEffect(String resourcePath, int maxVoices, int minIntervalMillis, int lengthMillis) {
+        this.resourcePath = resourcePath;
+        this.maxVoices = maxVoices;
+        this.minIntervalNanos = minIntervalMillis * 1_000_000L;
+        this.lengthNanos = lengthMillis * 1_000_000L;
+    }
+
+    public String getResourcePath() { return resourcePath; }
+    public int getMaxVoices() { return maxVoices; }
+    public long getMinIntervalNanos() { return minIntervalNanos; }
+    public long getLengthNanos() { return lengthNanos; }
+}
@@ -0,0 +1,93 @@
+package com.comp2042.util;
+
+import java.util.Arrays;
+
+/**
+ * Decides whether a sound effect may start, given what is already playing.
+ * <p>
+ * A play holds a voice for its effect's nominal length. A new play is refused when it comes
+ * sooner than the effect's minimum interval after the last one, when the effect already has its
+ * maximum number of voices, or when all {@link #MAX_VOICES} voices are busy. Refused plays are
+ * simply dropped: a late sound effect is worse than a missing one.
+ * </p>
+ * <p>
+ * Pure bookkeeping with no audio in it, so the limits can be tested without a media stack.
+ * Not thread-safe; sounds are triggered from the FX thread.
+ * </p>
+ */
+final class VoicePool {
+
+    static final int MAX_VOICES = 6;
+    private static final long IDLE = Long.MIN_VALUE; // a voice that has never played
+
+    private final long[][] voiceEnds = new long[SoundEffect.values().length][];
+    private final long[] lastStart = new long[SoundEffect.values().length];
+    private final boolean[] started = new boolean[SoundEffect.values().length];
+    private long dropped;
+
+    VoicePool() {
+        for (SoundEffect effect : SoundEffect.values()) {
+            voiceEnds[effect.ordinal()] = new long[effect.getMaxVoices()];
+            Arrays.fill(voiceEnds[effect.ordinal()], IDLE);
+        }
+    }
+
+    /**
+     * Claims a voice for a new play if the limits allow it.
+     *
+     * @param effect The effect to play.
+     * @param now    Current {@link System#nanoTime()}.
+     * @return true if the effect may play now.
+     */
+    boolean tryStart(SoundEffect effect, long now) {
+        int id = effect.ordinal();
+        if (started[id] && now - lastStart[id] < effect.getMinIntervalNanos()) {
+            dropped++;
+            return false;
+        }
+        int free = freeSlot(voiceEnds[id], now);
+        if (free < 0 || busyVoices(now) >= MAX_VOICES) {
+            dropped++;
+            return false;
+        }
+        voiceEnds[id][free] = now + effect.getLengthNanos();
+        lastStart[id] = now;
+        started[id] = true;
+        return true;
+    }
+
+    /**
+     * @param now Current {@link System#nanoTime()}.
+     * @return Voices still playing.
+     */
+    int busyVoices(long now) {
+        int busy = 0;
+        for (long[] ends : voiceEnds) {
+            for (long end : ends) {
+                if (isBusy(end, now)) {
+                    busy++;
+                }
+            }
+        }
+        return busy;
+    }
+
+    /**
+     * @return Plays refused since the pool was created.
+     */
+    long getDropped() { return dropped; }
+
+    private static int freeSlot(long[] ends, long now) {
+        for (int i = 0; i < ends.length; i++) {
+            if (!isBusy(ends[i], now)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // nanoTime may be negative, so compare by difference rather than against 0
+    private static boolean isBusy(long end, long now) {
+        return end != IDLE && end - now > 0;
+    }
+}
@@ -4,27 +4,66 @@ import com.comp2042.model.bricks.BrickType;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.Map;
 
 /**
  * Utility class responsible for mapping BrickTypes to JavaFX Paint objects.
  * <p>
- * Refactored to use an EnumMap instead of a switch statement, improving
- * maintainability and performance.
+ * The renderers ask for a paint per cell on every refresh, so the fill, shadow (ghost piece)
+ * and flash paints are built once, when the palette is created, into arrays indexed by cell
+ * value. A lookup is a bounds check and an array read; values outside the table are drawn
+ * as empty cells, as {@link BrickType#fromID(int)} treats them.
  * </p>
  */
 public class BrickColor {
 
     private static final double SHADOW_OPACITY = 0.3;
-    private final Map<BrickType, Color> colorMap;
+    private static final double FLASH_TINT = 0.75; // how far the flash is blended towards the flash colour
+    private static final Color FLASH = Color.GHOSTWHITE;
+    /** Paint for brick types the palette has no colour for. */
+    public static final Paint UNKNOWN = Color.WHITE;
+    private static final int EMPTY = BrickType.EMPTY.getID();
 
+    private final Paint[] fill;
+    private final Paint[] shadow;
+    private final Paint[] flash;
+
+    /**
+     * Creates the default palette.
+     */
     public BrickColor() {
-        colorMap = new EnumMap<>(BrickType.class);
-        initializeColors();
+        this(defaultColors());
+    }
+
+    /**
+     * Creates a palette from one base colour per brick type.
+     *
+     * @param colors Base colours; types left out are drawn with {@link #UNKNOWN}.
+     */
+    public BrickColor(Map<BrickType, Color> colors) {
+        int size = 0;
+        for (BrickType type : BrickType.values()) {
+            size = Math.max(size, type.getID() + 1);
+        }
+        fill = new Paint[size];
+        shadow = new Paint[size];
+        flash = new Paint[size];
+        Arrays.fill(fill, UNKNOWN);
+        Arrays.fill(shadow, UNKNOWN);
+        Arrays.fill(flash, FLASH);
+        for (Map.Entry<BrickType, Color> entry : colors.entrySet()) {
+            int id = entry.getKey().getID();
+            Color base = entry.getValue();
+            fill[id] = base;
+            shadow[id] = new Color(base.getRed(), base.getGreen(), base.getBlue(), SHADOW_OPACITY);
+            flash[id] = entry.getKey() == BrickType.EMPTY ? FLASH : base.interpolate(FLASH, FLASH_TINT);
+        }
     }
 
-    private void initializeColors() {
+    private static Map<BrickType, Color> defaultColors() {
+        Map<BrickType, Color> colorMap = new EnumMap<>(BrickType.class);
         colorMap.put(BrickType.EMPTY, Color.TRANSPARENT);
         colorMap.put(BrickType.I, Color.AQUA);
         colorMap.put(BrickType.J, Color.BLUEVIOLET);
@@ -33,6 +72,7 @@ public class BrickColor {
         colorMap.put(BrickType.S, Color.RED);
         colorMap.put(BrickType.T, Color.BEIGE);
         colorMap.put(BrickType.Z, Color.BURLYWOOD);
+        return colorMap;
     }
 
     /**
@@ -42,26 +82,31 @@ public class BrickColor {
      * @return The JavaFX Paint object (Color) for the brick.
      */
     public Paint getFillColor(int colorCode) {
-        BrickType type = BrickType.fromID(colorCode);
-        return colorMap.getOrDefault(type, Color.WHITE);
+        return lookup(fill, colorCode);
     }
 
     /**
-     * Generates a semi-transparent version of the brick's color for the Ghost Piece.
+     * Retrieves the semi-transparent version of the brick's color for the Ghost Piece.
      *
      * @param colorCode The integer ID representing the brick type.
      * @return A translucent Paint object matching the brick's base color.
      */
     public Paint getShadowColor(int colorCode) {
-        Paint basePaint = getFillColor(colorCode);
-        if (basePaint instanceof Color baseColor) {
-            return new Color(
-                    baseColor.getRed(),
-                    baseColor.getGreen(),
-                    baseColor.getBlue(),
-                    SHADOW_OPACITY
-            );
-        }
-        return basePaint;
+        return lookup(shadow, colorCode);
+    }
+
+    /**
+     * Retrieves the paint a cell flashes with when its row is cleared: the brick's colour
+     * washed out towards white, or plain white for empty cells.
+     *
+     * @param colorCode The integer ID representing the brick type.
+     * @return The flash Paint.
+     */
+    public Paint getFlashColor(int colorCode) {
+        return lookup(flash, colorCode);
+    }
+
+    private static Paint lookup(Paint[] table, int colorCode) {
+        return table[colorCode >= 0 && colorCode < table.length ? colorCode : EMPTY];
     }
-}
\ No newline at end of file
+}
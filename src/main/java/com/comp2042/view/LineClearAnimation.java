@@ -1,11 +1,12 @@
 package com.comp2042.view;
 
+import com.comp2042.model.bricks.BrickType;
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.PauseTransition;
 import javafx.animation.SequentialTransition;
 import javafx.scene.layout.GridPane;
-import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
 
@@ -32,7 +33,7 @@ public class LineClearAnimation {
      * Initializes the animation handler with board layout details.
      *
      * @param gamePanel    The GridPane where the animation overlay will be added.
-     * @param colorMapper  The utility for handling colors (not directly used for the flash, but part of render context).
+     * @param colorMapper  The palette the flash paint comes from.
      * @param brickSize    The size of blocks in pixels.
      * @param brickArcSize The corner radius for blocks.
      * @param boardWidth   The number of columns in the board.
@@ -61,6 +62,8 @@ public class LineClearAnimation {
 
         List<Rectangle> flashRectangles = new ArrayList<>();
 
+        // The rows are already gone from the board, so every cell flashes the empty-cell paint
+        Paint flashPaint = colorMapper.getFlashColor(BrickType.EMPTY.getID());
         // Create white flash rectangles for each cleared row
         for (int rowIndex : clearedRows) {
             int displayRow = rowIndex - VISIBLE_ROWS_OFFSET;
@@ -68,7 +71,7 @@ public class LineClearAnimation {
 
             for (int col = 0; col < boardWidth; col++) { // num of  columns
                 Rectangle flash = new Rectangle(brickSize, brickSize);
-                flash.setFill(Color.GHOSTWHITE);
+                flash.setFill(flashPaint);
                 flash.setArcHeight(brickArcSize);
                 flash.setArcWidth(brickArcSize);
                 flash.setOpacity(0.0);
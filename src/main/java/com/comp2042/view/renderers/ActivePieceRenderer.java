@@ -1,6 +1,7 @@
 package com.comp2042.view.renderers;
 
-import com.comp2042.model.state.ViewData;
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.model.state.ViewSnapshot;
 import com.comp2042.view.BrickColor;
 import javafx.scene.layout.GridPane;
 import javafx.scene.shape.Rectangle;
@@ -19,6 +20,7 @@ public class ActivePieceRenderer {
     private final BrickColor colorMapper;
     private final int brickSize;
     private Rectangle[][] rectangles;
+    private BrickShape paintedShape; // shapes are shared table entries, so identity means "same colours"
 
     /**
      * Constructs the renderer.
@@ -36,12 +38,13 @@ public class ActivePieceRenderer {
     /**
      * Initializes the pool of Rectangle objects used to visualize the brick.
      *
-     * @param brickData The 2D array structure of the new brick.
+     * @param shape The shape of the new brick (only its dimensions are used).
      */
-    public void initRectangles(int[][] brickData) {
-        rectangles = new Rectangle[brickData.length][brickData[0].length];
-        for (int i = 0; i < brickData.length; i++) {
-            for (int j = 0; j < brickData[i].length; j++) {
+    public void initRectangles(BrickShape shape) {
+        rectangles = new Rectangle[shape.getRows()][shape.getColumns()];
+        paintedShape = null;
+        for (int i = 0; i < shape.getRows(); i++) {
+            for (int j = 0; j < shape.getColumns(); j++) {
                 Rectangle rectangle = new Rectangle(brickSize, brickSize);
                 rectangle.setArcHeight(9);
                 rectangle.setArcWidth(9);
@@ -58,17 +61,21 @@ public class ActivePieceRenderer {
      * @param gameX The absolute X position of the game board container.
      * @param gameY The absolute Y position of the game board container.
      */
-    public void update(ViewData brick, double gameX, double gameY) {
+    public void update(ViewSnapshot brick, double gameX, double gameY) {
         // Move the whole grid panel to match the logic position
         brickPanel.setLayoutX(gameX + brick.xPosition() * brickPanel.getVgap() + brick.xPosition() * brickSize);
         brickPanel.setLayoutY(VERTICAL_LAYOUT_OFFSET + gameY + brick.yPosition() * brickPanel.getHgap() + brick.yPosition() * brickSize);
 
-        // Update individual rectangle colors
-        for (int i = 0; i < brick.brickData().length; i++) {
-            for (int j = 0; j < brick.brickData()[i].length; j++) {
-                int colorCode = brick.brickData()[i][j];
-                rectangles[i][j].setFill(colorMapper.getFillColor(colorCode));
+        // Update individual rectangle colors (only when the shape or rotation actually changed)
+        BrickShape shape = brick.brickShape();
+        if (shape == paintedShape) {
+            return;
+        }
+        for (int i = 0; i < shape.getRows(); i++) {
+            for (int j = 0; j < shape.getColumns(); j++) {
+                rectangles[i][j].setFill(colorMapper.getFillColor(shape.getCell(i, j)));
             }
         }
+        paintedShape = shape;
     }
 }
\ No newline at end of file
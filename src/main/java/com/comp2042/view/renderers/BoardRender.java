@@ -1,5 +1,6 @@
 package com.comp2042.view.renderers;
 
+import com.comp2042.model.board.ChangeJournal;
 import com.comp2042.view.BrickColor;
 import javafx.scene.layout.GridPane;
 import javafx.scene.paint.Color;
@@ -11,13 +12,19 @@ import javafx.scene.shape.Rectangle;
  * This class maintains a grid of Rectangle objects representing the board cells
  * and updates their colors based on the logical board state.
  * </p>
+ * <p>
+ * The renderer remembers the value each rectangle is currently showing, so a refresh only
+ * touches nodes whose cell actually changed. With a {@link ChangeJournal} it also skips
+ * scanning rows that the board reports as untouched.
+ * </p>
  */
 public class BoardRender {
 
     private static final int VISIBLE_ROWS_OFFSET = 2;
     private final Rectangle[][] matrix;
     private final BrickColor colorMapper;
-    private final int brickArcSize;
+    private final int[][] shown; // value currently painted on each rectangle (-1 = never painted)
+    private int lastUpdatedCount;
 
     /**
      * Initializes the board renderer and populates the grid with empty rectangles.
@@ -30,14 +37,17 @@ public class BoardRender {
      */
     public BoardRender(GridPane panel, int[][] board, BrickColor colorMapper, int brickSize, int brickArcSize) {
         this.colorMapper = colorMapper;
-        this.brickArcSize = brickArcSize;
         matrix = new Rectangle[board.length][board[0].length];
+        shown = new int[board.length][board[0].length];
 
         for (int i = VISIBLE_ROWS_OFFSET; i < board.length; i++) {
             for (int j = 0; j < board[i].length; j++) {
                 Rectangle r = new Rectangle(brickSize, brickSize);
                 r.setFill(Color.TRANSPARENT);
+                r.setArcHeight(brickArcSize); // arcs never change, so set them once here
+                r.setArcWidth(brickArcSize);
                 matrix[i][j] = r;
+                shown[i][j] = -1;
                 panel.add(r, j, i - VISIBLE_ROWS_OFFSET);
             }
         }
@@ -45,17 +55,52 @@ public class BoardRender {
 
     /**
      * Refreshes the board visual to match the logical state.
+     * <p>
+     * Every visible row is compared, but only rectangles whose value changed are repainted.
+     * </p>
      *
      * @param board The 2D array containing the current colors of the board blocks.
      */
     public void refresh(int[][] board) {
+        int updated = 0;
         for (int i = VISIBLE_ROWS_OFFSET; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                Rectangle rect = matrix[i][j];
-                rect.setFill(colorMapper.getFillColor(board[i][j]));
-                rect.setArcHeight(brickArcSize);
-                rect.setArcWidth(brickArcSize);
+            updated += refreshRow(board, i);
+        }
+        lastUpdatedCount = updated;
+    }
+
+    /**
+     * Refreshes only the rows recorded in the journal, then clears it.
+     *
+     * @param board   The 2D array containing the current colors of the board blocks.
+     * @param journal The board's record of rows changed since the last refresh.
+     */
+    public void refresh(int[][] board, ChangeJournal journal) {
+        int updated = 0;
+        for (int i = journal.nextDirtyRow(VISIBLE_ROWS_OFFSET); i >= 0 && i < board.length; i = journal.nextDirtyRow(i + 1)) {
+            updated += refreshRow(board, i);
+        }
+        journal.clear();
+        lastUpdatedCount = updated;
+    }
+
+    /**
+     * @return The number of rectangles repainted by the most recent refresh.
+     */
+    public int getLastUpdatedCount() {
+        return lastUpdatedCount;
+    }
+
+    private int refreshRow(int[][] board, int i) {
+        int updated = 0;
+        for (int j = 0; j < board[i].length; j++) {
+            int value = board[i][j];
+            if (shown[i][j] != value) {
+                matrix[i][j].setFill(colorMapper.getFillColor(value));
+                shown[i][j] = value;
+                updated++;
             }
         }
+        return updated;
     }
 }
\ No newline at end of file
@@ -0,0 +1,219 @@
+package com.comp2042.view.renderers;
+
+import com.comp2042.model.board.ChangeJournal;
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.model.bricks.BrickType;
+import com.comp2042.model.state.ViewSnapshot;
+import com.comp2042.view.BrickColor;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.RowConstraints;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+import java.util.Arrays;
+
+/**
+ * Draws the whole playfield (locked blocks, active brick and ghost) onto a single {@link Canvas}.
+ * <p>
+ * Each brick colour is rasterized once into a small sprite image, so drawing a cell is a single
+ * {@code drawImage} call. The renderer keeps a copy of the background values it has drawn and
+ * only touches pixels that change: cells reported by the {@link ChangeJournal}, plus the cells
+ * the active brick and ghost leave and enter. There is one scene-graph node in total, so moves
+ * no longer trigger CSS or layout passes over hundreds of rectangles.
+ * </p>
+ */
+public class CanvasPlayfieldRenderer implements PlayfieldRenderer {
+
+    private static final int VISIBLE_ROWS_OFFSET = 2;
+
+    private final GraphicsContext gc;
+    private final Image[] sprites;      // indexed by brick colour ID
+    private final Image[] ghostSprites; // indexed by brick colour ID
+    private final int[][] background;   // value currently drawn for each locked cell (-1 = never drawn)
+    private final int brickSize;
+    private final double stride;
+    private int lastUpdatedCount;
+
+    // What the overlay currently covers, so it can be erased on the next frame
+    private BrickShape drawnShape;
+    private int drawnX;
+    private int drawnY;
+    private int drawnShadowY;
+    private boolean drawnGhost;
+
+    /**
+     * Creates the canvas and places it over the board grid.
+     * <p>
+     * The grid gets fixed column and row sizes so the canvas lines up exactly with the cells
+     * that {@link com.comp2042.view.LineClearAnimation} flashes.
+     * </p>
+     *
+     * @param gamePanel    The main grid for the static board.
+     * @param colorMapper  The color mapping utility.
+     * @param boardHeight  The board height in rows (including the hidden spawn rows).
+     * @param boardWidth   The board width in columns.
+     * @param brickSize    The size of each block in pixels.
+     * @param brickArcSize The corner radius for the blocks.
+     */
+    public CanvasPlayfieldRenderer(GridPane gamePanel, BrickColor colorMapper,
+                                   int boardHeight, int boardWidth, int brickSize, int brickArcSize) {
+        this.brickSize = brickSize;
+        this.stride = brickSize + gamePanel.getHgap();
+        this.background = new int[boardHeight][boardWidth];
+        for (int[] row : background) {
+            Arrays.fill(row, -1);
+        }
+
+        int visibleRows = boardHeight - VISIBLE_ROWS_OFFSET;
+        for (int j = 0; j < boardWidth; j++) {
+            gamePanel.getColumnConstraints().add(new ColumnConstraints(brickSize));
+        }
+        for (int i = 0; i < visibleRows; i++) {
+            gamePanel.getRowConstraints().add(new RowConstraints(brickSize));
+        }
+        Canvas canvas = new Canvas(boardWidth * stride - gamePanel.getHgap(), visibleRows * stride - gamePanel.getVgap());
+        gamePanel.add(canvas, 0, 0, boardWidth, visibleRows);
+        this.gc = canvas.getGraphicsContext2D();
+
+        int ids = 0;
+        for (BrickType type : BrickType.values()) {
+            ids = Math.max(ids, type.getID() + 1);
+        }
+        this.sprites = new Image[ids];
+        this.ghostSprites = new Image[ids];
+        for (BrickType type : BrickType.values()) {
+            if (type != BrickType.EMPTY) {
+                sprites[type.getID()] = rasterize(colorMapper.getFillColor(type.getID()), brickSize, brickArcSize);
+                ghostSprites[type.getID()] = rasterize(colorMapper.getShadowColor(type.getID()), brickSize, brickArcSize);
+            }
+        }
+    }
+
+    // Renders one rounded block into an image with a transparent background
+    private static Image rasterize(Paint paint, int size, int arc) {
+        Canvas scratch = new Canvas(size, size);
+        GraphicsContext g = scratch.getGraphicsContext2D();
+        g.setFill(paint);
+        g.fillRoundRect(0, 0, size, size, arc, arc);
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        return scratch.snapshot(params, null);
+    }
+
+    @Override
+    public void initActivePiece(ViewSnapshot brick) {
+        drawnShape = null;
+    }
+
+    @Override
+    public void refreshBackground(int[][] board) {
+        int updated = 0;
+        for (int i = VISIBLE_ROWS_OFFSET; i < board.length; i++) {
+            updated += refreshRow(board, i);
+        }
+        finishBackground(updated);
+    }
+
+    @Override
+    public void refreshBackground(int[][] board, ChangeJournal journal) {
+        int updated = 0;
+        for (int i = journal.nextDirtyRow(VISIBLE_ROWS_OFFSET); i >= 0 && i < board.length; i = journal.nextDirtyRow(i + 1)) {
+            updated += refreshRow(board, i);
+        }
+        journal.clear();
+        finishBackground(updated);
+    }
+
+    private int refreshRow(int[][] board, int i) {
+        int updated = 0;
+        for (int j = 0; j < board[i].length; j++) {
+            if (background[i][j] != board[i][j]) {
+                background[i][j] = board[i][j];
+                drawCell(i, j, sprites[board[i][j]]);
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    private void finishBackground(int updated) {
+        lastUpdatedCount = updated;
+        // A repainted cell may have been under the piece or ghost, so put the overlay back on top
+        if (updated > 0 && drawnShape != null) {
+            drawOverlay();
+        }
+    }
+
+    @Override
+    public void renderPiece(ViewSnapshot brick, boolean ghostEnabled) {
+        if (drawnShape != null) {
+            eraseShape(drawnShape, drawnX, drawnY);
+            if (drawnGhost) {
+                eraseShape(drawnShape, drawnX, drawnShadowY);
+            }
+        }
+        drawnShape = brick.brickShape();
+        drawnX = brick.xPosition();
+        drawnY = brick.yPosition();
+        drawnShadowY = brick.shadowYPosition();
+        drawnGhost = ghostEnabled && drawnShadowY > drawnY;
+        drawOverlay();
+    }
+
+    private void drawOverlay() {
+        if (drawnGhost) {
+            drawShape(drawnShape, drawnX, drawnShadowY, ghostSprites);
+        }
+        drawShape(drawnShape, drawnX, drawnY, sprites);
+    }
+
+    private void drawShape(BrickShape shape, int x, int y, Image[] spriteTable) {
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            for (int c = shape.getMinColumn(); c <= shape.getMaxColumn(); c++) {
+                int value = shape.getCell(r, c);
+                if (value != 0) {
+                    drawCell(y + r, x + c, spriteTable[value]);
+                }
+            }
+        }
+    }
+
+    // Restores the background under a shape that is about to move
+    private void eraseShape(BrickShape shape, int x, int y) {
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            for (int c = shape.getMinColumn(); c <= shape.getMaxColumn(); c++) {
+                if (shape.getCell(r, c) != 0) {
+                    int value = background[y + r][x + c];
+                    drawCell(y + r, x + c, value > 0 ? sprites[value] : null);
+                }
+            }
+        }
+    }
+
+    private void drawCell(int row, int column, Image sprite) {
+        if (row < VISIBLE_ROWS_OFFSET) {
+            return; // spawn rows are not shown
+        }
+        double px = column * stride;
+        double py = (row - VISIBLE_ROWS_OFFSET) * stride;
+        gc.clearRect(px, py, brickSize, brickSize);
+        if (sprite != null) {
+            gc.drawImage(sprite, px, py);
+        }
+    }
+
+    @Override
+    public int getLastUpdatedCount() {
+        return lastUpdatedCount;
+    }
+
+    @Override
+    public int getNodeCount() {
+        return 1;
+    }
+}
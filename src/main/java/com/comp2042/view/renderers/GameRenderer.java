@@ -1,32 +1,36 @@
 package com.comp2042.view.renderers;
 
-import com.comp2042.model.state.ViewData;
+import com.comp2042.model.board.ChangeJournal;
+import com.comp2042.model.state.ViewSnapshot;
 import com.comp2042.view.BrickColor;
 import com.comp2042.view.LineClearAnimation;
-import javafx.scene.Group;
 import javafx.scene.layout.GridPane;
-import javafx.scene.layout.Pane;
 
 /**
  * Acts as a Facade for the View layer, orchestrating all rendering sub-systems.
  * <p>
- * This class encapsulates individual renderers (Board, Active Piece, Shadow, Next Piece, Hold Piece)
+ * This class encapsulates individual renderers (Playfield, Next Piece, Hold Piece)
  * providing a single simplified interface for the Controller to draw the entire game state.
  * This implements the Facade Design Pattern to reduce coupling between the Controller and View details.
  * </p>
+ * <p>
+ * The playfield itself is drawn by a pluggable {@link PlayfieldRenderer} chosen by
+ * {@link RenderBackend}. The facade also records how long each draw took and how many
+ * nodes the playfield uses, so the backends can be compared in a running game.
+ * </p>
  */
 public class GameRenderer {
 
-    private final BoardRender boardRenderer;
-    private final ActivePieceRenderer activePieceRenderer;
+    private final PlayfieldRenderer playfieldRenderer;
     private final NextPieceRenderer nextPieceRenderer;
-    private final ShadowRender shadowRender;
     private final LineClearAnimation lineClearAnimation;
     private final NextPieceRenderer holdPieceRenderer;
+    private final RenderBackend backend;
 
-    // Layout references needed for positioning
-    private final GridPane gamePanel;
-    private final GridPane brickPanel;
+    // Last snapshot version drawn, so unchanged frames can be skipped
+    private long renderedVersion = -1;
+    private boolean renderedGhost;
+    private long lastFrameNanos;
 
     private static final int BRICK_SIZE = 20;
     private static final int BRICK_ARC_SIZE = 9;
@@ -38,68 +42,66 @@ public class GameRenderer {
      * @param brickPanel      The pane overlay for the falling active brick.
      * @param nextPiecePanel  The pane for displaying the next upcoming brick.
      * @param holdPiecePanel  The pane for displaying the currently held brick.
+     * @param boardHeight     The height of the game board in rows.
      * @param boardWidth      The width of the game board in columns.
+     * @param backend         Which playfield implementation to use.
      */
-    public GameRenderer(GridPane gamePanel, GridPane brickPanel, GridPane nextPiecePanel, GridPane holdPiecePanel, int boardWidth) {
-        this.gamePanel = gamePanel;
-        this.brickPanel = brickPanel;
-
+    public GameRenderer(GridPane gamePanel, GridPane brickPanel, GridPane nextPiecePanel, GridPane holdPiecePanel,
+                        int boardHeight, int boardWidth, RenderBackend backend) {
+        this.backend = backend;
         BrickColor colorMapper = new BrickColor();
 
         // Initialize all sub-renderers
-        this.boardRenderer = new BoardRender(gamePanel, new int[25][boardWidth], colorMapper, BRICK_SIZE, BRICK_ARC_SIZE);
-        this.activePieceRenderer = new ActivePieceRenderer(brickPanel, colorMapper, BRICK_SIZE);
+        this.playfieldRenderer = switch (backend) {
+            case CANVAS -> new CanvasPlayfieldRenderer(gamePanel, colorMapper, boardHeight, boardWidth, BRICK_SIZE, BRICK_ARC_SIZE);
+            case NODES -> new NodePlayfieldRenderer(gamePanel, brickPanel, colorMapper, boardHeight, boardWidth, BRICK_SIZE, BRICK_ARC_SIZE);
+        };
         this.nextPieceRenderer = new NextPieceRenderer(nextPiecePanel, colorMapper, BRICK_SIZE, BRICK_ARC_SIZE);
         this.lineClearAnimation = new LineClearAnimation(gamePanel, colorMapper, BRICK_SIZE, BRICK_ARC_SIZE, boardWidth);
 
         // Initialize Hold Renderer (reusing NextPieceRenderer logic as it fits perfectly)
         this.holdPieceRenderer = new NextPieceRenderer(holdPiecePanel, colorMapper, BRICK_SIZE, BRICK_ARC_SIZE);
-
-        // Setup Shadow Group (Ghost Piece layer)
-        Group shadowGroup = new Group();
-        if (brickPanel.getParent() instanceof Pane parent) {
-            parent.getChildren().add(shadowGroup);
-            shadowGroup.toBack();
-        }
-        this.shadowRender = new ShadowRender(shadowGroup, colorMapper, BRICK_SIZE);
     }
 
     /**
      * Initializes the graphical objects for a new active brick.
      * Should be called whenever a new brick spawns.
      *
-     * @param brick The view data containing the new brick's structure.
+     * @param brick The view snapshot containing the new brick's structure.
      */
-    public void initActivePiece(ViewData brick) {
-        activePieceRenderer.initRectangles(brick.brickData());
+    public void initActivePiece(ViewSnapshot brick) {
+        playfieldRenderer.initActivePiece(brick);
+        renderedVersion = -1;
         render(brick, true);
     }
 
     /**
      * Updates all visual components based on the current game state.
-     * This is the main render loop method.
+     * This is the main render loop method. If the snapshot version and ghost setting are the
+     * same as last time, nothing has changed and the call returns straight away.
      *
      * @param brick         The current snapshot of game data (active piece, positions, next/hold info).
      * @param ghostEnabled  Whether to render the shadow (Ghost Piece).
      */
-    public void render(ViewData brick, boolean ghostEnabled) {
-        // Update Active Piece position
-        activePieceRenderer.update(brick, gamePanel.getLayoutX(), gamePanel.getLayoutY());
-
-        // Update Shadow position and visibility
-        if (ghostEnabled) {
-            shadowRender.updateShadow(brick, gamePanel.getLayoutX(), gamePanel.getLayoutY(), brickPanel.getVgap());
-        } else {
-            shadowRender.hide();
+    public void render(ViewSnapshot brick, boolean ghostEnabled) {
+        if (brick.version() == renderedVersion && ghostEnabled == renderedGhost) {
+            return;
         }
+        long start = System.nanoTime();
+        renderedVersion = brick.version();
+        renderedGhost = ghostEnabled;
+
+        // Update Active Piece and Shadow
+        playfieldRenderer.renderPiece(brick, ghostEnabled);
 
         // Update Next Piece preview
-        nextPieceRenderer.update(brick.nextBrickData());
+        nextPieceRenderer.update(brick.nextBrickShape());
 
         // Update Hold Piece view
-        if (brick.heldBrickData() != null) {
-            holdPieceRenderer.update(brick.heldBrickData());
+        if (brick.heldBrickShape() != null) {
+            holdPieceRenderer.update(brick.heldBrickShape());
         }
+        lastFrameNanos = System.nanoTime() - start;
     }
 
     /**
@@ -108,7 +110,45 @@ public class GameRenderer {
      * @param board The 2D array representing the board state.
      */
     public void refreshBackground(int[][] board) {
-        boardRenderer.refresh(board);
+        playfieldRenderer.refreshBackground(board);
+    }
+
+    /**
+     * Redraws only the background rows the board reports as changed.
+     *
+     * @param board   The 2D array representing the board state.
+     * @param journal The board's change journal (cleared by this call).
+     */
+    public void refreshBackground(int[][] board, ChangeJournal journal) {
+        playfieldRenderer.refreshBackground(board, journal);
+    }
+
+    /**
+     * @return The number of background cells repainted by the last refresh.
+     */
+    public int getLastBackgroundUpdateCount() {
+        return playfieldRenderer.getLastUpdatedCount();
+    }
+
+    /**
+     * @return How long the last {@link #render(ViewSnapshot, boolean)} call that actually drew took, in nanoseconds.
+     */
+    public long getLastFrameNanos() {
+        return lastFrameNanos;
+    }
+
+    /**
+     * @return The number of scene-graph nodes used by the playfield backend.
+     */
+    public int getPlayfieldNodeCount() {
+        return playfieldRenderer.getNodeCount();
+    }
+
+    /**
+     * @return The backend this renderer was created with.
+     */
+    public RenderBackend getBackend() {
+        return backend;
     }
 
     /**
@@ -119,4 +159,4 @@ public class GameRenderer {
     public LineClearAnimation getLineClearAnimation() {
         return lineClearAnimation;
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.comp2042.view.renderers;
 
+import com.comp2042.model.bricks.BrickShape;
 import com.comp2042.view.BrickColor;
 import javafx.scene.layout.GridPane;
 import javafx.scene.paint.Color;
@@ -16,7 +17,7 @@ public class NextPieceRenderer {
     private static final int GRID_SIZE = 4;
     private final Rectangle[][] panel = new Rectangle[GRID_SIZE][GRID_SIZE];
     private final BrickColor colorMapper;
-    private final int brickArcSize;
+    private BrickShape shownShape;
 
     /**
      * Initializes the preview grid.
@@ -28,7 +29,6 @@ public class NextPieceRenderer {
      */
     public NextPieceRenderer(GridPane nextPiecePanel, BrickColor colorMapper, int brickSize, int brickArcSize) {
         this.colorMapper = colorMapper;
-        this.brickArcSize = brickArcSize;
 
         for (int i = 0; i < GRID_SIZE; i++) {
             for (int j = 0; j < GRID_SIZE; j++) {
@@ -44,71 +44,50 @@ public class NextPieceRenderer {
 
     /**
      * Updates the preview display with a new brick shape.
-     * Automatically centers the shape within the grid.
+     * Automatically centers the shape within the grid using its precomputed bounding box.
+     * <p>
+     * Shapes are shared table entries, so if the same shape is passed again the grid already
+     * shows it and nothing is repainted.
+     * </p>
      *
-     * @param nextBrickData The matrix representing the brick to display.
+     * @param shape The shape of the brick to display.
      */
-    public void update(int[][] nextBrickData) {
+    public void update(BrickShape shape) {
+        if (shape == shownShape) {
+            return;
+        }
+        shownShape = shape;
+
         // Clear all rectangles
         for (Rectangle[] row : panel) {
             for (Rectangle rect : row) {
                 rect.setFill(Color.TRANSPARENT);
             }
         }
+        if (shape.getCellCount() == 0) {
+            return;
+        }
 
-        // Calculate offsets to center the piece
-        int[] offsets = calculateCenterOffset(nextBrickData);
-        int offsetRow = offsets[0];
-        int offsetCol = offsets[1];
+        // Calculate offsets to center the piece in the GRID_SIZE x GRID_SIZE panel
+        int brickHeight = shape.getMaxRow() - shape.getMinRow() + 1;
+        int brickWidth = shape.getMaxColumn() - shape.getMinColumn() + 1;
+        int offsetRow = (GRID_SIZE - brickHeight) / 2 - shape.getMinRow();
+        int offsetCol = (GRID_SIZE - brickWidth) / 2 - shape.getMinColumn();
 
-        // Fill in the next piece with centering offset
-        for (int i = 0; i < nextBrickData.length && i < GRID_SIZE; i++) {
-            for (int j = 0; j < nextBrickData[i].length && j < GRID_SIZE; j++) {
-                if (nextBrickData[i][j] != 0) {
+        // Fill in the piece with centering offset
+        for (int i = shape.getMinRow(); i <= shape.getMaxRow(); i++) {
+            for (int j = shape.getMinColumn(); j <= shape.getMaxColumn(); j++) {
+                if (shape.getCell(i, j) != 0) {
                     int displayRow = i + offsetRow;
                     int displayCol = j + offsetCol;
 
                     // Check bounds before drawing
                     if (displayRow >= 0 && displayRow < GRID_SIZE &&
                             displayCol >= 0 && displayCol < GRID_SIZE) {
-                        Rectangle rect = panel[displayRow][displayCol];
-                        rect.setFill(colorMapper.getFillColor(nextBrickData[i][j]));
-                        rect.setArcHeight(brickArcSize);
-                        rect.setArcWidth(brickArcSize);
+                        panel[displayRow][displayCol].setFill(colorMapper.getFillColor(shape.getCell(i, j)));
                     }
                 }
             }
         }
     }
-    private int[] calculateCenterOffset(int[][] brickData) {
-        int minRow = GRID_SIZE, maxRow = -1;
-        int minCol = GRID_SIZE, maxCol = -1;
-
-        // Find the bounding box of the actual brick (non-zero cells)
-        for (int i = 0; i < brickData.length; i++) {
-            for (int j = 0; j < brickData[i].length; j++) {
-                if (brickData[i][j] != 0) {
-                    minRow = Math.min(minRow, i);
-                    maxRow = Math.max(maxRow, i);
-                    minCol = Math.min(minCol, j);
-                    maxCol = Math.max(maxCol, j);
-                }
-            }
-        }
-
-        // If no cells found, no offset needed
-        if (maxRow == -1) {
-            return new int[]{0, 0};
-        }
-
-        // Calculate brick dimensions
-        int brickHeight = maxRow - minRow + 1;
-        int brickWidth = maxCol - minCol + 1;
-
-        // Calculate offset to center in GRID_SIZE x GRID_SIZE panel
-        int offsetRow = (GRID_SIZE - brickHeight) / 2 - minRow;
-        int offsetCol = (GRID_SIZE - brickWidth) / 2 - minCol;
-
-        return new int[]{offsetRow, offsetCol};
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package com.comp2042.view.renderers;
+
+import com.comp2042.model.board.ChangeJournal;
+import com.comp2042.model.state.ViewSnapshot;
+import com.comp2042.view.BrickColor;
+import javafx.scene.Group;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+
+/**
+ * The original scene-graph playfield: a {@code Rectangle} per board cell ({@link BoardRender}),
+ * a movable grid for the active piece ({@link ActivePieceRenderer}) and a group of shadow
+ * rectangles ({@link ShadowRender}).
+ */
+public class NodePlayfieldRenderer implements PlayfieldRenderer {
+
+    private final BoardRender boardRenderer;
+    private final ActivePieceRenderer activePieceRenderer;
+    private final ShadowRender shadowRender;
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+    private final Group shadowGroup;
+    private final int boardCellCount;
+
+    /**
+     * Creates the node-based playfield inside the existing layout panes.
+     *
+     * @param gamePanel    The main grid for the static board.
+     * @param brickPanel   The pane overlay for the falling active brick.
+     * @param colorMapper  The color mapping utility.
+     * @param boardHeight  The board height in rows (including the hidden spawn rows).
+     * @param boardWidth   The board width in columns.
+     * @param brickSize    The size of each block in pixels.
+     * @param brickArcSize The corner radius for the blocks.
+     */
+    public NodePlayfieldRenderer(GridPane gamePanel, GridPane brickPanel, BrickColor colorMapper,
+                                 int boardHeight, int boardWidth, int brickSize, int brickArcSize) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+        this.boardRenderer = new BoardRender(gamePanel, new int[boardHeight][boardWidth], colorMapper, brickSize, brickArcSize);
+        this.activePieceRenderer = new ActivePieceRenderer(brickPanel, colorMapper, brickSize);
+        this.boardCellCount = gamePanel.getChildren().size();
+
+        // Setup Shadow Group (Ghost Piece layer)
+        this.shadowGroup = new Group();
+        if (brickPanel.getParent() instanceof Pane parent) {
+            parent.getChildren().add(shadowGroup);
+            shadowGroup.toBack();
+        }
+        this.shadowRender = new ShadowRender(shadowGroup, colorMapper, brickSize);
+    }
+
+    @Override
+    public void initActivePiece(ViewSnapshot brick) {
+        activePieceRenderer.initRectangles(brick.brickShape());
+    }
+
+    @Override
+    public void refreshBackground(int[][] board) {
+        boardRenderer.refresh(board);
+    }
+
+    @Override
+    public void refreshBackground(int[][] board, ChangeJournal journal) {
+        boardRenderer.refresh(board, journal);
+    }
+
+    @Override
+    public void renderPiece(ViewSnapshot brick, boolean ghostEnabled) {
+        // Update Active Piece position
+        activePieceRenderer.update(brick, gamePanel.getLayoutX(), gamePanel.getLayoutY());
+
+        // Update Shadow position and visibility
+        if (ghostEnabled) {
+            shadowRender.updateShadow(brick, gamePanel.getLayoutX(), gamePanel.getLayoutY(), brickPanel.getVgap());
+        } else {
+            shadowRender.hide();
+        }
+    }
+
+    @Override
+    public int getLastUpdatedCount() {
+        return boardRenderer.getLastUpdatedCount();
+    }
+
+    @Override
+    public int getNodeCount() {
+        return boardCellCount + brickPanel.getChildren().size() + shadowGroup.getChildren().size();
+    }
+}
@@ -0,0 +1,55 @@
+package com.comp2042.view.renderers;
+
+import com.comp2042.model.board.ChangeJournal;
+import com.comp2042.model.state.ViewSnapshot;
+
+/**
+ * Draws the playfield: the locked blocks, the falling active brick and its ghost.
+ * <p>
+ * {@link GameRenderer} picks an implementation based on the selected {@link RenderBackend},
+ * so the scene-graph and canvas approaches can be swapped and compared without touching
+ * the controllers. The Next/Hold previews are small and stay outside this interface.
+ * </p>
+ */
+public interface PlayfieldRenderer {
+
+    /**
+     * Prepares the active-piece graphics for a new game.
+     *
+     * @param brick The first snapshot of the game.
+     */
+    void initActivePiece(ViewSnapshot brick);
+
+    /**
+     * Redraws the locked blocks, comparing every visible cell.
+     *
+     * @param board The 2D array representing the board state.
+     */
+    void refreshBackground(int[][] board);
+
+    /**
+     * Redraws only the rows recorded in the journal, then clears it.
+     *
+     * @param board   The 2D array representing the board state.
+     * @param journal The board's record of changed rows.
+     */
+    void refreshBackground(int[][] board, ChangeJournal journal);
+
+    /**
+     * Draws the active brick and, if enabled, its ghost.
+     *
+     * @param brick        The current snapshot.
+     * @param ghostEnabled Whether to draw the ghost piece.
+     */
+    void renderPiece(ViewSnapshot brick, boolean ghostEnabled);
+
+    /**
+     * @return The number of board cells repainted by the most recent background refresh.
+     */
+    int getLastUpdatedCount();
+
+    /**
+     * @return The number of scene-graph nodes this renderer currently uses.
+     */
+    int getNodeCount();
+}
@@ -0,0 +1,11 @@
+package com.comp2042.view.renderers;
+
+/**
+ * The available implementations of {@link PlayfieldRenderer}.
+ */
+public enum RenderBackend {
+    /** One JavaFX {@code Rectangle} node per cell (the original renderer). */
+    NODES,
+    /** A single {@code Canvas} with pre-rasterized brick sprites. */
+    CANVAS
+}
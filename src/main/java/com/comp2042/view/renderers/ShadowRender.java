@@ -1,6 +1,7 @@
 package com.comp2042.view.renderers;
 
-import com.comp2042.model.state.ViewData;
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.model.state.ViewSnapshot;
 import com.comp2042.view.BrickColor;
 import javafx.scene.Group;
 import javafx.scene.shape.Rectangle;
@@ -11,13 +12,27 @@ import javafx.scene.shape.Rectangle;
  * The shadow shows where the active brick would land if dropped instantly.
  * This renderer updates the shadow's position based on calculations from the Model.
  * </p>
+ * <p>
+ * A fixed pool of rectangles is created once and only repositioned afterwards. The scene
+ * graph is left alone entirely unless the ghost's shape (type and rotation), column or
+ * landing row changed since the last update.
+ * </p>
  */
 public class ShadowRender {
     private static final double VERTICAL_LAYOUT_OFFSET = -42.0;
+    private static final int POOL_SIZE = 4; // every standard brick has four cells
 
     private final Group shadowGroup;
     private final BrickColor colorMapper;
     private final int brickSize;
+    private final Rectangle[] pool = new Rectangle[POOL_SIZE];
+
+    // What the pool currently shows
+    private BrickShape shownShape;
+    private int shownX;
+    private int shownY;
+    private double shownLayoutX;
+    private double shownLayoutY;
 
     /**
      * Initializes the shadow renderer.
@@ -31,46 +46,69 @@ public class ShadowRender {
         this.colorMapper = colorMapper;
         this.brickSize = brickSize;
         this.shadowGroup.setMouseTransparent(true);
+
+        for (int i = 0; i < POOL_SIZE; i++) {
+            Rectangle rect = new Rectangle(brickSize, brickSize);
+            rect.setArcHeight(9);
+            rect.setArcWidth(9);
+            pool[i] = rect;
+        }
+        shadowGroup.getChildren().addAll(pool);
+        shadowGroup.setVisible(false);
     }
 
     /**
      * Updates the position and shape of the shadow.
      *
-     * @param brick       The current view data containing the shadow's projected Y position.
+     * @param brick       The current view snapshot containing the shadow's projected Y position.
      * @param gameLayoutX The X offset of the game board.
      * @param gameLayoutY The Y offset of the game board.
      * @param gap         The gap between grid cells.
      */
-    public void updateShadow(ViewData brick, double gameLayoutX, double gameLayoutY, double gap) {
-        shadowGroup.getChildren().clear();
-
+    public void updateShadow(ViewSnapshot brick, double gameLayoutX, double gameLayoutY, double gap) {
         int shadowY = brick.shadowYPosition();
         int currentY = brick.yPosition();
 
         // Only show shadow if different from current position
         if (shadowY <= currentY) {
-            shadowGroup.setVisible(false);
+            hide();
             return;
         }
 
-        int[][] brickData = brick.brickData();
-        double startX = gameLayoutX + brick.xPosition() * gap + brick.xPosition() * brickSize;
-        double startY =  VERTICAL_LAYOUT_OFFSET + gameLayoutY + shadowY * gap + shadowY * brickSize;
+        BrickShape shape = brick.brickShape();
+        int x = brick.xPosition();
+        if (shadowGroup.isVisible() && shape == shownShape && x == shownX && shadowY == shownY
+                && gameLayoutX == shownLayoutX && gameLayoutY == shownLayoutY) {
+            return; // ghost has not moved
+        }
+
+        double startX = gameLayoutX + x * gap + x * brickSize;
+        double startY = VERTICAL_LAYOUT_OFFSET + gameLayoutY + shadowY * gap + shadowY * brickSize;
 
-        // Create shadow rectangles
-        for (int i = 0; i < brickData.length; i++) {
-            for (int j = 0; j < brickData[i].length; j++) {
-                if (brickData[i][j] != 0) {
-                    Rectangle rect = new Rectangle(brickSize, brickSize);
-                    rect.setFill(colorMapper.getShadowColor(brickData[i][j]));
-                    rect.setArcHeight(9);
-                    rect.setArcWidth(9);
+        // Reposition the pooled rectangles over the filled cells
+        int used = 0;
+        for (int i = shape.getMinRow(); i <= shape.getMaxRow() && used < POOL_SIZE; i++) {
+            for (int j = shape.getMinColumn(); j <= shape.getMaxColumn() && used < POOL_SIZE; j++) {
+                if (shape.getCell(i, j) != 0) {
+                    Rectangle rect = pool[used++];
+                    if (shape != shownShape) {
+                        rect.setFill(colorMapper.getShadowColor(shape.getCell(i, j)));
+                    }
                     rect.setX(startX + j * (brickSize + gap));
                     rect.setY(startY + i * (brickSize + gap));
-                    shadowGroup.getChildren().add(rect);
+                    rect.setVisible(true);
                 }
             }
         }
+        for (int k = used; k < POOL_SIZE; k++) {
+            pool[k].setVisible(false);
+        }
+
+        shownShape = shape;
+        shownX = x;
+        shownY = shadowY;
+        shownLayoutX = gameLayoutX;
+        shownLayoutY = gameLayoutY;
         shadowGroup.setVisible(true);
     }
 
@@ -80,4 +118,4 @@ public class ShadowRender {
     public void hide() {
         shadowGroup.setVisible(false);
     }
-}
\ No newline at end of file
+}
@@ -48,6 +48,13 @@ class GameInputHandlerTest {
         assertNull(stubController.lastAction, "Input should be ignored when game is paused");
     }
 
+    @Test
+    void testRelease_KeyA() {
+        inputHandler.handleRelease(new KeyEvent(KeyEvent.KEY_RELEASED, "", "", KeyCode.A,
+                false, false, false, false));
+        assertEquals("releaseLeft", stubController.lastAction, "Releasing A should end the left auto-repeat");
+    }
+
     // --- Helper to create JavaFX KeyEvents ---
     private KeyEvent createKeyEvent(KeyCode code) {
         return new KeyEvent(KeyEvent.KEY_PRESSED, "", "", code,
@@ -70,6 +77,7 @@ class GameInputHandlerTest {
         @Override public void rotate() { lastAction = "rotate"; }
         @Override public void hardDrop() { lastAction = "hardDrop"; }
         @Override public void holdBrick() { lastAction = "holdBrick"; }
+        @Override public void releaseLeft() { lastAction = "releaseLeft"; }
         @Override public void pauseGame() { lastAction = "pauseGame"; }
         @Override public void newGame() { lastAction = "newGame"; }
         @Override public void handleEscape() { lastAction = "handleEscape"; }
@@ -32,13 +32,13 @@ class BoardStateTest {
     void testScoreResetOnNewGame() {
         // Simulate playing and getting points
         board.getScore().add(500);
-        assertEquals(500, board.getScore().scoreProperty().get(), "Score should update");
+        assertEquals(500, board.getScore().getValue(), "Score should update");
 
         // Restart the game
         board.newGame();
 
         // Verify score is back to zero
-        assertEquals(0, board.getScore().scoreProperty().get(), "Score should reset to 0 after newGame()");
+        assertEquals(0, board.getScore().getValue(), "Score should reset to 0 after newGame()");
     }
 
     @Test
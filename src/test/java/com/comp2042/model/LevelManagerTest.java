@@ -1,6 +1,5 @@
 package com.comp2042.model;
 
-import javafx.beans.property.SimpleIntegerProperty;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -11,31 +10,27 @@ import static org.junit.jupiter.api.Assertions.*;
 class LevelManagerTest {
 
     private LevelManager levelManager;
-    private SimpleIntegerProperty scoreProperty;
 
     @BeforeEach
     void setUp() {
         levelManager = new LevelManager();
-        scoreProperty = new SimpleIntegerProperty(0);
-        // Bind the manager to our test score property
-        levelManager.bindScore(scoreProperty);
     }
 
     @Test
     void testInitialState() {
-        assertEquals(1, levelManager.levelProperty().get(), "Game should start at Level 1");
+        assertEquals(1, levelManager.getCurrentLevel(), "Game should start at Level 1");
         assertEquals(400.0, levelManager.getCurrentDelay(), 0.01, "Initial delay should be 400ms");
     }
 
     @Test
     void testLevelUpAtThreshold() {
         // Score = 900 -> Still Level 1
-        scoreProperty.set(900);
-        assertEquals(1, levelManager.levelProperty().get());
+        levelManager.update(900);
+        assertEquals(1, levelManager.getCurrentLevel());
 
         // Score = 1000 -> Level 2
-        scoreProperty.set(1000);
-        assertEquals(2, levelManager.levelProperty().get(), "Should level up at 1000 points");
+        levelManager.update(1000);
+        assertEquals(2, levelManager.getCurrentLevel(), "Should level up at 1000 points");
 
         // Check Speed Increase (Level 2 should be faster than Level 1)
         // 400 * 0.85 = 340
@@ -45,17 +40,40 @@ class LevelManagerTest {
     @Test
     void testMultipleLevelUps() {
         // Score = 5500 -> Level 6
-        scoreProperty.set(5500);
-        assertEquals(6, levelManager.levelProperty().get(), "Should be at Level 6 for 5500 points");
+        levelManager.update(5500);
+        assertEquals(6, levelManager.getCurrentLevel(), "Should be at Level 6 for 5500 points");
     }
 
     @Test
     void testRestartReset() {
         // Go to Level 5
-        scoreProperty.set(4000);
-        assertEquals(5, levelManager.levelProperty().get());
+        levelManager.update(4000);
+        assertEquals(5, levelManager.getCurrentLevel());
         // Reset Score to 0 (New Game)
-        scoreProperty.set(0);
-        assertEquals(1, levelManager.levelProperty().get(), "Level should reset to 1 when score resets");
+        levelManager.update(0);
+        assertEquals(1, levelManager.getCurrentLevel(), "Level should reset to 1 when score resets");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGravityTable_SpeedsUpToTwentyG() {
+        double previous = 0;
+        for (int level = 1; level < LevelManager.TWENTY_G_LEVEL; level++) {
+            double gravity = LevelManager.gravityForLevel(level);
+            assertTrue(gravity > previous, "Gravity should grow every level (level " + level + ")");
+            assertTrue(gravity < LevelManager.MAX_GRAVITY);
+            previous = gravity;
+        }
+        assertEquals(LevelManager.MAX_GRAVITY, LevelManager.gravityForLevel(LevelManager.TWENTY_G_LEVEL));
+        assertEquals(LevelManager.MAX_GRAVITY, LevelManager.gravityForLevel(500), "Past the table stays at 20G");
+    }
+
+    @Test
+    void testTwentyG_TicksOncePerFrame() {
+        levelManager.update((LevelManager.TWENTY_G_LEVEL - 1) * 1000);
+        assertTrue(levelManager.isTwentyG());
+        assertEquals(1000.0 / 60, levelManager.getCurrentDelay(), 0.01);
+
+        levelManager.update(0);
+        assertFalse(levelManager.isTwentyG());
+    }
+}
@@ -11,9 +11,9 @@ class ScoreTest {
     void testAdd_IncreasesScore() {
         Score score = new Score();
         score.add(10);
-        assertEquals(10, score.scoreProperty().get());
+        assertEquals(10, score.getValue());
         score.add(5);
-        assertEquals(15, score.scoreProperty().get());
+        assertEquals(15, score.getValue());
     }
 
     @Test //test resetting the score to 0
@@ -21,6 +21,14 @@ class ScoreTest {
         Score score = new Score();
         score.add(50);
         score.reset();
-        assertEquals(0, score.scoreProperty().get());
+        assertEquals(0, score.getValue());
     }
-}
\ No newline at end of file
+
+    @Test //huge games must not wrap the score negative
+    void testAdd_SaturatesAtMaxValue() {
+        Score score = new Score();
+        score.add(Integer.MAX_VALUE - 5);
+        score.add(100);
+        assertEquals(Integer.MAX_VALUE, score.getValue());
+    }
+}
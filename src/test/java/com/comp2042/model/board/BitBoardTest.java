@@ -0,0 +1,94 @@
+package com.comp2042.model.board;
+
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.model.state.ClearRow;
+import com.comp2042.util.MatrixOperations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Checks that the bitmask board agrees with the cell-by-cell matrix logic it replaces */
+
+class BitBoardTest {
+
+    private BitBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new BitBoard(25, 11);
+        board.createNewBrick();
+    }
+
+    @Test
+    void testCollision_MatchesMatrixIntersect() {
+        // play a few pieces so the stack has some shape, checking every probe on the way
+        for (int piece = 0; piece < 20; piece++) {
+            BrickShape shape = board.brickRotator.getCurrentBrickShape();
+            for (int y = -2; y < 27; y++) {
+                for (int x = -4; x < 13; x++) {
+                    boolean expected = MatrixOperations.intersect(board.getBoardMatrix(), shape.toMatrix(), x, y);
+                    assertEquals(expected, board.collides(shape, x, y), "Mismatch at x=" + x + ", y=" + y);
+                }
+            }
+            for (int i = 0; i < piece % 6; i++) {
+                if (piece % 2 == 0) board.moveBrickLeft(); else board.moveBrickRight();
+            }
+            board.hardDrop();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            if (board.createNewBrick()) {
+                board.newGame();
+            }
+        }
+    }
+
+    @Test
+    void testMerge_SetsRowMaskAndColour() {
+        board.hardDrop();
+        board.mergeBrickToBackground();
+
+        int[][] matrix = board.getBoardMatrix();
+        for (int row = 0; row < matrix.length; row++) {
+            long expected = 0L;
+            for (int col = 0; col < matrix[row].length; col++) {
+                if (matrix[row][col] != 0) expected |= 1L << col;
+            }
+            assertEquals(expected, board.getRowMask(row), "Row mask should mirror the colour array at row " + row);
+        }
+    }
+
+    @Test
+    void testClearRows_RemovesFullRowAndShiftsDown() {
+        // Fill the bottom row through the merge path by dropping pieces until something clears
+        int cleared = 0;
+        for (int piece = 0; piece < 200 && cleared == 0; piece++) {
+            for (int i = 0; i < (piece * 3) % 8; i++) board.moveBrickLeft();
+            for (int i = 0; i < piece % 5; i++) board.moveBrickRight();
+            board.hardDrop();
+            board.mergeBrickToBackground();
+            ClearRow clearRow = board.clearRows();
+            cleared = clearRow.getLinesRemoved();
+            if (board.createNewBrick()) {
+                board.newGame();
+            }
+        }
+
+        // whatever happened, no full rows may survive and masks must match the colours
+        int[][] matrix = board.getBoardMatrix();
+        long fullRow = (1L << 11) - 1;
+        for (int row = 0; row < matrix.length; row++) {
+            assertNotEquals(fullRow, board.getRowMask(row), "Full rows should never survive a clear");
+            long expected = 0L;
+            for (int col = 0; col < matrix[row].length; col++) {
+                if (matrix[row][col] != 0) expected |= 1L << col;
+            }
+            assertEquals(expected, board.getRowMask(row));
+        }
+    }
+
+    @Test
+    void testWidthLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(20, 64));
+    }
+}
@@ -0,0 +1,78 @@
+package com.comp2042.model.board;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Checks that the board only reports the rows that actually changed to the background renderer */
+
+class ChangeJournalTest {
+
+    private TetrisBoard board;
+    private ChangeJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        board = new TetrisBoard(25, 11);
+        board.createNewBrick();
+        journal = board.getChangeJournal();
+        journal.clear();
+    }
+
+    @Test
+    void testMovement_LeavesJournalEmpty() {
+        board.moveBrickLeft();
+        board.rotateLeftBrick();
+        board.moveBrickDown();
+        board.hardDrop();
+        assertTrue(journal.isEmpty(), "Moving the active brick does not change the locked board");
+    }
+
+    @Test
+    void testMerge_MarksOnlyTheBricksRows() {
+        board.hardDrop();
+        board.mergeBrickToBackground();
+
+        int[][] matrix = board.getBoardMatrix();
+        for (int row = 0; row < matrix.length; row++) {
+            boolean hasBlocks = Arrays.stream(matrix[row]).anyMatch(v -> v != 0);
+            if (hasBlocks) {
+                assertTrue(journal.isDirty(row), "Row " + row + " received blocks and should be dirty");
+            }
+        }
+        assertFalse(journal.isDirty(0), "Rows far above the landing spot are untouched");
+    }
+
+    @Test
+    void testClear_MarksEverythingAboveTheClearedRow() {
+        int bottom = board.boardMatrix.length - 1;
+        Arrays.fill(board.boardMatrix[bottom], 1);
+        journal.clear();
+
+        assertEquals(1, board.clearRows().getLinesRemoved());
+        for (int row = 0; row <= bottom; row++) {
+            assertTrue(journal.isDirty(row), "Row " + row + " shifted and should be dirty");
+        }
+    }
+
+    @Test
+    void testNewGame_MarksAllRows() {
+        board.newGame();
+        for (int row = 0; row < board.boardMatrix.length; row++) {
+            assertTrue(journal.isDirty(row));
+        }
+    }
+
+    @Test
+    void testMarkRows_IgnoresOutOfRange() {
+        journal.markRows(-3, 1);
+        journal.markRows(24, 30);
+        assertEquals(0, journal.nextDirtyRow(0));
+        assertEquals(1, journal.nextDirtyRow(1));
+        assertEquals(24, journal.nextDirtyRow(2));
+        assertEquals(-1, journal.nextDirtyRow(25));
+    }
+}
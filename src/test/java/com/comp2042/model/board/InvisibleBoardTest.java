@@ -22,7 +22,7 @@ class InvisibleBoardTest {
     void testNewGame_ResetsScore() {
         board.getScore().add(500);
         board.newGame();
-        assertEquals(0, board.getScore().scoreProperty().get(), "Score should reset to 0 on new game");
+        assertEquals(0, board.getScore().getValue(), "Score should reset to 0 on new game");
     }
 
     @Test
@@ -1,5 +1,7 @@
 package com.comp2042.model.board;
 
+import com.comp2042.model.bricks.BrickType;
+import com.comp2042.model.bricks.SeededBrickGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -22,7 +24,7 @@ class TetrisBoardTest {
     void testScoreResetOnNewGame() {
         board.getScore().add(500);
         board.newGame();
-        assertEquals(0, board.getScore().scoreProperty().get(), "Score should reset to 0 on new game");
+        assertEquals(0, board.getScore().getValue(), "Score should reset to 0 on new game");
     }
 
     @Test
@@ -127,4 +129,94 @@ class TetrisBoardTest {
         // Shape should change (unless O-piece, but statistically unlikely)
         assertNotNull(shapeAfter, "Shape should still exist after rotation");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testShadow_MatchesStepwiseDrop() {
+        // play pieces with some sliding at the bottom, so bricks end up tucked under overhangs too
+        for (int piece = 0; piece < 60; piece++) {
+            for (int i = 0; i < piece % 5; i++) {
+                if (piece % 2 == 0) board.moveBrickLeft(); else board.moveBrickRight();
+            }
+            if (piece % 3 == 0) board.rotateLeftBrick();
+
+            for (int slide = 0; slide < 3; slide++) {
+                int predicted = board.getShadowYPosition();
+                while (board.moveBrickDown()) { }
+                assertEquals(predicted, board.brickY, "Shadow should match a row-by-row drop");
+                if (!(piece % 2 == 0 ? board.moveBrickRight() : board.moveBrickLeft())) break;
+            }
+
+            board.mergeBrickToBackground();
+            board.clearRows();
+            if (board.createNewBrick()) {
+                board.newGame();
+            }
+        }
+    }
+
+    @Test
+    void testHardDrop_LandsOnShadowRow() {
+        int startY = board.brickY;
+        int shadowY = board.getShadowYPosition();
+        int dropped = board.hardDrop();
+        assertEquals(shadowY - startY, dropped, "Hard drop should report the rows fallen");
+        assertEquals(shadowY, board.brickY);
+        assertFalse(board.moveBrickDown(), "Brick should be resting after a hard drop");
+    }
+
+    @Test
+    void testMoveBrickToWall_MatchesSteppingColumnByColumn() {
+        // Covers both the open-air fast path and the probing path once the stack builds up
+        AbstractBoard[] boards = {new TetrisBoard(25, 11, new SeededBrickGenerator(3L)),
+                new BitBoard(25, 11, new SeededBrickGenerator(3L))};
+        for (AbstractBoard b : boards) {
+            b.createNewBrick();
+            for (int piece = 0; piece < 30; piece++) {
+                for (int down = 0; down < piece % 20; down++) {
+                    b.moveBrickDown();
+                }
+                int direction = piece % 2 == 0 ? -1 : 1;
+                int x = b.brickX;
+                int y = b.brickY;
+                int expectedX = x;
+                while (!b.collides(b.brickRotator.getCurrentBrickShape(), expectedX + direction, y)) {
+                    expectedX += direction;
+                }
+
+                assertEquals(Math.abs(expectedX - x), b.moveBrickToWall(direction));
+                assertEquals(expectedX, b.brickX, "piece " + piece);
+
+                b.hardDrop();
+                b.mergeBrickToBackground();
+                b.clearRows();
+                if (b.createNewBrick()) {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Test
+    void testMoveBrickToWall_BlockUnderOverhangStopsTrailingCell() {
+        // J on its side: the top row overhangs column x+2, and a block sits right under it.
+        // Only the brick's own columns hold the block, so the columns ahead all look clear.
+        AbstractBoard[] boards = {new TetrisBoard(25, 11), new BitBoard(25, 11)};
+        for (AbstractBoard b : boards) {
+            b.brickRotator.setBrick(BrickType.I.createBrick());
+            b.brickRotator.setCurrentShape(1); // vertical, in column x+2
+            b.brickX = 2;
+            b.brickY = 11;
+            b.mergeBrickToBackground();
+
+            b.brickRotator.setBrick(BrickType.J.createBrick());
+            b.brickRotator.setCurrentShape(1);
+            b.brickX = 2;
+            b.brickY = 10;
+            assertFalse(b.collides(b.brickRotator.getCurrentBrickShape(), 2, 10));
+
+            assertEquals(0, b.moveBrickToWall(1), "The trailing cells would run into the block");
+            assertEquals(2, b.brickX);
+            assertEquals(3, b.moveBrickToWall(-1), "Nothing stops it going the other way");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.comp2042.model.board;
+
+import com.comp2042.model.state.ViewSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Checks the reusable snapshot: versions track changes and the double buffer keeps the previous frame intact */
+
+class ViewSnapshotTest {
+
+    private TetrisBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new TetrisBoard(25, 11);
+        board.createNewBrick();
+    }
+
+    @Test
+    void testUnchangedBoard_ReturnsSameSnapshot() {
+        ViewSnapshot first = board.getViewSnapshot();
+        ViewSnapshot second = board.getViewSnapshot();
+        assertSame(first, second, "No change should mean no new snapshot");
+        assertEquals(first.version(), second.version());
+    }
+
+    @Test
+    void testMove_BumpsVersion() {
+        long before = board.getViewSnapshot().version();
+        assertTrue(board.moveBrickDown());
+        assertTrue(board.getViewSnapshot().version() > before, "A successful move should change the version");
+    }
+
+    @Test
+    void testBlockedMove_KeepsVersion() {
+        board.hardDrop();
+        long before = board.getViewSnapshot().version();
+        assertFalse(board.moveBrickDown());
+        assertEquals(before, board.getViewSnapshot().version(), "A blocked move changes nothing");
+    }
+
+    @Test
+    void testDoubleBuffer_PreviousSnapshotSurvivesNextPublish() {
+        ViewSnapshot before = board.getViewSnapshot();
+        int yBefore = before.yPosition();
+        board.moveBrickDown();
+        ViewSnapshot after = board.getViewSnapshot();
+
+        assertNotSame(before, after);
+        assertEquals(yBefore, before.yPosition(), "The older frame must not be overwritten by the next publish");
+        assertEquals(yBefore + 1, after.yPosition());
+    }
+
+    @Test
+    void testSnapshot_MatchesViewData() {
+        board.moveBrickRight();
+        board.rotateLeftBrick();
+        board.holdBrick();
+        ViewSnapshot snapshot = board.getViewSnapshot();
+
+        assertArrayEquals(board.getViewData().brickData(), snapshot.brickShape().toMatrix());
+        assertArrayEquals(board.getViewData().nextBrickData(), snapshot.nextBrickShape().toMatrix());
+        assertArrayEquals(board.getViewData().heldBrickData(), snapshot.heldBrickShape().toMatrix());
+        assertEquals(board.getViewData().xPosition(), snapshot.xPosition());
+        assertEquals(board.getViewData().yPosition(), snapshot.yPosition());
+        assertEquals(board.getViewData().shadowYPosition(), snapshot.shadowYPosition());
+    }
+}
@@ -0,0 +1,72 @@
+package com.comp2042.model.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the precomputed rotation tables: shapes are shared between bricks of the same type
+ * and their cached masks, bounding boxes and bottom profiles match the source matrices.
+ */
+class BrickShapeTest {
+
+    @Test
+    void testShapesAreSharedBetweenInstances() {
+        Brick first = new TBrick();
+        Brick second = new TBrick();
+        for (int i = 0; i < first.getRotationCount(); i++) {
+            assertSame(first.getShape(i), second.getShape(i), "Rotation " + i + " should be the same table entry");
+        }
+    }
+
+    @Test
+    void testRotationCountMatchesShapeMatrix() {
+        Brick[] bricks = {new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()};
+        for (Brick brick : bricks) {
+            assertEquals(brick.getShapeMatrix().size(), brick.getRotationCount(), brick.getType() + " rotation count");
+        }
+    }
+
+    @Test
+    void testCachedDataMatchesMatrix() {
+        Brick[] bricks = {new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()};
+        for (Brick brick : bricks) {
+            for (int i = 0; i < brick.getRotationCount(); i++) {
+                int[][] matrix = brick.getShapeMatrix().get(i);
+                BrickShape shape = brick.getShape(i);
+                assertArrayEquals(matrix, shape.toMatrix());
+                assertEquals(4, shape.getCellCount());
+                assertEquals(brick.getType().getID(), shape.getColorId());
+                for (int r = 0; r < matrix.length; r++) {
+                    for (int c = 0; c < matrix[r].length; c++) {
+                        boolean filled = matrix[r][c] != 0;
+                        assertEquals(filled, (shape.getRowMask(r) & (1 << c)) != 0);
+                        if (filled) {
+                            assertTrue(r >= shape.getMinRow() && r <= shape.getMaxRow());
+                            assertTrue(c >= shape.getMinColumn() && c <= shape.getMaxColumn());
+                            assertTrue(r <= shape.getBottom(c), "Bottom profile must be the lowest filled row");
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testBottomProfileOfIBrickHorizontal() {
+        BrickShape shape = new IBrick().getShape(0);
+        int row = shape.getMinRow();
+        assertEquals(row, shape.getMaxRow(), "Horizontal I occupies a single row");
+        for (int c = 0; c < shape.getColumns(); c++) {
+            assertEquals(row, shape.getBottom(c));
+        }
+    }
+
+    @Test
+    void testToMatrixReturnsCopy() {
+        BrickShape shape = new LBrick().getShape(0);
+        int[][] copy = shape.toMatrix();
+        copy[shape.getMinRow()][shape.getMinColumn()] = 99;
+        assertNotEquals(99, shape.getCell(shape.getMinRow(), shape.getMinColumn()));
+    }
+}
@@ -45,4 +45,13 @@ class BrickTest {
         assertEquals(4, matrix.length, "Brick matrix height should be 4");
         assertEquals(4, matrix[0].length, "Brick matrix width should be 4");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFromID_RoundTripsAndFallsBackToEmpty() {
+        for (BrickType type : BrickType.values()) {
+            assertSame(type, BrickType.fromID(type.getID()));
+        }
+        assertSame(BrickType.EMPTY, BrickType.fromID(-1));
+        assertSame(BrickType.EMPTY, BrickType.fromID(99));
+    }
+}
@@ -0,0 +1,67 @@
+package com.comp2042.model.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** The seeded generator must be reproducible, deal full bags, and keep its preview in step with getBrick */
+
+class SeededBrickGeneratorTest {
+
+    @Test
+    void testSameSeed_SameSequence() {
+        SeededBrickGenerator a = new SeededBrickGenerator(99L);
+        SeededBrickGenerator b = new SeededBrickGenerator(99L);
+        for (int i = 0; i < 500; i++) {
+            assertSame(a.getBrick().getType(), b.getBrick().getType());
+        }
+    }
+
+    @Test
+    void testDifferentSeeds_Diverge() {
+        SeededBrickGenerator a = new SeededBrickGenerator(1L);
+        SeededBrickGenerator b = new SeededBrickGenerator(2L);
+        boolean differs = false;
+        for (int i = 0; i < 50 && !differs; i++) {
+            differs = a.getBrick().getType() != b.getBrick().getType();
+        }
+        assertTrue(differs);
+    }
+
+    @Test
+    void testBagMode_DealsEachPieceOncePerBag() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(5L, SeededBrickGenerator.Mode.BAG, 3);
+        for (int bag = 0; bag < 20; bag++) {
+            Set<BrickType> seen = new HashSet<>();
+            for (int i = 0; i < 7; i++) {
+                assertTrue(seen.add(generator.getBrick().getType()), "A bag must not repeat a piece");
+            }
+        }
+    }
+
+    @Test
+    void testPreview_PredictsUpcomingBricks() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(11L, SeededBrickGenerator.Mode.UNIFORM, 6);
+        for (int round = 0; round < 10; round++) {
+            Brick[] preview = new Brick[6];
+            for (int d = 0; d < 6; d++) {
+                preview[d] = generator.getNextBrick(d);
+            }
+            assertSame(preview[0], generator.getNextBrick());
+            for (int d = 0; d < 6; d++) {
+                assertSame(preview[d], generator.getBrick(), "Depth " + d + " should be dealt in order");
+            }
+        }
+    }
+
+    @Test
+    void testPreview_RejectsBadDepthAndSize() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(1L, SeededBrickGenerator.Mode.BAG, 2);
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.getNextBrick(2));
+        assertThrows(IllegalArgumentException.class, () -> new SeededBrickGenerator(1L, SeededBrickGenerator.Mode.BAG, 7));
+        assertThrows(IllegalArgumentException.class, () -> new SeededBrickGenerator(1L, SeededBrickGenerator.Mode.BAG, 0));
+    }
+}
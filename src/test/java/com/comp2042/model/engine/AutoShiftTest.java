@@ -0,0 +1,133 @@
+package com.comp2042.model.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Held-key timing, stepped at 60 Hz like the game loop */
+
+class AutoShiftTest {
+
+    private static final long STEP = (1_000_000_000L + 59) / 60; // rounded up, so 6 steps reach 100 ms
+    private static final double GRAVITY = 400;
+
+    private AutoShift autoShift;
+    private int position;
+    private int wallShifts;
+    private int softDrops;
+    private int wall = Integer.MAX_VALUE;
+
+    private final AutoShift.Actions actions = new AutoShift.Actions() {
+        @Override
+        public boolean shift(int direction) {
+            if (Math.abs(position + direction) > wall) {
+                return false;
+            }
+            position += direction;
+            return true;
+        }
+
+        @Override
+        public void shiftToWall(int direction) {
+            wallShifts++;
+        }
+
+        @Override
+        public void softDrop() {
+            softDrops++;
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        autoShift = new AutoShift();
+        autoShift.setDasMillis(100);
+        autoShift.setArrMillis(50);
+    }
+
+    private void steps(int n) {
+        for (int i = 0; i < n; i++) {
+            autoShift.update(STEP, GRAVITY, actions);
+        }
+    }
+
+    @Test
+    void testHeldKey_WaitsForDasThenRepeatsAtArr() {
+        assertTrue(autoShift.press(1));
+        steps(5); // 83 ms
+        assertEquals(0, position, "No repeat before DAS runs out");
+        steps(1); // 100 ms
+        assertEquals(1, position);
+        steps(6); // 200 ms: two more ARR intervals
+        assertEquals(3, position);
+    }
+
+    @Test
+    void testOsKeyRepeat_IsIgnored() {
+        assertTrue(autoShift.press(-1));
+        assertFalse(autoShift.press(-1), "A second press without a release is the OS repeating");
+        autoShift.release(-1);
+        steps(60);
+        assertEquals(0, position);
+    }
+
+    @Test
+    void testZeroArr_GoesStraightToWall() {
+        autoShift.setArrMillis(0);
+        autoShift.press(-1);
+        steps(6);
+
+        assertEquals(1, wallShifts);
+        assertEquals(0, position, "Instant shift should not step column by column");
+    }
+
+    @Test
+    void testRelease_HandsOverToOtherHeldDirection() {
+        autoShift.press(-1);
+        autoShift.press(1); // right takes over
+        steps(6);
+        assertEquals(1, position);
+
+        autoShift.release(1); // left still held: charges again from zero
+        steps(5);
+        assertEquals(1, position);
+        steps(1);
+        assertEquals(0, position);
+    }
+
+    @Test
+    void testBlockedShift_KeepsCharge() {
+        wall = 1;
+        autoShift.press(1);
+        steps(30);
+        assertEquals(1, position);
+
+        wall = 5; // e.g. the next piece spawned with room to move
+        steps(3);
+        assertEquals(2, position, "The charged key should keep repeating without a new DAS wait");
+    }
+
+    @Test
+    void testSoftDrop_FactorOfGravity() {
+        autoShift.setSoftDropFactor(20); // 400 ms gravity -> a row every 20 ms
+        assertTrue(autoShift.pressSoftDrop());
+        steps(60);
+        assertEquals(50, softDrops, 1);
+
+        autoShift.releaseSoftDrop();
+        steps(60);
+        assertEquals(50, softDrops, 1);
+    }
+
+    @Test
+    void testSettings_AreClamped() {
+        autoShift.setDasMillis(-5);
+        autoShift.setArrMillis(10_000);
+        autoShift.setSoftDropFactor(0);
+
+        assertEquals(0, autoShift.getDasMillis());
+        assertEquals(AutoShift.MAX_ARR_MILLIS, autoShift.getArrMillis());
+        assertEquals(1, autoShift.getSoftDropFactor());
+    }
+}
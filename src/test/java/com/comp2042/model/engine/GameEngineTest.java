@@ -0,0 +1,205 @@
+package com.comp2042.model.engine;
+
+import com.comp2042.model.LevelManager;
+import com.comp2042.model.board.InvisibleBlocksBoard;
+import com.comp2042.model.board.TetrisBoard;
+import com.comp2042.model.event.EventSource;
+import com.comp2042.model.event.EventType;
+import com.comp2042.model.event.MoveEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Runs whole games on the engines without JavaFX: gravity only, no UI, no clock */
+
+class GameEngineTest {
+
+    @Test
+    void testGravityOnly_EndsInGameOver() {
+        NormalModeEngine engine = new NormalModeEngine(new TetrisBoard(25, 11));
+        int[] gameOverScore = {-1};
+        engine.setListener(new GameEngineListener() {
+            @Override
+            public void onGameOver(int finalScore) {
+                gameOverScore[0] = finalScore;
+            }
+        });
+
+        // Pieces stack in the middle column, so the game must end well within this many ticks
+        for (int i = 0; i < 10_000 && !engine.isGameOver(); i++) {
+            engine.tick();
+        }
+
+        assertTrue(engine.isGameOver());
+        assertEquals(engine.getScore().getValue(), gameOverScore[0]);
+        assertTrue(engine.getTickCount() > 0);
+    }
+
+    @Test
+    void testActionsIgnoredAfterGameOver() {
+        NormalModeEngine engine = new NormalModeEngine(new TetrisBoard(25, 11));
+        while (!engine.isGameOver()) {
+            engine.hardDrop();
+        }
+        int score = engine.getScore().getValue();
+
+        assertFalse(engine.moveLeft());
+        assertNull(engine.hardDrop());
+        assertNull(engine.tick());
+        assertEquals(score, engine.getScore().getValue(), "A finished game should not keep scoring");
+    }
+
+    @Test
+    void testNewGame_ResetsState() {
+        NormalModeEngine engine = new NormalModeEngine(new TetrisBoard(25, 11));
+        while (!engine.isGameOver()) {
+            engine.hardDrop();
+        }
+        engine.newGame();
+
+        assertFalse(engine.isGameOver());
+        assertEquals(0, engine.getScore().getValue());
+        assertEquals(0, engine.getTickCount());
+        assertEquals(1, engine.getLevelManager().getCurrentLevel());
+    }
+
+    @Test
+    void testNormalMode_SoftDropEarnsLevel() {
+        NormalModeEngine engine = new NormalModeEngine(new TetrisBoard(25, 11));
+        assertNull(engine.softDrop(), "The first soft drop should not lock a fresh piece");
+        assertEquals(1, engine.getScore().getValue());
+    }
+
+    @Test
+    void testNormalMode_ReportsLevelUp() {
+        NormalModeEngine engine = new NormalModeEngine(new TetrisBoard(25, 11));
+        List<Integer> levels = new ArrayList<>();
+        engine.setListener(new GameEngineListener() {
+            @Override
+            public void onLevelChanged(int level) {
+                levels.add(level);
+            }
+        });
+
+        engine.addScore(1000);
+
+        assertEquals(List.of(2), levels);
+        assertEquals(2, engine.getLevelManager().getCurrentLevel());
+    }
+
+    @Test
+    void testListener_MirrorsScore() {
+        NormalModeEngine engine = new NormalModeEngine(new TetrisBoard(25, 11));
+        List<Integer> scores = new ArrayList<>();
+        engine.setListener(new GameEngineListener() {
+            @Override
+            public void onScoreChanged(int score) {
+                scores.add(score);
+            }
+        });
+
+        engine.addScore(30);
+        engine.addScore(12);
+        engine.newGame();
+
+        assertEquals(List.of(30, 42, 0), scores);
+    }
+
+    @Test
+    void testShiftEvent_ReportsWhetherThePieceMoved() {
+        NormalModeEngine engine = new NormalModeEngine(new TetrisBoard(25, 11));
+        EngineInputListener listener = new EngineInputListener(engine);
+        MoveEvent left = new MoveEvent(EventType.LEFT, EventSource.USER);
+        int startX = listener.getViewSnapshot().xPosition();
+
+        int moves = 0;
+        while (listener.onShiftEvent(left)) {
+            moves++;
+        }
+        assertTrue(moves > 0);
+        assertEquals(startX - moves, listener.getViewSnapshot().xPosition(), "Only real moves report true");
+        assertTrue(listener.onShiftEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
+    }
+
+    @Test
+    void testChallengeMode_HardDropScoresFourPerRow() {
+        // A frozen clock keeps the reveal timer out of the way
+        ChallengeModeEngine engine = new ChallengeModeEngine(new InvisibleBlocksBoard(25, 11, () -> 0L));
+        int rowsToFall = engine.getViewSnapshot().shadowYPosition() - engine.getViewSnapshot().yPosition();
+
+        engine.hardDrop();
+
+        assertEquals(rowsToFall * 4, engine.getScore().getValue());
+    }
+
+    @Test
+    void testLockDelay_RestingPieceLocksOnlyWhenTimerRunsOut() {
+        NormalModeEngine engine = new NormalModeEngine(new TetrisBoard(25, 11));
+        engine.setLockDelay(500);
+        assertNull(engine.lock(), "A falling piece can't be locked");
+        while (!engine.isGrounded()) {
+            assertNull(engine.tick());
+        }
+
+        // Gravity keeps pushing, but the piece rests until the delay runs out
+        for (int i = 0; i < 20; i++) {
+            assertNull(engine.tick());
+        }
+        assertEquals(0, engine.getPiecesPlaced());
+        assertFalse(engine.updateLockDelay(400_000_000L));
+        assertTrue(engine.updateLockDelay(100_000_000L));
+
+        assertNotNull(engine.lock());
+        assertEquals(1, engine.getPiecesPlaced());
+        assertFalse(engine.isGrounded(), "The next piece starts falling");
+    }
+
+    @Test
+    void testLockDelay_MoveResetsAreLimited() {
+        NormalModeEngine engine = new NormalModeEngine(new TetrisBoard(25, 11));
+        engine.setLockDelay(500);
+        while (!engine.isGrounded()) {
+            engine.tick();
+        }
+
+        for (int i = 0; i < LockDelay.MAX_RESETS; i++) {
+            assertTrue(i % 2 == 0 ? engine.moveLeft() : engine.moveRight());
+            assertFalse(engine.updateLockDelay(400_000_000L), "Move " + (i + 1) + " should restart the timer");
+        }
+        // Out of resets: the move still works but the timer keeps running
+        assertTrue(engine.moveLeft());
+        assertTrue(engine.updateLockDelay(100_000_000L));
+    }
+
+    @Test
+    void testNoLockDelay_LocksOnLanding() {
+        NormalModeEngine engine = new NormalModeEngine(new TetrisBoard(25, 11));
+        int ticks = 0;
+        while (engine.getPiecesPlaced() == 0) {
+            engine.tick();
+            ticks++;
+        }
+        assertTrue(ticks < 25, "The piece should lock on the tick it lands, not a tick later");
+        assertFalse(engine.updateLockDelay(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testTwentyG_DropsToLandingRowInOneTick() {
+        NormalModeEngine engine = new NormalModeEngine(new TetrisBoard(25, 11));
+        engine.getLevelManager().update((LevelManager.TWENTY_G_LEVEL - 1) * 1000);
+
+        assertNotNull(engine.tick(), "Without a lock delay the piece lands and locks on the first tick");
+        assertEquals(1, engine.getPiecesPlaced());
+        assertEquals(0, engine.getScore().getValue(), "Gravity earns no drop points");
+
+        engine.setLockDelay(500);
+        int landingRow = engine.getBoard().getShadowYPosition();
+        assertNull(engine.tick());
+        assertEquals(landingRow, engine.getBoard().getBrickRow());
+        assertTrue(engine.isGrounded());
+        assertEquals(1, engine.getPiecesPlaced(), "With a lock delay it rests on the landing row");
+    }
+}
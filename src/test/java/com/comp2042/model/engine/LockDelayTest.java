@@ -0,0 +1,60 @@
+package com.comp2042.model.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockDelayTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void testTimerOnlyRunsWhileGrounded() {
+        LockDelay delay = new LockDelay(500);
+        delay.start(0, false);
+
+        assertFalse(delay.update(10_000 * MS), "A falling piece never locks");
+        delay.fell(20, true);
+        assertFalse(delay.update(499 * MS));
+        assertTrue(delay.update(MS));
+    }
+
+    @Test
+    void testLiftedPieceResumesTimerOnSameRow() {
+        LockDelay delay = new LockDelay(500);
+        delay.start(20, true);
+        for (int i = 0; i < LockDelay.MAX_RESETS; i++) {
+            delay.moved(20, true);
+        }
+
+        assertFalse(delay.update(300 * MS));
+        delay.moved(19, false); // kicked up a row, no resets left
+        assertFalse(delay.update(1000 * MS), "Paused while in the air");
+        delay.fell(20, true);   // back onto the same row: no fresh timer
+        assertTrue(delay.update(200 * MS));
+    }
+
+    @Test
+    void testNewLowestRowRefreshesResets() {
+        LockDelay delay = new LockDelay(500);
+        delay.start(10, true);
+        for (int i = 0; i < LockDelay.MAX_RESETS; i++) {
+            delay.moved(10, true);
+        }
+        assertEquals(LockDelay.MAX_RESETS, delay.getResets());
+
+        delay.moved(10, false); // walked off a ledge
+        delay.fell(11, true);
+
+        assertEquals(0, delay.getResets());
+        assertFalse(delay.update(499 * MS), "Landing lower starts a fresh timer");
+    }
+
+    @Test
+    void testHugeStepDoesNotOverflow() {
+        LockDelay delay = new LockDelay(500);
+        delay.start(0, true);
+        assertFalse(delay.update(100 * MS));
+        assertTrue(delay.update(Long.MAX_VALUE));
+    }
+}
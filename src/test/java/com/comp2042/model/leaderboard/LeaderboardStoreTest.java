@@ -0,0 +1,112 @@
+package com.comp2042.model.leaderboard;
+
+import com.comp2042.model.engine.GameMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Ranks, pages and the on-disk round trip of the per-mode leaderboards */
+
+class LeaderboardStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testRanks_AllGamesAndPlayers() {
+        Leaderboard board = new Leaderboard();
+        assertEquals(1, board.add(new LeaderboardEntry("ann", 500, 10, 1)));
+        assertEquals(1, board.add(new LeaderboardEntry("bob", 900, 20, 2)));
+        assertEquals(2, board.add(new LeaderboardEntry("ann", 700, 15, 3)));
+        assertEquals(4, board.add(new LeaderboardEntry("cat", 500, 9, 4)), "Ties rank behind earlier games");
+
+        assertEquals(4, board.size());
+        assertEquals(3, board.playerCount());
+        assertEquals(700, board.bestOf("ann").score());
+        assertEquals(2, board.playerRank("ann"));
+        assertEquals(3, board.playerRank("cat"));
+        assertEquals(0, board.playerRank("dan"));
+        assertEquals(List.of("bob", "ann", "cat"), board.playerPage(0, 10).stream().map(LeaderboardEntry::player).toList());
+    }
+
+    @Test
+    void testPaging_ThousandsOfEntries() {
+        Leaderboard board = new Leaderboard();
+        for (int i = 0; i < 50_000; i++) {
+            board.add(new LeaderboardEntry("p" + (i % 300), i * 7 % 50_000, 0, i));
+        }
+
+        List<LeaderboardEntry> page = board.page(1_230, 10);
+        assertEquals(10, page.size());
+        assertEquals(1_231, board.rankOf(page.get(0)));
+        for (int i = 1; i < page.size(); i++) {
+            assertTrue(LeaderboardEntry.ORDER.compare(page.get(i - 1), page.get(i)) < 0);
+        }
+        assertEquals(300, board.playerCount());
+    }
+
+    @Test
+    void testEntriesSurviveReload_PerMode() throws Exception {
+        LeaderboardStore store = new LeaderboardStore(dir);
+        store.add(GameMode.NORMAL, new LeaderboardEntry("ann", 300, 4, 1));
+        store.add(GameMode.NORMAL, new LeaderboardEntry("bob", 800, 12, 2));
+        store.add(GameMode.CHALLENGE, new LeaderboardEntry("ann", 50, 1, 3));
+        store.flush().get();
+
+        LeaderboardStore reloaded = new LeaderboardStore(dir);
+        assertTrue(reloaded.isStored(GameMode.CHALLENGE));
+        reloaded.loadAll();
+        reloaded.load(GameMode.NORMAL).get();
+        reloaded.load(GameMode.CHALLENGE).get();
+        assertEquals(List.of(new LeaderboardEntry("bob", 800, 12, 2), new LeaderboardEntry("ann", 300, 4, 1)),
+                reloaded.get(GameMode.NORMAL).page(0, 10));
+        assertEquals(1, reloaded.get(GameMode.CHALLENGE).size());
+    }
+
+    @Test
+    void testTornLastEntry_IsCutOff() throws Exception {
+        LeaderboardStore store = new LeaderboardStore(dir);
+        store.add(GameMode.NORMAL, new LeaderboardEntry("ann", 300, 4, 1));
+        store.add(GameMode.NORMAL, new LeaderboardEntry("bob", 800, 12, 2));
+        store.flush().get();
+        Path file = store.fileFor(GameMode.NORMAL);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        LeaderboardStore reloaded = new LeaderboardStore(dir);
+        reloaded.load(GameMode.NORMAL).get();
+        assertEquals(1, reloaded.get(GameMode.NORMAL).size());
+        reloaded.add(GameMode.NORMAL, new LeaderboardEntry("cat", 100, 2, 3));
+        reloaded.flush().get();
+
+        LeaderboardStore again = new LeaderboardStore(dir);
+        again.load(GameMode.NORMAL).get();
+        assertEquals(2, again.get(GameMode.NORMAL).size(), "Appends after a repair should line up");
+    }
+
+    @Test
+    void testAddWhileLoading_JoinsTableOnceLoaded() throws Exception {
+        LeaderboardStore store = new LeaderboardStore(dir);
+        store.add(GameMode.NORMAL, new LeaderboardEntry("ann", 300, 4, 1));
+        store.flush().get();
+
+        // Whether or not the read has finished yet, the game must end up in the table exactly once
+        LeaderboardStore reloaded = new LeaderboardStore(dir);
+        reloaded.load(GameMode.NORMAL);
+        reloaded.add(GameMode.NORMAL, new LeaderboardEntry("bob", 800, 12, 2));
+        reloaded.load(GameMode.NORMAL).get();
+        reloaded.flush().get();
+
+        assertEquals(List.of(new LeaderboardEntry("bob", 800, 12, 2), new LeaderboardEntry("ann", 300, 4, 1)),
+                reloaded.get(GameMode.NORMAL).page(0, 10));
+        LeaderboardStore again = new LeaderboardStore(dir);
+        again.load(GameMode.NORMAL).get();
+        assertEquals(2, again.get(GameMode.NORMAL).size());
+    }
+}
@@ -0,0 +1,84 @@
+package com.comp2042.model.leaderboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Checks the skip list against a plain sorted ArrayList under random inserts and removes */
+
+class RankedSkipListTest {
+
+    @Test
+    void testRandomOperations_MatchSortedList() {
+        RankedSkipList<Integer> list = new RankedSkipList<>(Comparator.naturalOrder());
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(500); // plenty of duplicates
+            if (random.nextInt(3) == 0 && !expected.isEmpty()) {
+                Integer victim = expected.get(random.nextInt(expected.size()));
+                assertTrue(list.remove(victim));
+                expected.remove(victim);
+            } else {
+                int index = list.add(value);
+                int insertAt = upperBound(expected, value);
+                expected.add(insertAt, value);
+                assertEquals(insertAt, index);
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        for (int value = -1; value <= 500; value += 7) {
+            assertEquals(lowerBound(expected, value), list.indexOf(value), "indexOf " + value);
+        }
+        assertEquals(expected.subList(100, 120), list.range(100, 20));
+    }
+
+    @Test
+    void testRange_PastTheEnd() {
+        RankedSkipList<Integer> list = new RankedSkipList<>(Comparator.naturalOrder());
+        list.add(3);
+        list.add(1);
+        list.add(2);
+
+        assertEquals(List.of(2, 3), list.range(1, 10));
+        assertTrue(list.range(3, 10).isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+    }
+
+    @Test
+    void testRemove_MissingValue() {
+        RankedSkipList<Integer> list = new RankedSkipList<>(Comparator.naturalOrder());
+        list.add(5);
+
+        assertFalse(list.remove(4));
+        assertTrue(list.remove(5));
+        assertTrue(list.isEmpty());
+        assertFalse(list.remove(5));
+    }
+
+    private static int lowerBound(List<Integer> sorted, int value) {
+        int i = 0;
+        while (i < sorted.size() && sorted.get(i) < value) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int upperBound(List<Integer> sorted, int value) {
+        int i = 0;
+        while (i < sorted.size() && sorted.get(i) <= value) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,111 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.model.board.AbstractBoard;
+import com.comp2042.model.engine.EngineInputListener;
+import com.comp2042.model.engine.GameEngine;
+import com.comp2042.model.engine.GameEngineListener;
+import com.comp2042.model.engine.GameMode;
+import com.comp2042.model.state.ViewSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Seeking through keyframes must land on exactly the state a full replay reaches */
+
+class ReplayFileTest {
+
+    @TempDir
+    Path dir;
+
+    private long now;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = dir.resolve("keyframes.rpl");
+        recordScriptedGame(file, 21L, 4000, 2);
+    }
+
+    @Test
+    void testFinishedGame_HasSortedIndex() throws Exception {
+        ReplayFile replayFile = ReplayFile.open(file);
+        assertTrue(replayFile.keyframeCount() > 2, "Expected several keyframes");
+        for (int i = 1; i < replayFile.keyframeCount(); i++) {
+            assertTrue(replayFile.keyframeTick(i) >= replayFile.keyframeTick(i - 1));
+        }
+        assertEquals(-1, replayFile.findKeyframe(replayFile.keyframeTick(0) - 1));
+        assertEquals(0, replayFile.findKeyframe(replayFile.keyframeTick(0)));
+    }
+
+    @Test
+    void testSeek_MatchesPlayingFromStart() throws Exception {
+        ReplayFile replayFile = ReplayFile.open(file);
+        Replay replay = replayFile.replay();
+        long end = replay.durationTicks();
+
+        for (long tick = 0; tick <= end; tick += Math.max(1, end / 17)) {
+            GameEngine expected = GameMode.NORMAL.createHeadlessEngine(replay.seed());
+            new ReplayPlayer(replay, new EngineInputListener(expected)).advanceTo(tick);
+
+            assertSameState(expected, replayFile.seek(tick), tick);
+        }
+    }
+
+    @Test
+    void testUnfinishedFile_SeeksFromStart() throws Exception {
+        byte[] bytes = Files.readAllBytes(file);
+        Path torn = dir.resolve("torn.rpl");
+        Files.write(torn, Arrays.copyOf(bytes, bytes.length / 2));
+
+        ReplayFile replayFile = ReplayFile.open(torn);
+        assertEquals(0, replayFile.keyframeCount());
+        Replay replay = replayFile.replay();
+        long tick = replay.durationTicks();
+
+        GameEngine expected = GameMode.NORMAL.createHeadlessEngine(replay.seed());
+        new ReplayPlayer(replay, new EngineInputListener(expected)).advanceTo(tick);
+        assertSameState(expected, replayFile.seek(tick), tick);
+    }
+
+    private static void assertSameState(GameEngine expected, GameEngine actual, long tick) {
+        assertEquals(expected.getScore().getValue(), actual.getScore().getValue(), "score at tick " + tick);
+        assertEquals(expected.getPiecesPlaced(), actual.getPiecesPlaced(), "pieces at tick " + tick);
+        assertTrue(Arrays.deepEquals(((AbstractBoard) expected.getBoard()).getLockedMatrix(),
+                ((AbstractBoard) actual.getBoard()).getLockedMatrix()), "board at tick " + tick);
+        ViewSnapshot e = expected.getViewSnapshot();
+        ViewSnapshot a = actual.getViewSnapshot();
+        assertSame(e.brickShape(), a.brickShape(), "active brick at tick " + tick);
+        assertSame(e.nextBrickShape(), a.nextBrickShape(), "next brick at tick " + tick);
+        assertSame(e.heldBrickShape(), a.heldBrickShape(), "held brick at tick " + tick);
+        assertEquals(e.xPosition(), a.xPosition());
+        assertEquals(e.yPosition(), a.yPosition());
+    }
+
+    private void recordScriptedGame(Path path, long seed, int maxActions, int keyframeInterval) throws Exception {
+        GameEngine engine = GameMode.NORMAL.createHeadlessEngine(seed);
+        EngineInputListener listener = new EngineInputListener(engine);
+        ReplayWriter writer = new ReplayWriter(path, GameMode.NORMAL, seed, () -> now);
+        engine.setKeyframeInterval(keyframeInterval);
+        engine.setListener(new GameEngineListener() {
+            @Override
+            public void onKeyframeDue() {
+                writer.recordKeyframe(engine);
+            }
+        });
+        Random script = new Random(seed);
+        for (int i = 0; i < maxActions && !engine.isGameOver(); i++) {
+            now += script.nextInt(200);
+            ReplayAction action = ReplayAction.fromCode(script.nextInt(ReplayAction.END.ordinal()));
+            writer.record(action);
+            ReplayPlayer.dispatch(listener, action);
+        }
+        writer.finish(engine.getScore().getValue()).get();
+    }
+}
@@ -0,0 +1,182 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.model.engine.EngineInputListener;
+import com.comp2042.model.engine.GameEngine;
+import com.comp2042.model.engine.GameMode;
+import com.comp2042.model.event.EventSource;
+import com.comp2042.model.event.EventType;
+import com.comp2042.model.event.MoveEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Record games through the listener path, read them back, and replay them headlessly */
+
+class ReplayTest {
+
+    @TempDir
+    Path dir;
+
+    private long now; // fake clock for the writer
+
+    @Test
+    void testRoundTrip_PreservesActionsTimesAndScore() throws Exception {
+        Path file = dir.resolve("round-trip.rpl");
+        ReplayWriter writer = new ReplayWriter(file, GameMode.CHALLENGE, 1234L, () -> now);
+        now += 5;
+        writer.record(ReplayAction.LEFT);
+        now += 400;
+        writer.record(ReplayAction.GRAVITY);
+        now += 20_000;
+        writer.record(ReplayAction.HARD_DROP);
+        writer.finish(4321).get();
+
+        Replay replay = ReplayReader.read(file);
+        assertEquals(GameMode.CHALLENGE, replay.mode());
+        assertEquals(1234L, replay.seed());
+        assertArrayEquals(new ReplayAction[]{ReplayAction.LEFT, ReplayAction.GRAVITY, ReplayAction.HARD_DROP}, replay.actions());
+        assertArrayEquals(new long[]{0, 24, 1224}, replay.ticks(), "5 ms, 405 ms and 20.405 s at 60 ticks/s");
+        assertEquals(4321, replay.finalScore());
+    }
+
+    @Test
+    void testScriptedGame_VerifiesHeadlessly() throws Exception {
+        Path file = dir.resolve("scripted.rpl");
+        long seed = 77L;
+        int score = playScriptedGame(file, seed, 5000);
+
+        Replay replay = ReplayReader.read(file);
+        assertTrue(replay.isComplete(), "The scripted game should reach game over");
+        assertEquals(score, replay.finalScore());
+        assertEquals(score, ReplayPlayer.verify(replay));
+    }
+
+    @Test
+    void testTenMinuteGame_FitsInAFewKilobytes() throws Exception {
+        Path file = dir.resolve("long.rpl");
+        ReplayWriter writer = new ReplayWriter(file, GameMode.NORMAL, 1L, () -> now);
+        // 10 minutes of 400 ms gravity, with two player inputs per second in between
+        for (int second = 0; second < 600; second++) {
+            for (int step = 0; step < 5; step++) {
+                now += 200;
+                writer.record(step % 2 == 0 ? ReplayAction.GRAVITY : ReplayAction.LEFT);
+            }
+        }
+        writer.finish(0).get();
+        assertTrue(Files.size(file) < 8 * 1024, "Replay was " + Files.size(file) + " bytes");
+    }
+
+    @Test
+    void testTopSpeedGravity_FitsInAFewKilobytes() throws Exception {
+        Path file = dir.resolve("twenty-g.rpl");
+        ReplayWriter writer = new ReplayWriter(file, GameMode.NORMAL, 1L, () -> now);
+        // 10 minutes of gravity on every tick (20G), with two player inputs per second
+        int moves = 0;
+        for (int tick = 0; tick < 600 * 60; tick++) {
+            now = tick * 1000L / 60;
+            writer.record(ReplayAction.GRAVITY);
+            moves++;
+            if (tick % 30 == 0) {
+                writer.record(ReplayAction.ROTATE);
+                moves++;
+            }
+        }
+        writer.finish(0).get();
+        assertTrue(Files.size(file) < 8 * 1024, "Replay was " + Files.size(file) + " bytes");
+        assertEquals(moves, ReplayReader.read(file).size(), "Runs decode back to every gravity move");
+    }
+
+    @Test
+    void testGravityRun_SpreadsOverItsTicks() throws Exception {
+        Path file = dir.resolve("run.rpl");
+        ReplayWriter writer = new ReplayWriter(file, GameMode.NORMAL, 2L, () -> now);
+        for (long millis : new long[]{0, 17, 33, 50}) {
+            now = millis;
+            writer.record(ReplayAction.GRAVITY);
+        }
+        now = 100;
+        writer.record(ReplayAction.LEFT);
+        writer.finish(0).get();
+
+        Replay replay = ReplayReader.read(file);
+        assertArrayEquals(new ReplayAction[]{ReplayAction.GRAVITY, ReplayAction.GRAVITY, ReplayAction.GRAVITY,
+                ReplayAction.GRAVITY, ReplayAction.LEFT}, replay.actions());
+        assertArrayEquals(new long[]{0, 1, 2, 3, 6}, replay.ticks());
+    }
+
+    @Test
+    void testAdvanceTo_DispatchesOnlyDueActions() {
+        Replay replay = new Replay(GameMode.NORMAL, 3L,
+                new ReplayAction[]{ReplayAction.LEFT, ReplayAction.RIGHT, ReplayAction.GRAVITY},
+                new long[]{0, 6, 15}, -1);
+        ReplayPlayer player = new ReplayPlayer(replay, new EngineInputListener(GameMode.NORMAL.createHeadlessEngine(3L)));
+
+        assertEquals(1, player.advanceTo(3));
+        assertEquals(1, player.advanceTo(Replay.ticksAt(200)));
+        assertFalse(player.isFinished());
+        assertEquals(1, player.advanceTo(60));
+        assertTrue(player.isFinished());
+    }
+
+    @Test
+    void testTruncatedFile_ReadsAsIncomplete() throws Exception {
+        Path file = dir.resolve("torn.rpl");
+        ReplayWriter writer = new ReplayWriter(file, GameMode.NORMAL, 9L, () -> now);
+        writer.record(ReplayAction.ROTATE);
+        writer.finish(10).get();
+        byte[] bytes = Files.readAllBytes(file);
+        // cut through the empty keyframe index into the END record
+        Files.write(file, java.util.Arrays.copyOf(bytes, bytes.length - ReplayFormat.FOOTER_SIZE - 1));
+
+        Replay replay = ReplayReader.read(file);
+        assertFalse(replay.isComplete());
+        assertEquals(1, replay.size());
+    }
+
+    @Test
+    void testCloseAll_SavesAbandonedGame() throws Exception {
+        Path file = dir.resolve("abandoned.rpl");
+        ReplayWriter writer = new ReplayWriter(file, GameMode.NORMAL, 5L, () -> now);
+        writer.record(ReplayAction.LEFT);
+        writer.record(ReplayAction.HARD_DROP);
+        assertFalse(Files.exists(file), "Nothing is written before the first chunk fills");
+
+        ReplayWriter.closeAll(); // what the application does on exit
+
+        Replay replay = ReplayReader.read(file);
+        assertFalse(replay.isComplete());
+        assertArrayEquals(new ReplayAction[]{ReplayAction.LEFT, ReplayAction.HARD_DROP}, replay.actions());
+    }
+
+    /* Plays random input through the listener, recording exactly what the controller would. */
+    private int playScriptedGame(Path file, long seed, int maxActions) throws Exception {
+        GameEngine engine = GameMode.NORMAL.createHeadlessEngine(seed);
+        EngineInputListener listener = new EngineInputListener(engine);
+        ReplayWriter writer = new ReplayWriter(file, GameMode.NORMAL, seed, () -> now);
+        Random script = new Random(seed);
+
+        for (int i = 0; i < maxActions && !engine.isGameOver(); i++) {
+            now += script.nextInt(300);
+            ReplayAction action = ReplayAction.fromCode(script.nextInt(ReplayAction.END.ordinal()));
+            writer.record(action);
+            switch (action) {
+                case LEFT -> listener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+                case RIGHT -> listener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+                case ROTATE -> listener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+                case SOFT_DROP -> listener.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+                case GRAVITY -> listener.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+                case HARD_DROP -> listener.onHardDropEvent();
+                case HOLD -> listener.onHoldEvent();
+                default -> { }
+            }
+        }
+        int score = engine.getScore().getValue();
+        writer.finish(score).get();
+        return score;
+    }
+}
@@ -0,0 +1,69 @@
+package com.comp2042.simulation;
+
+import com.comp2042.model.engine.GameMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Batch runs must be reproducible from their seed, whatever the thread scheduling */
+
+class SimulationRunnerTest {
+
+    @Test
+    void testParallelBatch_MatchesSequentialGames() {
+        SimulationRunner runner = new SimulationRunner(GameMode.NORMAL, 300);
+        SimulationReport report = runner.run(8, 42L);
+
+        List<GameResult> sequential = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            sequential.add(runner.playGame(i, SimulationRunner.seedFor(42L, i)));
+        }
+        assertEquals(sequential, report.results());
+    }
+
+    @Test
+    void testBot_ClearsLines() {
+        GameResult result = new SimulationRunner(GameMode.NORMAL, 200).playGame(0, 7L);
+        assertTrue(result.linesCleared() > 0, "The bot should clear at least one line in 200 pieces");
+        assertTrue(result.score() > 0);
+    }
+
+    @Test
+    void testGravity_TopsOutASlowBot() {
+        // Same pieces; one input a frame against one a second
+        GameResult quick = new SimulationRunner(GameMode.NORMAL, 2_000, 1).playGame(0, 7L);
+        GameResult slow = new SimulationRunner(GameMode.NORMAL, 2_000, 60).playGame(0, 7L);
+
+        assertEquals(TopOutReason.SPAWN_BLOCKED, slow.reason());
+        assertTrue(slow.piecesPlaced() < quick.piecesPlaced(),
+                "Pieces the slow bot can't steer in time should pile up sooner");
+        assertTrue(quick.level() > slow.level());
+    }
+
+    @Test
+    void testPieceLimit_StopsGame() {
+        GameResult result = new SimulationRunner(GameMode.CHALLENGE, 50).playGame(0, 7L);
+        if (result.reason() == TopOutReason.PIECE_LIMIT) {
+            assertEquals(50, result.piecesPlaced());
+        } else {
+            assertTrue(result.piecesPlaced() <= 50);
+        }
+    }
+
+    @Test
+    void testReport_Aggregates() {
+        SimulationReport report = new SimulationRunner(GameMode.NORMAL, 100).run(4, 1L);
+        assertEquals(4, report.games());
+        assertEquals(4, report.reasonCounts().values().stream().mapToInt(Integer::intValue).sum());
+        assertTrue(report.maxScore() >= report.meanScore());
+    }
+
+    @Test
+    void testSeeds_DifferPerGame() {
+        assertNotEquals(SimulationRunner.seedFor(1L, 0), SimulationRunner.seedFor(1L, 1));
+        assertEquals(SimulationRunner.seedFor(1L, 3), SimulationRunner.seedFor(1L, 3));
+    }
+}
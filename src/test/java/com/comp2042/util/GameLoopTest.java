@@ -0,0 +1,115 @@
+package com.comp2042.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Drives the fixed-step loop with a synthetic clock (no JavaFX timer needed) */
+
+class GameLoopTest {
+
+    private static final long STEP = GameLoop.STEP_NANOS;
+
+    private int ticks;
+    private int steps;
+    private int renders;
+    private GameLoop loop;
+
+    @BeforeEach
+    void setUp() {
+        ticks = 0;
+        steps = 0;
+        renders = 0;
+        loop = new GameLoop(100, unused -> ticks++);
+        loop.setStepAction(() -> steps++);
+        loop.setRenderAction(() -> renders++);
+        loop.advance(0); // first pulse only sets the clock
+    }
+
+    // Feeds n frames of the given length into the loop
+    private long run(long start, int frames, long frameNanos) {
+        long now = start;
+        for (int i = 0; i < frames; i++) {
+            now += frameNanos;
+            loop.advance(now);
+        }
+        return now;
+    }
+
+    @Test
+    void testGravity_TicksAtConfiguredInterval() {
+        run(0, 61, STEP); // one second at 60 Hz (+1 step, as STEP_NANOS rounds down)
+        assertEquals(61, steps);
+        assertEquals(61, renders);
+        assertEquals(10, ticks, "100 ms gravity should tick 10 times per second");
+    }
+
+    @Test
+    void testHighRefreshRate_KeepsSameSimulationSpeed() {
+        run(0, 144, 1_000_000_000L / 144); // one second at 144 Hz
+        assertEquals(144, renders, "Every pulse renders");
+        assertTrue(Math.abs(steps - 60) <= 1, "Still 60 fixed steps per second, was " + steps);
+        assertTrue(Math.abs(ticks - 10) <= 1, "Gravity rate does not depend on refresh rate, was " + ticks);
+    }
+
+    @Test
+    void testSetSpeed_KeepsElapsedFraction() {
+        long now = run(0, 3, STEP); // 50 ms into a 100 ms interval
+        assertEquals(0, ticks);
+        loop.setSpeed(200); // halfway through a 200 ms interval is 100 ms
+        run(now, 7, STEP); // +~116 ms: only enough if the first 50 ms were kept
+        assertEquals(1, ticks, "The partial tick should carry over the speed change");
+    }
+
+    @Test
+    void testPause_DoesNotCountPausedTime() {
+        long now = run(0, 3, STEP);
+        loop.pause();
+        loop.advance(now + 5_000_000_000L); // stray pulse while paused would be clamped anyway
+        assertEquals(0, ticks);
+    }
+
+    @Test
+    void testLongFrame_CountsMissedFrames() {
+        run(0, 1, STEP * 4);
+        assertEquals(3, loop.getStats().getMissedFrames());
+        assertEquals(4, steps, "Missed time is still simulated");
+    }
+
+    @Test
+    void testStopFromTick_HaltsRemainingSteps() {
+        int[] count = {0};
+        GameLoop[] ref = new GameLoop[1];
+        GameLoop stopping = new GameLoop(10, unused -> {
+            count[0]++;
+            ref[0].stop();
+        });
+        ref[0] = stopping;
+        stopping.advance(0);
+        stopping.advance(STEP * 10);
+        assertEquals(1, count[0], "No more ticks after the game stopped the loop");
+    }
+
+    @Test
+    void testInputAction_RunsOncePerFrameBeforeSteps() {
+        StringBuilder order = new StringBuilder();
+        loop.setInputAction(() -> order.append('i'));
+        loop.setStepAction(() -> order.append('s'));
+        loop.setRenderAction(() -> order.append('r'));
+
+        loop.advance(STEP * 3); // a long frame: several steps, still one input pass and one render
+
+        assertEquals("isssr", order.toString());
+    }
+
+    @Test
+    void testStepTime_IsWhenEachCatchUpStepWasDue() {
+        StringBuilder times = new StringBuilder();
+        loop.setStepAction(() -> times.append(loop.getStepTime() / STEP).append(' '));
+
+        loop.advance(STEP * 3 + STEP / 2); // three steps late, half a step left over
+
+        assertEquals("1 2 3 ", times.toString(), "Catch-up steps keep their own due times");
+    }
+}
@@ -1,5 +1,6 @@
 package com.comp2042.util;
 
+import com.comp2042.model.engine.AutoShift;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -78,4 +79,32 @@ class GameSettingsTest {
         // confirms the listener fired.
         assertEquals(0.2, settings.getMusicVolume(), 0.01);
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies the handling settings start at the AutoShift defaults and are kept in range.
+     */
+    @Test
+    void testHandlingSettings() {
+        assertEquals(AutoShift.DEFAULT_DAS_MILLIS, settings.getDasMillis());
+
+        settings.setArrMillis(0);
+        settings.setSoftDropFactor(1000);
+
+        assertEquals(0, settings.getArrMillis(), "0 ms ARR (instant to wall) should be allowed");
+        assertEquals(AutoShift.MAX_SOFT_DROP_FACTOR, settings.getSoftDropFactor());
+    }
+
+    /**
+     * Verifies the player name starts blank (unknown on the leaderboards) and is trimmed.
+     */
+    @Test
+    void testPlayerName() {
+        assertEquals("", settings.getPlayerName());
+
+        settings.setPlayerName("  ann ");
+        assertEquals("ann", settings.getPlayerName());
+
+        settings.setPlayerName(null);
+        assertEquals("", settings.getPlayerName());
+    }
+}
@@ -1,9 +1,18 @@
 package com.comp2042.util;
 
+import com.comp2042.model.board.TetrisBoard;
+import com.comp2042.model.engine.GameEngineListener;
+import com.comp2042.model.engine.GameMode;
+import com.comp2042.model.engine.NormalModeEngine;
+import com.comp2042.model.leaderboard.Leaderboard;
+import com.comp2042.model.leaderboard.LeaderboardStore;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -11,12 +20,13 @@ import static org.junit.jupiter.api.Assertions.*;
  * Unit tests for the {@link HighScoreManager} class.
  * <p>
  * Verifies that scores are sorted correctly in descending order and that the list
- * size is strictly capped at the top 10 scores.
+ * size is strictly capped at the top 10 scores, and that the journal survives a restart.
  * </p>
  */
 class HighScoreManagerTest {
 
     private static final String TEST_FILE = "test_scores.txt";
+    private static final String TEST_JOURNAL = TEST_FILE + ".journal";
     private HighScoreManager manager;
 
     /**
@@ -27,6 +37,7 @@ class HighScoreManagerTest {
     void setUp() {
         // Ensure we start with no file
         new File(TEST_FILE).delete();
+        new File(TEST_JOURNAL).delete();
 
         // Inject the test filename
         manager = new HighScoreManager(TEST_FILE);
@@ -36,8 +47,10 @@ class HighScoreManagerTest {
      * Cleans up the temporary file after each test finishes.
      */
     @AfterEach
-    void tearDown() {
+    void tearDown() throws Exception {
+        manager.flush().get(); // don't let a queued write recreate the files
         new File(TEST_FILE).delete();
+        new File(TEST_JOURNAL).delete();
     }
 
     @Test
@@ -72,4 +85,96 @@ class HighScoreManagerTest {
         int topScore = manager.getScores().get(0);
         assertEquals(140, topScore, "Top score should be the highest value added");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testScoresSurviveRestart() throws Exception {
+        manager.addScore(300);
+        manager.addScore(700);
+        manager.flush().get();
+
+        HighScoreManager reloaded = new HighScoreManager(TEST_FILE);
+        reloaded.flush().get();
+
+        assertEquals(List.of(700, 300), reloaded.getScores());
+        assertFalse(Files.exists(Path.of(TEST_JOURNAL)), "The journal should be compacted on load");
+        assertEquals(List.of(700, 300), new HighScoreManager(TEST_FILE).getScores());
+    }
+
+    @Test
+    void testTornJournalLine_IsSkipped() throws Exception {
+        Files.writeString(Path.of(TEST_JOURNAL), "1 250\n2 900\n3 12");
+
+        HighScoreManager reloaded = new HighScoreManager(TEST_FILE);
+
+        assertEquals(List.of(900, 250), reloaded.getScores());
+        reloaded.flush().get();
+    }
+
+    @Test
+    void testTornJournalLine_IsCutOffBeforeNextAppend() throws Exception {
+        // Nothing new to replay, so no compaction: the next score is appended to this journal
+        Files.writeString(Path.of(TEST_FILE), "# 2\n900\n250\n");
+        Files.writeString(Path.of(TEST_JOURNAL), "1 250\n2 900\n3 1");
+
+        HighScoreManager reloaded = new HighScoreManager(TEST_FILE);
+        reloaded.addScore(400);
+        reloaded.flush().get();
+
+        assertEquals("1 250\n2 900\n3 400\n", Files.readString(Path.of(TEST_JOURNAL)));
+        HighScoreManager again = new HighScoreManager(TEST_FILE);
+        assertEquals(List.of(900, 400, 250), again.getScores());
+        again.flush().get();
+    }
+
+    @Test
+    void testJournalLeftAfterCompaction_IsNotAppliedTwice() throws Exception {
+        // A crash between renaming the score file and deleting the journal leaves both behind
+        Files.writeString(Path.of(TEST_FILE), "# 2\n900\n250\n");
+        Files.writeString(Path.of(TEST_JOURNAL), "1 250\n2 900\n3 400\n");
+
+        HighScoreManager reloaded = new HighScoreManager(TEST_FILE);
+
+        assertEquals(List.of(900, 400, 250), reloaded.getScores());
+        reloaded.flush().get();
+    }
+
+    @Test
+    void testLegacyFile_IsRead() throws Exception {
+        Files.writeString(Path.of(TEST_FILE), "50\n800\n");
+
+        assertEquals(List.of(800, 50), new HighScoreManager(TEST_FILE).getScores());
+    }
+
+    @Test
+    void testCorruptLeaderboard_GameOverStillRecordsTheGame(@TempDir Path dir) throws Exception {
+        Path table = dir.resolve("leaderboard-normal.dat");
+        Files.writeString(table, "not a leaderboard");
+        LeaderboardStore store = new LeaderboardStore(dir);
+        HighScoreManager withTables = new HighScoreManager(TEST_FILE, store);
+
+        // What the game controller does when the stack reaches the top
+        NormalModeEngine engine = new NormalModeEngine(new TetrisBoard(25, 11));
+        engine.setListener(new GameEngineListener() {
+            @Override
+            public void onGameOver(int finalScore) {
+                withTables.addScore(GameMode.NORMAL, finalScore, engine.getLinesCleared());
+            }
+        });
+        while (!engine.isGameOver()) {
+            engine.hardDrop();
+        }
+        store.load(GameMode.NORMAL).get();
+        store.flush().get();
+
+        Leaderboard normal = store.get(GameMode.NORMAL);
+        assertEquals(1, normal.size(), "The table starts over with just this game");
+        assertEquals(engine.getScore().getValue(), normal.page(0, 1).get(0).score());
+        assertEquals("not a leaderboard", Files.readString(dir.resolve("leaderboard-normal.dat.bad")),
+                "The unreadable file is kept aside, not deleted");
+
+        LeaderboardStore reopened = new LeaderboardStore(dir);
+        reopened.load(GameMode.NORMAL).get();
+        assertEquals(1, reopened.get(GameMode.NORMAL).size(), "The new file is a proper leaderboard");
+        withTables.flush().get();
+    }
+}
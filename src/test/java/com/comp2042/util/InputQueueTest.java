@@ -0,0 +1,75 @@
+package com.comp2042.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** The input ring must keep order, refuse when full, and hand over safely between two threads */
+
+class InputQueueTest {
+
+    @Test
+    void testDrain_KeepsOrderAndTimestamps() {
+        InputQueue<String> queue = new InputQueue<>(4);
+        queue.offer("a", 10);
+        queue.offer("b", 20);
+        String[] out = new String[4];
+        long[] times = new long[4];
+
+        assertEquals(2, queue.drainTo(out, times));
+        assertArrayEquals(new String[] {"a", "b", null, null}, out);
+        assertEquals(10, times[0]);
+        assertEquals(20, times[1]);
+        assertEquals(0, queue.drainTo(out, times));
+    }
+
+    @Test
+    void testOffer_RefusesWhenFull() {
+        InputQueue<Integer> queue = new InputQueue<>(3);
+        assertEquals(4, queue.capacity(), "Capacity rounds up to a power of two");
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i, i));
+        }
+        assertFalse(queue.offer(99, 99));
+
+        Integer[] out = new Integer[1];
+        assertEquals(1, queue.drainTo(out, new long[1]));
+        assertTrue(queue.offer(4, 4), "Draining should free a slot");
+        assertEquals(4, queue.size());
+
+        queue.clear();
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    @Timeout(10)
+    void testTwoThreads_EveryInputArrivesInOrder() throws Exception {
+        InputQueue<Integer> queue = new InputQueue<>(64);
+        int total = 20_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < total; i++) {
+                while (!queue.offer(i, i)) {
+                    Thread.yield(); // on a single core the consumer only runs if we give way
+                }
+            }
+        });
+        producer.start();
+
+        Integer[] out = new Integer[16];
+        long[] times = new long[16];
+        int expected = 0;
+        while (expected < total) {
+            int n = queue.drainTo(out, times);
+            if (n == 0) {
+                Thread.yield();
+            }
+            for (int i = 0; i < n; i++) {
+                assertEquals(expected, out[i]);
+                assertEquals(expected, times[i]);
+                expected++;
+            }
+        }
+        producer.join();
+    }
+}
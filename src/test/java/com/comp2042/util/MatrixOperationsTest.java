@@ -111,4 +111,40 @@ class MatrixOperationsTest {
         assertTrue(result.scoreBonus() > 0, "Should award points for clearing 4 lines");
         assertEquals(4, result.getLinesRemoved(), "Should clear all 4 rows");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testMergeInPlace_WritesIntoSameBoard() {
+        int[][] board = new int[3][3];
+        int[] bottomRow = board[2];
+        int[][] brick = {{2, 2}};
+
+        MatrixOperations.mergeInPlace(board, brick, 1, 2);
+
+        assertSame(bottomRow, board[2], "In-place merge should not replace row arrays");
+        assertEquals(2, board[2][1]);
+        assertEquals(2, board[2][2]);
+        assertEquals(0, board[2][0], "Cells outside the brick should be untouched");
+    }
+
+    @Test
+    void testRemoveFullRows_RotatesRowsWithoutCopying() {
+        int[][] board = {
+                {0, 0, 0},
+                {1, 1, 1},  // Full row
+                {0, 2, 0},
+                {3, 3, 3}   // Full row
+        };
+        int[] survivor = board[2];
+        int[] cleared = new int[board.length];
+
+        int count = MatrixOperations.removeFullRows(board, cleared);
+
+        assertEquals(2, count, "Should clear both full rows");
+        assertArrayEquals(new int[]{1, 3}, Arrays.copyOf(cleared, count), "Cleared indices should be reported top to bottom");
+        assertSame(survivor, board[3], "Surviving rows should be moved by reference, not copied");
+        assertArrayEquals(new int[]{0, 2, 0}, board[3]);
+        for (int row = 0; row < 3; row++) {
+            assertArrayEquals(new int[3], board[row], "Rows above the stack should be empty");
+        }
+    }
+}
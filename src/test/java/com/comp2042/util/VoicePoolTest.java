@@ -0,0 +1,60 @@
+package com.comp2042.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VoicePoolTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void testRateLimitDropsSpam() {
+        VoicePool pool = new VoicePool();
+        long now = -5_000 * MS; // nanoTime can be negative
+
+        assertTrue(pool.tryStart(SoundEffect.BUTTON_PRESS, now));
+        assertFalse(pool.tryStart(SoundEffect.BUTTON_PRESS, now + 10 * MS), "Faster than the minimum interval");
+        assertTrue(pool.tryStart(SoundEffect.BUTTON_PRESS, now + 50 * MS));
+        assertEquals(1, pool.getDropped());
+    }
+
+    @Test
+    void testPolyphonyLimitPerEffect() {
+        VoicePool pool = new VoicePool();
+        long gap = SoundEffect.LINE_CLEARED.getMinIntervalNanos();
+
+        for (int i = 0; i < SoundEffect.LINE_CLEARED.getMaxVoices(); i++) {
+            assertTrue(pool.tryStart(SoundEffect.LINE_CLEARED, i * gap));
+        }
+        long next = SoundEffect.LINE_CLEARED.getMaxVoices() * gap;
+        assertFalse(pool.tryStart(SoundEffect.LINE_CLEARED, next), "Every voice for this effect is busy");
+        assertTrue(pool.tryStart(SoundEffect.LINE_CLEARED, SoundEffect.LINE_CLEARED.getLengthNanos()),
+                "The first voice is free again once its play has ended");
+    }
+
+    @Test
+    void testVoicesFreeUpAfterPlaying() {
+        VoicePool pool = new VoicePool();
+        pool.tryStart(SoundEffect.NEGATIVE_BEEPS, 0);
+        pool.tryStart(SoundEffect.GAME_OVER, 0);
+
+        assertEquals(2, pool.busyVoices(MS));
+        assertEquals(1, pool.busyVoices(SoundEffect.NEGATIVE_BEEPS.getLengthNanos()));
+        assertEquals(0, pool.busyVoices(SoundEffect.GAME_OVER.getLengthNanos()));
+    }
+
+    @Test
+    void testGlobalVoiceLimit() {
+        VoicePool pool = new VoicePool();
+        int started = 0;
+        for (SoundEffect effect : SoundEffect.values()) {
+            for (int i = 0; i < effect.getMaxVoices(); i++) {
+                if (pool.tryStart(effect, i * effect.getMinIntervalNanos())) {
+                    started++;
+                }
+            }
+        }
+        assertEquals(VoicePool.MAX_VOICES, started);
+    }
+}